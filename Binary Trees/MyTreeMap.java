@@ -0,0 +1,609 @@
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * MyTreeMap stores key/value pairs in a binary search tree that keeps
+ *  itself balanced (an AVL tree), so lookups, adds and removes take
+ *  O(log n) steps even when the keys come in sorted order, which would
+ *  turn a plain binary search tree into one long chain.
+ *
+ * After every add or remove, each node on the path back up to the root
+ *  has its height fixed, and any node whose two subtrees differ in
+ *  height by more than one is rotated back into balance. Each node also
+ *  remembers the size of its subtree, which lets rank and select find
+ *  a key's position, or the key at a position, in O(log n) too.
+ *
+ * The nodes are TreeNodes (holding the value) with the key, height and
+ *  size added on, so getRoot() can be handed to TreeUtil or a
+ *  TreeDisplay to look at the tree.
+ *
+ * Keys are ordered by a Comparator, or by their compareTo method if no
+ *  Comparator is given. Keys can't be null.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public class MyTreeMap<K, V>
+{
+    private Node root;
+    private final Comparator<? super K> comparator;
+    private int modCount;   //counts structural changes, for fail-fast iterators
+
+    /**
+     * Constructor for a MyTreeMap ordered by the keys' compareTo
+     */
+    public MyTreeMap()
+    {
+        this(null);
+    }
+
+    /**
+     * Constructor for a MyTreeMap
+     * @param comparator decides the order of the keys, or null
+     *  to use their compareTo
+     */
+    public MyTreeMap(Comparator<? super K> comparator)
+    {
+        this.comparator = comparator;
+        root = null;
+    }
+
+    /**
+     * @return the root of the tree, for looking at with TreeUtil;
+     *  changing the tree through it breaks the map
+     */
+    public TreeNode getRoot()
+    {
+        return root;
+    }
+
+    /**
+     * Gets the number of keys in the map
+     * @return size of the map
+     */
+    public int size()
+    {
+        return size(root);
+    }
+
+    /**
+     * @return true if the map holds no keys
+     */
+    public boolean isEmpty()
+    {
+        return root == null;
+    }
+
+    /**
+     * Compares two keys with the comparator, or compareTo if there is none
+     * @param a the first key
+     * @param b the second key
+     * @return negative, zero or positive as a is less than,
+     *  equal to or greater than b
+     */
+    private int compare(Object a, Object b)
+    {
+        if (comparator == null)
+            return ((Comparable<Object>) a).compareTo(b);
+        return comparator.compare((K) a, (K) b);
+    }
+
+    /**
+     * Finds the node holding a key
+     * @param key the key to look for
+     * @return the node, or null if the key isn't in the map
+     */
+    private Node find(Object key)
+    {
+        if (key == null)
+            throw new NullPointerException();
+
+        Node node = root;
+        while (node != null)
+        {
+            int c = compare(key, node.key);
+            if (c == 0)
+                return node;
+            node = c < 0 ? left(node) : right(node);
+        }
+        return null;
+    }
+
+    /**
+     * gets the value stored with a key
+     * @param key the key to look up
+     * @return the value, or null if the key isn't in the map
+     */
+    public V get(K key)
+    {
+        Node node = find(key);
+        return node == null ? null : (V) node.getValue();
+    }
+
+    /**
+     * @param key the key to look for
+     * @return true if the key is in the map
+     */
+    public boolean containsKey(K key)
+    {
+        return find(key) != null;
+    }
+
+    /**
+     * @postcondition stores value with key, replacing the value already
+     *               stored with key if there was one
+     * @param key the key; may not be null
+     * @param value the value to store with it
+     * @return the value that was replaced, or null if key is new
+     */
+    public V put(K key, V value)
+    {
+        Node node = find(key);
+        if (node != null)
+        {
+            V oldValue = (V) node.getValue();
+            node.setValue(value);
+            return oldValue;
+        }
+        root = insert(root, key, value);
+        modCount++;
+        return null;
+    }
+
+    /**
+     * @postcondition removes key and its value from the map
+     * @param key the key to remove
+     * @return the value that was stored with key, or null if key
+     *  wasn't in the map
+     */
+    public V remove(K key)
+    {
+        Node node = find(key);
+        if (node == null)
+            return null;
+        root = delete(root, key);
+        modCount++;
+        return (V) node.getValue();
+    }
+
+    /**
+     * @return the smallest key in the map
+     */
+    public K firstKey()
+    {
+        if (root == null)
+            throw new RuntimeException("NoSuchElementException");
+        Node node = root;
+        while (left(node) != null)
+            node = left(node);
+        return (K) node.key;
+    }
+
+    /**
+     * @return the largest key in the map
+     */
+    public K lastKey()
+    {
+        if (root == null)
+            throw new RuntimeException("NoSuchElementException");
+        Node node = root;
+        while (right(node) != null)
+            node = right(node);
+        return (K) node.key;
+    }
+
+    /**
+     * Finds the largest key that is less than or equal to a key
+     * @param key the key to compare against
+     * @return that key, or null if every key is greater
+     */
+    public K floorKey(K key)
+    {
+        K best = null;
+        Node node = root;
+        while (node != null)
+        {
+            int c = compare(key, node.key);
+            if (c == 0)
+                return (K) node.key;
+            if (c < 0)
+                node = left(node);
+            else
+            {
+                best = (K) node.key;
+                node = right(node);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds the smallest key that is greater than or equal to a key
+     * @param key the key to compare against
+     * @return that key, or null if every key is less
+     */
+    public K ceilingKey(K key)
+    {
+        K best = null;
+        Node node = root;
+        while (node != null)
+        {
+            int c = compare(key, node.key);
+            if (c == 0)
+                return (K) node.key;
+            if (c > 0)
+                node = right(node);
+            else
+            {
+                best = (K) node.key;
+                node = left(node);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Counts the keys that are less than a key, which is the key's
+     *  index in sorted order if it is in the map
+     * @param key the key to compare against; need not be in the map
+     * @return number of keys less than key
+     */
+    public int rank(K key)
+    {
+        int rank = 0;
+        Node node = root;
+        while (node != null)
+        {
+            int c = compare(key, node.key);
+            if (c < 0)
+                node = left(node);
+            else if (c > 0)
+            {
+                rank += size(left(node)) + 1;
+                node = right(node);
+            }
+            else
+                return rank + size(left(node));
+        }
+        return rank;
+    }
+
+    /**
+     * Finds the key at an index in sorted order
+     * @param index index of the key, where 0 is the smallest
+     * @return the key with exactly index keys less than it
+     */
+    public K select(int index)
+    {
+        if (index < 0 || index >= size())
+            throw new RuntimeException("Index is out of bounds");
+
+        Node node = root;
+        while (true)
+        {
+            int leftSize = size(left(node));
+            if (index < leftSize)
+                node = left(node);
+            else if (index > leftSize)
+            {
+                index -= leftSize + 1;
+                node = right(node);
+            }
+            else
+                return (K) node.key;
+        }
+    }
+
+    /**
+     * gets an iterator over every key in sorted order
+     * @return the iterator
+     */
+    public Iterator<K> keyIterator()
+    {
+        return new MyTreeMapIterator(null, null);
+    }
+
+    /**
+     * gets an iterator over the keys in a range, in sorted order
+     * @param fromKey smallest key to include, or null to start at the first key
+     * @param toKey key to stop before (not included), or null to go to the end
+     * @return the iterator
+     */
+    public Iterator<K> keyIterator(K fromKey, K toKey)
+    {
+        return new MyTreeMapIterator(fromKey, toKey);
+    }
+
+    /**
+     * Adds a new key below a node and rebalances on the way back up
+     * @param node root of the subtree; key must not already be in it
+     * @param key the new key
+     * @param value the value for it
+     * @return the new root of the subtree
+     */
+    private Node insert(Node node, K key, V value)
+    {
+        if (node == null)
+            return new Node(key, value);
+
+        if (compare(key, node.key) < 0)
+            node.setLeft(insert(left(node), key, value));
+        else
+            node.setRight(insert(right(node), key, value));
+        return balance(node);
+    }
+
+    /**
+     * Removes a key from below a node and rebalances on the way back up
+     * @param node root of the subtree; key must be in it
+     * @param key the key to remove
+     * @return the new root of the subtree
+     */
+    private Node delete(Node node, Object key)
+    {
+        int c = compare(key, node.key);
+        if (c < 0)
+            node.setLeft(delete(left(node), key));
+        else if (c > 0)
+            node.setRight(delete(right(node), key));
+        else
+        {
+            if (left(node) == null)
+                return right(node);
+            if (right(node) == null)
+                return left(node);
+
+            //replace the node with the smallest node of its right subtree
+            Node successor = right(node);
+            while (left(successor) != null)
+                successor = left(successor);
+            successor.setRight(deleteMin(right(node)));
+            successor.setLeft(left(node));
+            node = successor;
+        }
+        return balance(node);
+    }
+
+    /**
+     * Removes the smallest node below a node and rebalances
+     * @param node root of the subtree
+     * @return the new root of the subtree
+     */
+    private Node deleteMin(Node node)
+    {
+        if (left(node) == null)
+            return right(node);
+        node.setLeft(deleteMin(left(node)));
+        return balance(node);
+    }
+
+    /**
+     * Fixes a node's height and size, then rotates it if its subtrees'
+     *  heights differ by more than one
+     * @param node a node whose subtrees are already balanced
+     * @return the node now at the top of this subtree
+     */
+    private Node balance(Node node)
+    {
+        update(node);
+        int diff = height(left(node)) - height(right(node));
+        if (diff > 1)
+        {
+            if (height(left(left(node))) < height(right(left(node))))
+                node.setLeft(rotateLeft(left(node)));
+            return rotateRight(node);
+        }
+        if (diff < -1)
+        {
+            if (height(right(right(node))) < height(left(right(node))))
+                node.setRight(rotateRight(right(node)));
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    /**
+     * Makes a node's left child its parent
+     * @param node a node with a left child
+     * @return the left child, now at the top
+     */
+    private Node rotateRight(Node node)
+    {
+        Node top = left(node);
+        node.setLeft(top.getRight());
+        top.setRight(node);
+        update(node);
+        update(top);
+        return top;
+    }
+
+    /**
+     * Makes a node's right child its parent
+     * @param node a node with a right child
+     * @return the right child, now at the top
+     */
+    private Node rotateLeft(Node node)
+    {
+        Node top = right(node);
+        node.setRight(top.getLeft());
+        top.setLeft(node);
+        update(node);
+        update(top);
+        return top;
+    }
+
+    /**
+     * Recomputes a node's height and size from its children
+     * @param node the node to fix
+     */
+    private void update(Node node)
+    {
+        node.height = 1 + Math.max(height(left(node)), height(right(node)));
+        node.size = 1 + size(left(node)) + size(right(node));
+    }
+
+    /**
+     * @param node a node, or null
+     * @return height of the subtree at node, 0 for null
+     */
+    private static int height(Node node)
+    {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * @param node a node, or null
+     * @return number of nodes in the subtree at node, 0 for null
+     */
+    private static int size(Node node)
+    {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * @param node a node, or null
+     * @return its left child, or null
+     */
+    private static Node left(Node node)
+    {
+        return node == null ? null : (Node) node.getLeft();
+    }
+
+    /**
+     * @param node a node, or null
+     * @return its right child, or null
+     */
+    private static Node right(Node node)
+    {
+        return node == null ? null : (Node) node.getRight();
+    }
+
+    /**
+     * A TreeNode that also holds a key, and the height and size of
+     *  the subtree below it
+     *
+     * @author Arnav Dani
+     * @version 10.18.26
+     */
+    private static class Node extends TreeNode
+    {
+        private final Object key;
+        private int height;
+        private int size;
+
+        /**
+         * Constructor for a node with no children
+         * @param key the key
+         * @param value the value stored with it
+         */
+        public Node(Object key, Object value)
+        {
+            super(value);
+            this.key = key;
+            height = 1;
+            size = 1;
+        }
+    }
+
+    /**
+     * Defines the properties of the iterator which walks the keys in
+     *  sorted order, keeping the nodes whose left side is finished on
+     *  a stack
+     *
+     * @author Arnav Dani
+     * @version 10.18.26
+     */
+    private class MyTreeMapIterator implements Iterator<K>
+    {
+        private final Deque<Node> stack;
+        private final K toKey;
+        private K lastReturned;
+        private int expectedModCount;
+
+        /**
+         * Constructor for the iterator
+         * @param fromKey smallest key to include, or null for no limit
+         * @param toKey key to stop before, or null for no limit
+         */
+        public MyTreeMapIterator(K fromKey, K toKey)
+        {
+            stack = new ArrayDeque<Node>();
+            this.toKey = toKey;
+            lastReturned = null;
+            expectedModCount = modCount;
+            seek(fromKey, true);
+        }
+
+        /**
+         * Fills the stack with the path to the first key at or after a key
+         * @param key where to start, or null to start at the first key
+         * @param inclusive true to include key itself
+         */
+        private void seek(K key, boolean inclusive)
+        {
+            stack.clear();
+            Node node = root;
+            while (node != null)
+            {
+                int c = key == null ? -1 : compare(key, node.key);
+                if (c < 0 || (c == 0 && inclusive))
+                {
+                    stack.push(node);
+                    node = left(node);
+                }
+                else
+                    node = right(node);
+            }
+        }
+
+        /**
+         * checks whether there is a next key in the range
+         * @return if there is a next key
+         */
+        public boolean hasNext()
+        {
+            return !stack.isEmpty()
+                && (toKey == null || compare(stack.peek().key, toKey) < 0);
+        }
+
+        /**
+         * moves to the next key and returns it
+         * @return the next key in sorted order
+         */
+        public K next()
+        {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (!hasNext())
+                throw new NoSuchElementException();
+            Node node = stack.pop();
+            for (Node n = right(node); n != null; n = left(n))
+                stack.push(n);
+            lastReturned = (K) node.key;
+            return lastReturned;
+        }
+
+        /**
+         * removes the key last returned by next
+         */
+        public void remove()
+        {
+            if (lastReturned == null)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            MyTreeMap.this.remove(lastReturned);
+            //rotations may have moved the nodes on the stack around
+            seek(lastReturned, false);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * MyTreeSet is a sorted set kept in a MyTreeMap, using the elements as
+ *  keys and ignoring the values, so it is balanced the same way and has
+ *  the same O(log n) operations.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ *
+ * @param <E> type of the elements
+ */
+public class MyTreeSet<E>
+{
+    private static final Object PRESENT = Boolean.TRUE;    //value for every key
+
+    private final MyTreeMap<E, Object> map;
+
+    /**
+     * Constructor for a MyTreeSet ordered by the elements' compareTo
+     */
+    public MyTreeSet()
+    {
+        map = new MyTreeMap<E, Object>();
+    }
+
+    /**
+     * Constructor for a MyTreeSet
+     * @param comparator decides the order of the elements, or null
+     *  to use their compareTo
+     */
+    public MyTreeSet(Comparator<? super E> comparator)
+    {
+        map = new MyTreeMap<E, Object>(comparator);
+    }
+
+    /**
+     * @return the root of the tree, for looking at with TreeUtil
+     */
+    public TreeNode getRoot()
+    {
+        return map.getRoot();
+    }
+
+    /**
+     * Gets the number of elements in the set
+     * @return size of the set
+     */
+    public int size()
+    {
+        return map.size();
+    }
+
+    /**
+     * @return true if the set holds no elements
+     */
+    public boolean isEmpty()
+    {
+        return map.isEmpty();
+    }
+
+    /**
+     * @param obj element to look for
+     * @return true if obj is in the set
+     */
+    public boolean contains(E obj)
+    {
+        return map.containsKey(obj);
+    }
+
+    /**
+     * Adds an element to the set if it isn't already there
+     * @param obj element to add; may not be null
+     * @return true if the set changed
+     */
+    public boolean add(E obj)
+    {
+        return map.put(obj, PRESENT) == null;
+    }
+
+    /**
+     * Removes an element from the set
+     * @param obj element to remove
+     * @return true if the set changed
+     */
+    public boolean remove(E obj)
+    {
+        return map.remove(obj) != null;
+    }
+
+    /**
+     * @return the smallest element
+     */
+    public E first()
+    {
+        return map.firstKey();
+    }
+
+    /**
+     * @return the largest element
+     */
+    public E last()
+    {
+        return map.lastKey();
+    }
+
+    /**
+     * @param obj element to compare against
+     * @return the largest element less than or equal to obj, or null
+     */
+    public E floor(E obj)
+    {
+        return map.floorKey(obj);
+    }
+
+    /**
+     * @param obj element to compare against
+     * @return the smallest element greater than or equal to obj, or null
+     */
+    public E ceiling(E obj)
+    {
+        return map.ceilingKey(obj);
+    }
+
+    /**
+     * @param obj element to compare against; need not be in the set
+     * @return number of elements less than obj
+     */
+    public int rank(E obj)
+    {
+        return map.rank(obj);
+    }
+
+    /**
+     * @param index index in sorted order, where 0 is the smallest
+     * @return the element at index
+     */
+    public E select(int index)
+    {
+        return map.select(index);
+    }
+
+    /**
+     * gets an iterator over the elements in sorted order
+     * @return the iterator
+     */
+    public Iterator<E> iterator()
+    {
+        return map.keyIterator();
+    }
+
+    /**
+     * gets an iterator over the elements in a range, in sorted order
+     * @param fromElement smallest element to include, or null for no limit
+     * @param toElement element to stop before, or null for no limit
+     * @return the iterator
+     */
+    public Iterator<E> iterator(E fromElement, E toElement)
+    {
+        return map.keyIterator(fromElement, toElement);
+    }
+}
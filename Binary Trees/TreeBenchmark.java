@@ -0,0 +1,768 @@
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * TreeBenchmark times the tree algorithms in TreeUtil and prints the
+ *  results as JSON, so two runs can be diffed to see whether a change
+ *  helped or hurt. It is a plain main class rather than part of the JMH
+ *  benchmarks in benchmarks/ because TreeUtil needs TreeDisplay and
+ *  FileUtil, which aren't in the repository, so the trees can't be built
+ *  with Maven.
+ *
+ * The traversal suite compares the iterative TreeUtil methods against
+ *  the recursive versions they replaced (kept here for comparison) on
+ *  balanced trees and on skewed trees, where every node only has a left
+ *  child. A recursive run that overflows the stack is reported with an
+ *  "error" instead of a score.
+ *
+ * The parallel suite compares the fork/join TreeUtil methods against
+ *  the sequential ones on trees made by TreeUtil.createRandom. The
+ *  parallel methods always use the common pool, so to see how they scale
+ *  each thread count runs in its own JVM with the common pool's
+ *  parallelism set to it. Every JVM times the sequential methods too,
+ *  on the same tree, since createRandom makes a different tree each time.
+ *
+ * The map suite compares MyTreeMap against java.util.TreeMap, putting,
+ *  getting and removing a stream of keys that is either shuffled or
+ *  already sorted (the input that would turn an unbalanced tree into a
+ *  list), and iterating over the keys in order. Scores are in ns per key.
+ *
+ * Every benchmark is measured the way JMH measures average time: one warmup
+ *  iteration finds how many runs fill about 20 ms, a few more warmup
+ *  iterations let the JIT settle, and then each measured iteration does
+ *  that many runs. One run walks (or copies) the whole tree, and scores
+ *  are in ns per node so different sizes can be compared.
+ *
+ * Usage: java TreeBenchmark [--suites traversal,parallel,map]
+ *  [--sizes 1000,100000] [--shapes balanced,skewed] [--depths 16,20]
+ *  [--threads 1,2,4] [--keys random,sorted] [--out results.json]
+ *  Leaving out an option runs everything for it; sizes default to
+ *  1K, 100K and 1M, depths (for createRandom) to 16, 20 and 22, and
+ *  threads to the powers of two up to the number of cores. The map
+ *  suite uses the same sizes as the traversal suite.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class TreeBenchmark
+{
+    private static final long TARGET_NANOS = 20_000_000L;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 5;
+
+    private static final String[] TRAVERSAL_OPS =
+        {"countNodes", "countLeaves", "maxDepth", "copy", "sameShape", "inOrder"};
+    private static final String[] PARALLEL_OPS =
+        {"countNodes", "countLeaves", "maxDepth", "copy", "sameShape"};
+    private static final String[] MAP_OPS = {"put", "get", "remove", "iterate"};
+    private static final String PARALLELISM =
+        "java.util.concurrent.ForkJoinPool.common.parallelism";
+
+    private static volatile int sink;   //keeps the JIT from dropping results
+
+    private final StringBuilder json;
+    private boolean firstResult;
+
+    /**
+     * Constructor for TreeBenchmark
+     */
+    public TreeBenchmark()
+    {
+        json = new StringBuilder("[\n");
+        firstResult = true;
+    }
+
+    /**
+     * Runs the benchmarks picked by the command line
+     * @param args options as described in the class comment
+     * @throws IOException if the results file can't be written
+     */
+    public static void main(String[] args) throws IOException
+    {
+        String suites = "traversal,parallel,map";
+        String sizes = "1000,100000,1000000";
+        String shapes = "balanced,skewed";
+        String depths = "16,20,22";
+        String threads = defaultThreads();
+        String keys = "random,sorted";
+        boolean child = false;
+        String out = null;
+        for (int i = 0; i + 1 < args.length; i += 2)
+        {
+            if (args[i].equals("--suites"))
+                suites = args[i + 1];
+            else if (args[i].equals("--sizes"))
+                sizes = args[i + 1];
+            else if (args[i].equals("--shapes"))
+                shapes = args[i + 1];
+            else if (args[i].equals("--depths"))
+                depths = args[i + 1];
+            else if (args[i].equals("--threads"))
+                threads = args[i + 1];
+            else if (args[i].equals("--keys"))
+                keys = args[i + 1];
+            else if (args[i].equals("--child"))
+                child = Boolean.parseBoolean(args[i + 1]);
+            else if (args[i].equals("--out"))
+                out = args[i + 1];
+            else
+                throw new RuntimeException("Unknown option " + args[i]);
+        }
+
+        TreeBenchmark bench = new TreeBenchmark();
+        for (String suite : suites.split(","))
+        {
+            if (suite.trim().equals("traversal"))
+            {
+                for (String shape : shapes.split(","))
+                {
+                    for (String size : sizes.split(","))
+                        bench.runTraversals(shape.trim(), Integer.parseInt(size.trim()));
+                }
+            }
+            else if (suite.trim().equals("parallel") && child)
+            {
+                for (String depth : depths.split(","))
+                    bench.runParallel(Integer.parseInt(depth.trim()));
+            }
+            else if (suite.trim().equals("parallel"))
+            {
+                for (String count : threads.split(","))
+                    bench.runChild(Integer.parseInt(count.trim()), depths);
+            }
+            else if (suite.trim().equals("map"))
+            {
+                for (String order : keys.split(","))
+                {
+                    for (String size : sizes.split(","))
+                        bench.runMaps(order.trim(), Integer.parseInt(size.trim()));
+                }
+            }
+            else
+                throw new RuntimeException("Unknown suite " + suite);
+        }
+        if (child)
+        {
+            //only the results, for the parent to add to its own array
+            System.out.print(bench.json.substring(2));
+            return;
+        }
+        String results = bench.json.append("\n]\n").toString();
+
+        if (out == null)
+            System.out.print(results);
+        else
+        {
+            try (Writer w = new FileWriter(out))
+            {
+                w.write(results);
+            }
+        }
+    }
+
+    /**
+     * Times every traversal, recursive and iterative, on one tree
+     * @param shape "balanced" or "skewed"
+     * @param size number of nodes in the tree
+     */
+    private void runTraversals(String shape, int size)
+    {
+        TreeNode tree;
+        if (shape.equals("balanced"))
+            tree = balanced(0, size);
+        else if (shape.equals("skewed"))
+            tree = skewed(size);
+        else
+            throw new RuntimeException("Unknown shape " + shape);
+        TreeNode other = TreeUtil.copy(tree);
+        List<Object> values = new ArrayList<Object>(size);
+
+        for (String op : TRAVERSAL_OPS)
+        {
+            for (String impl : new String[] {"recursive", "iterative"})
+            {
+                String params = param("impl", impl) + ", " + param("shape", shape)
+                    + ", " + param("size", size);
+                run("traversal." + op, params, size,
+                    () -> traverse(op, impl.equals("recursive"), tree, other, values));
+            }
+        }
+    }
+
+    /**
+     * Runs one traversal once
+     * @param op which traversal
+     * @param recursive true for the old recursive version
+     * @param tree the tree to walk
+     * @param other a copy of tree, for sameShape
+     * @param values list inOrder fills; emptied first
+     * @return something computed from the result, for the sink
+     */
+    private static int traverse(String op, boolean recursive, TreeNode tree,
+        TreeNode other, List<Object> values)
+    {
+        switch (op)
+        {
+            case "countNodes":
+                return recursive ? countNodes(tree) : TreeUtil.countNodes(tree);
+            case "countLeaves":
+                return recursive ? countLeaves(tree) : TreeUtil.countLeaves(tree);
+            case "maxDepth":
+                return recursive ? maxDepth(tree) : TreeUtil.maxDepth(tree);
+            case "copy":
+                return (recursive ? copy(tree) : TreeUtil.copy(tree)) == null ? 0 : 1;
+            case "sameShape":
+                return (recursive ? sameShape(tree, other)
+                    : TreeUtil.sameShape(tree, other)) ? 1 : 0;
+            case "inOrder":
+                values.clear();
+                if (recursive)
+                    inOrder(tree, values);
+                else
+                    TreeUtil.inOrderValues(tree, values);
+                return values.size();
+            default:
+                throw new RuntimeException("Unknown operation " + op);
+        }
+    }
+
+    /**
+     * @return the powers of two up to the number of cores, and the
+     *  number of cores itself, separated by commas
+     */
+    private static String defaultThreads()
+    {
+        int cores = Runtime.getRuntime().availableProcessors();
+        StringBuilder s = new StringBuilder();
+        for (int n = 1; n < cores; n *= 2)
+            s.append(n).append(',');
+        return s.append(cores).toString();
+    }
+
+    /**
+     * Runs the parallel suite in a new JVM whose common pool has a given
+     *  parallelism, and adds its results to this run's
+     * @param threads parallelism of the new JVM's common pool
+     * @param depths depths to pass on, separated by commas
+     */
+    private void runChild(int threads, String depths)
+    {
+        String java = System.getProperty("java.home") + File.separator + "bin"
+            + File.separator + "java";
+        ProcessBuilder builder = new ProcessBuilder(java, "-D" + PARALLELISM + "=" + threads,
+            "-cp", System.getProperty("java.class.path"), "TreeBenchmark",
+            "--suites", "parallel", "--depths", depths, "--child", "true");
+        builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+        try
+        {
+            Process process = builder.start();
+            String results = new String(process.getInputStream().readAllBytes(),
+                StandardCharsets.UTF_8);
+            if (process.waitFor() != 0)
+                throw new RuntimeException("Benchmark with " + threads + " threads failed");
+            if (!results.isEmpty())
+            {
+                if (!firstResult)
+                    json.append(",\n");
+                firstResult = false;
+                json.append(results);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Times every sequential and parallel method on one random tree,
+     *  using however many threads the common pool has
+     * @param depth depth to pass to createRandom
+     */
+    private void runParallel(int depth)
+    {
+        TreeNode tree = TreeUtil.createRandom(depth);
+        TreeNode other = TreeUtil.copy(tree);
+        int size = TreeUtil.countNodes(tree);
+        int threads = ForkJoinPool.getCommonPoolParallelism();
+
+        for (String op : PARALLEL_OPS)
+        {
+            for (String impl : new String[] {"sequential", "parallel"})
+            {
+                String params = param("impl", impl) + ", " + param("threads", threads)
+                    + ", " + param("depth", depth) + ", " + param("size", size);
+                run("parallel." + op, params, Math.max(1, size),
+                    () -> measure(op, impl.equals("parallel"), tree, other));
+            }
+        }
+    }
+
+    /**
+     * Runs one sequential or parallel TreeUtil method once
+     * @param op which method
+     * @param parallel true for the fork/join version
+     * @param tree the tree to work on
+     * @param other a copy of tree, for sameShape
+     * @return something computed from the result, for the sink
+     */
+    private static int measure(String op, boolean parallel, TreeNode tree, TreeNode other)
+    {
+        switch (op)
+        {
+            case "countNodes":
+                return parallel ? TreeUtil.parallelCountNodes(tree) : TreeUtil.countNodes(tree);
+            case "countLeaves":
+                return parallel ? TreeUtil.parallelCountLeaves(tree) : TreeUtil.countLeaves(tree);
+            case "maxDepth":
+                return parallel ? TreeUtil.parallelMaxDepth(tree) : TreeUtil.maxDepth(tree);
+            case "copy":
+                return (parallel ? TreeUtil.parallelCopy(tree) : TreeUtil.copy(tree)) == null ? 0 : 1;
+            case "sameShape":
+                return (parallel ? TreeUtil.parallelSameShape(tree, other)
+                    : TreeUtil.sameShape(tree, other)) ? 1 : 0;
+            default:
+                throw new RuntimeException("Unknown operation " + op);
+        }
+    }
+
+    /**
+     * Times MyTreeMap and TreeMap on one stream of keys
+     * @param order "random" for shuffled keys or "sorted" for keys
+     *  in increasing order
+     * @param size number of keys
+     */
+    private void runMaps(String order, int size)
+    {
+        Integer[] keys = new Integer[size];
+        for (int i = 0; i < size; i++)
+            keys[i] = i;
+        if (order.equals("random"))
+        {
+            Random random = new Random(42);
+            for (int i = size - 1; i > 0; i--)
+            {
+                int j = random.nextInt(i + 1);
+                Integer k = keys[i];
+                keys[i] = keys[j];
+                keys[j] = k;
+            }
+        }
+        else if (!order.equals("sorted"))
+            throw new RuntimeException("Unknown key order " + order);
+
+        MyTreeMap<Integer, Integer> mine = new MyTreeMap<Integer, Integer>();
+        TreeMap<Integer, Integer> theirs = new TreeMap<Integer, Integer>();
+        for (Integer k : keys)
+        {
+            mine.put(k, k);
+            theirs.put(k, k);
+        }
+
+        for (String op : MAP_OPS)
+        {
+            for (String impl : new String[] {"MyTreeMap", "TreeMap"})
+            {
+                boolean isMine = impl.equals("MyTreeMap");
+                String params = param("impl", impl) + ", " + param("keys", order)
+                    + ", " + param("size", size);
+                Run refill = null;
+                if (op.equals("remove"))
+                    refill = () -> isMine ? putAll(mine, keys) : putAll(theirs, keys);
+                run("map." + op, params, Math.max(1, size),
+                    () -> isMine ? mapOp(op, mine, keys) : mapOp(op, theirs, keys), refill);
+            }
+        }
+    }
+
+    /**
+     * Runs one map operation over every key once
+     * @param op which operation
+     * @param map a MyTreeMap holding every key, except while it
+     *  is being refilled after remove
+     * @param keys the key stream
+     * @return something computed from the result, for the sink
+     */
+    private static int mapOp(String op, MyTreeMap<Integer, Integer> map, Integer[] keys)
+    {
+        int acc = 0;
+        switch (op)
+        {
+            case "put":
+                return putAll(new MyTreeMap<Integer, Integer>(), keys);
+            case "get":
+                for (Integer k : keys)
+                    acc += map.get(k).intValue();
+                return acc;
+            case "remove":
+                for (Integer k : keys)
+                    acc += map.remove(k).intValue();
+                return acc;
+            case "iterate":
+                Iterator<Integer> it = map.keyIterator();
+                while (it.hasNext())
+                    acc += it.next().intValue();
+                return acc;
+            default:
+                throw new RuntimeException("Unknown operation " + op);
+        }
+    }
+
+    /**
+     * Runs one map operation over every key once
+     * @param op which operation
+     * @param map a TreeMap holding every key, except while it
+     *  is being refilled after remove
+     * @param keys the key stream
+     * @return something computed from the result, for the sink
+     */
+    private static int mapOp(String op, TreeMap<Integer, Integer> map, Integer[] keys)
+    {
+        int acc = 0;
+        switch (op)
+        {
+            case "put":
+                return putAll(new TreeMap<Integer, Integer>(), keys);
+            case "get":
+                for (Integer k : keys)
+                    acc += map.get(k).intValue();
+                return acc;
+            case "remove":
+                for (Integer k : keys)
+                    acc += map.remove(k).intValue();
+                return acc;
+            case "iterate":
+                for (Integer k : map.keySet())
+                    acc += k.intValue();
+                return acc;
+            default:
+                throw new RuntimeException("Unknown operation " + op);
+        }
+    }
+
+    /**
+     * Puts every key in a MyTreeMap, mapped to itself
+     * @param map the map
+     * @param keys the keys, in the order to put them
+     * @return size of the map afterwards
+     */
+    private static int putAll(MyTreeMap<Integer, Integer> map, Integer[] keys)
+    {
+        for (Integer k : keys)
+            map.put(k, k);
+        return map.size();
+    }
+
+    /**
+     * Puts every key in a TreeMap, mapped to itself
+     * @param map the map
+     * @param keys the keys, in the order to put them
+     * @return size of the map afterwards
+     */
+    private static int putAll(TreeMap<Integer, Integer> map, Integer[] keys)
+    {
+        for (Integer k : keys)
+            map.put(k, k);
+        return map.size();
+    }
+
+    /**
+     * Warms up and measures one benchmark, then adds its result to the
+     *  JSON; a StackOverflowError is recorded instead of a score
+     * @param name name of the benchmark
+     * @param params the rest of the JSON object, from param
+     * @param opsPerRun how many ops one run counts as
+     * @param body one run of the benchmark
+     */
+    private void run(String name, String params, long opsPerRun, Run body)
+    {
+        run(name, params, opsPerRun, body, null);
+    }
+
+    /**
+     * Warms up and measures one benchmark, then adds its result to the
+     *  JSON; a StackOverflowError is recorded instead of a score
+     * @param name name of the benchmark
+     * @param params the rest of the JSON object, from param
+     * @param opsPerRun how many ops one run counts as
+     * @param body one run of the benchmark
+     * @param reset undoes what a run changed, untimed; null if
+     *  runs change nothing
+     */
+    private void run(String name, String params, long opsPerRun, Run body, Run reset)
+    {
+        System.err.println("# " + name + " " + params);
+        try
+        {
+            int batch = 1;
+            while (timeBatch(body, reset, batch) < TARGET_NANOS && batch < 1 << 30)
+                batch *= 2;
+            for (int i = 0; i < WARMUP_ITERATIONS; i++)
+                timeBatch(body, reset, batch);
+
+            double[] raw = new double[MEASURED_ITERATIONS];
+            for (int i = 0; i < MEASURED_ITERATIONS; i++)
+                raw[i] = (double) timeBatch(body, reset, batch) / ((long) batch * opsPerRun);
+            addResult(name, params, (long) batch * opsPerRun, raw);
+        }
+        catch (StackOverflowError e)
+        {
+            addError(name, params, "StackOverflowError");
+        }
+    }
+
+    /**
+     * Times a batch of runs
+     * @param body one run of the benchmark
+     * @param reset run after each run without being timed, or null
+     * @param batch how many times to run it
+     * @return nanoseconds the batch took
+     */
+    private static long timeBatch(Run body, Run reset, int batch)
+    {
+        int acc = 0;
+        long time = 0;
+        if (reset == null)
+        {
+            long start = System.nanoTime();
+            for (int i = 0; i < batch; i++)
+                acc += body.run();
+            time = System.nanoTime() - start;
+        }
+        else
+        {
+            for (int i = 0; i < batch; i++)
+            {
+                long start = System.nanoTime();
+                acc += body.run();
+                time += System.nanoTime() - start;
+                acc += reset.run();
+            }
+        }
+        sink += acc;
+        return time;
+    }
+
+    /**
+     * Starts the JSON object for one benchmark
+     * @param name name of the benchmark
+     * @param params the rest of the JSON object, from param
+     */
+    private void startResult(String name, String params)
+    {
+        if (!firstResult)
+            json.append(",\n");
+        firstResult = false;
+        json.append("  {\"benchmark\": \"").append(name).append("\", ").append(params);
+    }
+
+    /**
+     * Adds one benchmark's result to the JSON array
+     * @param name name of the benchmark
+     * @param params the rest of the JSON object, from param
+     * @param opsPerIteration ops timed in each measured iteration
+     * @param raw ns/op of each measured iteration
+     */
+    private void addResult(String name, String params, long opsPerIteration, double[] raw)
+    {
+        double sum = 0;
+        double min = Double.MAX_VALUE;
+        double max = 0;
+        for (double r : raw)
+        {
+            sum += r;
+            min = Math.min(min, r);
+            max = Math.max(max, r);
+        }
+        double mean = sum / raw.length;
+        double squares = 0;
+        for (double r : raw)
+            squares += (r - mean) * (r - mean);
+        double stdev = Math.sqrt(squares / (raw.length - 1));
+
+        startResult(name, params);
+        json.append(", \"mode\": \"avgt\", \"unit\": \"ns/op\"")
+            .append(", \"opsPerIteration\": ").append(opsPerIteration)
+            .append(", \"score\": ").append(format(mean))
+            .append(", \"stdev\": ").append(format(stdev))
+            .append(", \"min\": ").append(format(min))
+            .append(", \"max\": ").append(format(max))
+            .append(", \"rawData\": [");
+        for (int i = 0; i < raw.length; i++)
+        {
+            if (i > 0)
+                json.append(", ");
+            json.append(format(raw[i]));
+        }
+        json.append("]}");
+    }
+
+    /**
+     * Adds a benchmark that couldn't finish to the JSON array
+     * @param name name of the benchmark
+     * @param params the rest of the JSON object, from param
+     * @param error what went wrong
+     */
+    private void addError(String name, String params, String error)
+    {
+        startResult(name, params);
+        json.append(", \"error\": \"").append(error).append("\"}");
+    }
+
+    /**
+     * @param key name of a benchmark parameter
+     * @param value its value; numbers are written bare, anything else quoted
+     * @return the parameter as a JSON member
+     */
+    private static String param(String key, Object value)
+    {
+        String v = value instanceof Number ? value.toString() : "\"" + value + "\"";
+        return "\"" + key + "\": " + v;
+    }
+
+    /**
+     * @param d a number of nanoseconds
+     * @return d with three decimal places, the way JSON expects numbers
+     */
+    private static String format(double d)
+    {
+        return String.format(Locale.ROOT, "%.3f", d);
+    }
+
+    /**
+     * Builds a balanced tree holding the numbers from lo to hi - 1
+     * @param lo smallest value in the tree
+     * @param hi one more than the largest value
+     * @return the root, or null if lo >= hi
+     */
+    private static TreeNode balanced(int lo, int hi)
+    {
+        if (lo >= hi)
+            return null;
+        int mid = (lo + hi) >>> 1;
+        return new TreeNode(mid, balanced(lo, mid), balanced(mid + 1, hi));
+    }
+
+    /**
+     * Builds a tree where every node only has a left child, which is
+     *  as deep as a tree of that size can be
+     * @param size number of nodes
+     * @return the root, or null if size is 0
+     */
+    private static TreeNode skewed(int size)
+    {
+        TreeNode t = null;
+        for (int i = 0; i < size; i++)
+            t = new TreeNode(i, t, null);
+        return t;
+    }
+
+    /**
+     * The recursive countNodes that TreeUtil used to have
+     * @param t the tree
+     * @return number of nodes
+     */
+    private static int countNodes(TreeNode t)
+    {
+        if (t == null)
+            return 0;
+        return 1 + countNodes(t.getLeft()) + countNodes(t.getRight());
+    }
+
+    /**
+     * The recursive countLeaves that TreeUtil used to have
+     * @param t the tree
+     * @return number of nodes without children
+     */
+    private static int countLeaves(TreeNode t)
+    {
+        if (t == null)
+            return 0;
+        if (t.getLeft() == null && t.getRight() == null)
+            return 1;
+        return countLeaves(t.getLeft()) + countLeaves(t.getRight());
+    }
+
+    /**
+     * The recursive maxDepth that TreeUtil used to have
+     * @param t the tree
+     * @return height of the tree
+     */
+    private static int maxDepth(TreeNode t)
+    {
+        if (t == null)
+            return 0;
+        return 1 + Math.max(maxDepth(t.getLeft()), maxDepth(t.getRight()));
+    }
+
+    /**
+     * The recursive copy that TreeUtil used to have
+     * @param t the tree
+     * @return a new tree with the same shape and values
+     */
+    private static TreeNode copy(TreeNode t)
+    {
+        if (t == null)
+            return null;
+        return new TreeNode(t.getValue(), copy(t.getLeft()), copy(t.getRight()));
+    }
+
+    /**
+     * The recursive sameShape that TreeUtil used to have
+     * @param t1 the first tree
+     * @param t2 the second tree
+     * @return true if the trees have the same shape
+     */
+    private static boolean sameShape(TreeNode t1, TreeNode t2)
+    {
+        if (t1 == null || t2 == null)
+            return t1 == t2;
+        return sameShape(t1.getLeft(), t2.getLeft())
+            && sameShape(t1.getRight(), t2.getRight());
+    }
+
+    /**
+     * The recursive in-order walk that TreeUtil used to have, adding
+     *  values to a list instead of lighting up a display
+     * @param t the tree
+     * @param values list the values are added to
+     */
+    private static void inOrder(TreeNode t, List<Object> values)
+    {
+        if (t != null)
+        {
+            inOrder(t.getLeft(), values);
+            values.add(t.getValue());
+            inOrder(t.getRight(), values);
+        }
+    }
+
+    /**
+     * One run of a benchmark
+     *
+     * @author Arnav Dani
+     * @version 10.18.26
+     */
+    private interface Run
+    {
+        /**
+         * @return something computed from the run, so it can't be skipped
+         */
+        int run();
+    }
+}
@@ -1,4 +1,6 @@
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 /**
  * TreeUtil contains the methods for manipulating and 
  *      utilizing binary trees
@@ -13,6 +15,19 @@ public class TreeUtil
 
     private static final boolean debug = false;
 
+    //the parallel methods split into subtasks for nodes above this depth
+    //and handle deeper subtrees with the sequential methods
+    private static final int PARALLEL_DEPTH = 12;
+    //subtrees with fewer nodes than this are also handled sequentially,
+    //even near the top, since forking them costs more than they save;
+    //checking walks at most this many nodes per task above PARALLEL_DEPTH
+    private static final int PARALLEL_MIN_NODES = 1 << 8;
+
+    //what a MeasureTask computes
+    private static final int NODES = 0;
+    private static final int LEAVES = 1;
+    private static final int DEPTH = 2;
+
     /**
      *finds the leftmost object
      * @param t the tree to find the leftmost object of
@@ -32,7 +47,7 @@ public class TreeUtil
     }
 
     /**
-     * Recursively finds the rightmost object in a tree
+     * finds the rightmost object
      * @param t the tree to find the rightmost in
      * @return Object at the rightmost node
      */
@@ -40,13 +55,18 @@ public class TreeUtil
     {
         if (t == null) 
             return null;
-        else if (t.getRight() == null)
-            return t.getValue();
-        return rightmost(t.getRight());
+
+        while (t.getRight() != null)
+        {
+            t = t.getRight();
+        }
+
+        return t.getValue();
     }
 
     /**
-     * Recursively finds the height of the tree
+     * Finds the height of the tree one level at a time, so even a
+     *      tree that is one long chain can't overflow the stack
      * @param t the tree to find the height of
      * @return int height of the tree
      */
@@ -54,7 +74,23 @@ public class TreeUtil
     {
         if (t == null)
             return 0;
-        return 1 + Math.max(maxDepth(t.getLeft()), maxDepth(t.getRight()));
+
+        Queue<TreeNode> level = new ArrayDeque<TreeNode>();
+        level.add(t);
+        int depth = 0;
+        while (!level.isEmpty())
+        {
+            depth++;
+            for (int i = level.size(); i > 0; i--)
+            {
+                TreeNode node = level.remove();
+                if (node.getLeft() != null)
+                    level.add(node.getLeft());
+                if (node.getRight() != null)
+                    level.add(node.getRight());
+            }
+        }
+        return depth;
     }
 
     /**
@@ -73,21 +109,34 @@ public class TreeUtil
     }
 
     /**
-     * Counts the number nodes in a tree
+     * Counts the number nodes in a tree, keeping the nodes still
+     *      to be counted on a stack instead of recursing
      * @param t the tree to count the number of nodes of
      * @return number of nodes
      */
     public static int countNodes(TreeNode t)
     {
         if (t == null)
-            return 0;                        
-        return 1 + countNodes(t.getLeft()) + countNodes(t.getRight());
+            return 0;
 
+        Deque<TreeNode> stack = new ArrayDeque<TreeNode>();
+        stack.push(t);
+        int count = 0;
+        while (!stack.isEmpty())
+        {
+            TreeNode node = stack.pop();
+            count++;
+            if (node.getRight() != null)
+                stack.push(node.getRight());
+            if (node.getLeft() != null)
+                stack.push(node.getLeft());
+        }
+        return count;
     }
 
     /**
      * Counts the number of leaves, or nodes without children,
-     *      in the tree
+     *      in the tree, using a stack instead of recursion
      * @param t the tree to count the leaves in
      * @return the number of nodes without children
      */
@@ -96,60 +145,155 @@ public class TreeUtil
         if (t == null)
             return 0;
 
-        if (t.getLeft() == null && t.getRight() == null)        
-            return 1;
-
-        return countLeaves(t.getLeft()) + countLeaves(t.getRight());
+        Deque<TreeNode> stack = new ArrayDeque<TreeNode>();
+        stack.push(t);
+        int count = 0;
+        while (!stack.isEmpty())
+        {
+            TreeNode node = stack.pop();
+            if (node.getLeft() == null && node.getRight() == null)
+                count++;
+            if (node.getRight() != null)
+                stack.push(node.getRight());
+            if (node.getLeft() != null)
+                stack.push(node.getLeft());
+        }
+        return count;
     }
 
     /**
      * Traverses through the tree in a preorder fashion
      *  where the parent is visited, then the left, then right child
+     *  
+     * The right child is pushed under the left one so the whole left
+     *  subtree comes off the stack first
      * 
      * @param t the tree being traversed
      * @param display the display; used to light up the nodes
      */
     public static void preOrder(TreeNode t, TreeDisplay display)
     {
-        if (t != null)
+        if (t == null)
+            return;
+
+        Deque<TreeNode> stack = new ArrayDeque<TreeNode>();
+        stack.push(t);
+        while (!stack.isEmpty())
         {
-            display.visit(t);
-            preOrder(t.getLeft(), display);
-            preOrder(t.getRight(), display);
+            TreeNode node = stack.pop();
+            display.visit(node);
+            if (node.getRight() != null)
+                stack.push(node.getRight());
+            if (node.getLeft() != null)
+                stack.push(node.getLeft());
         }
     }
 
     /**
      * Traverses through the tree an an inOrder fashion
      *  where the left child, then parent, then right child are visited
+     *  
+     * The stack holds the nodes whose left subtree is still being
+     *  visited. (inOrderValues does the same walk without a stack, but
+     *  it rewires the tree while it runs, which the display would see.)
      * 
      * @param t the tree being traversed
      * @param display the display; used to light up the nodes
      */
     public static void inOrder(TreeNode t, TreeDisplay display)
     {
-        if (t != null)
+        Deque<TreeNode> stack = new ArrayDeque<TreeNode>();
+        TreeNode node = t;
+        while (node != null || !stack.isEmpty())
         {
-            inOrder(t.getLeft(), display);
-            display.visit(t);
-            inOrder(t.getRight(), display);
+            while (node != null)
+            {
+                stack.push(node);
+                node = node.getLeft();
+            }
+            node = stack.pop();
+            display.visit(node);
+            node = node.getRight();
+        }
+    }
+
+    /**
+     * Adds the values of the tree to a list in inOrder fashion using
+     *  Morris traversal, which needs no stack at all
+     *  
+     * Before going down into a node's left subtree, the rightmost node
+     *  of that subtree (the node visited just before it) gets a temporary
+     *  right reference back up to it. Following that reference later is
+     *  how the walk gets back up, and the reference is removed then, so
+     *  the tree is back to normal when the method returns. Nothing else
+     *  should look at the tree while this runs.
+     * 
+     * @param t the tree being traversed
+     * @param list the list the values are added to
+     */
+    public static void inOrderValues(TreeNode t, List<Object> list)
+    {
+        TreeNode node = t;
+        while (node != null)
+        {
+            if (node.getLeft() == null)
+            {
+                list.add(node.getValue());
+                node = node.getRight();
+            }
+            else
+            {
+                TreeNode before = node.getLeft();
+                while (before.getRight() != null && before.getRight() != node)
+                    before = before.getRight();
+
+                if (before.getRight() == null)
+                {
+                    before.setRight(node);      //thread back up to node
+                    node = node.getLeft();
+                }
+                else
+                {
+                    before.setRight(null);      //left subtree done; unthread
+                    list.add(node.getValue());
+                    node = node.getRight();
+                }
+            }
         }
     }
 
     /**
      * Traverses through the tree an a postOrder fashion
      *  where the left child, then right, then parent are visited
+     *  
+     * A node on the stack is only visited once its right subtree is
+     *  finished, which is when the last node visited was its right child
+     *  (or it has none)
      * 
      * @param t the tree being traversed
      * @param display the display; used to light up the nodes
      */
     public static void postOrder(TreeNode t, TreeDisplay display)
     {
-        if (t != null)
+        Deque<TreeNode> stack = new ArrayDeque<TreeNode>();
+        TreeNode node = t;
+        TreeNode lastVisited = null;
+        while (node != null || !stack.isEmpty())
         {
-            postOrder(t.getLeft(), display);
-            postOrder(t.getRight(), display);
-            display.visit(t);
+            while (node != null)
+            {
+                stack.push(node);
+                node = node.getLeft();
+            }
+            TreeNode top = stack.peek();
+            if (top.getRight() != null && top.getRight() != lastVisited)
+                node = top.getRight();
+            else
+            {
+                stack.pop();
+                display.visit(top);
+                lastVisited = top;
+            }
         }
     }
 
@@ -159,19 +303,28 @@ public class TreeUtil
      *  
      * Nulls are represented with dollar signs to 
      *  avoid any structural ambiguity of the tree
+     *  
+     * The stack is an ArrayList because it has to hold the null children
+     *  too, which ArrayDeque doesn't allow
      * 
      * @param t the tree being put into the list
      * @param list the list being filled
      */
     public static void fillList(TreeNode t, List<String> list)
     {
-        if (t == null)
-            list.add("$");
-        else
+        List<TreeNode> stack = new ArrayList<TreeNode>();
+        stack.add(t);
+        while (!stack.isEmpty())
         {
-            list.add(t.getValue().toString());
-            fillList(t.getLeft(), list);
-            fillList(t.getRight(), list);
+            TreeNode node = stack.remove(stack.size() - 1);
+            if (node == null)
+                list.add("$");
+            else
+            {
+                list.add(node.getValue().toString());
+                stack.add(node.getRight());
+                stack.add(node.getLeft());
+            }
         }
     }
 
@@ -195,21 +348,49 @@ public class TreeUtil
      *          iterate through a valid description of
      * a binary tree with String values.  Null nodes are
      *          indicated by "$" markers
+     * 
+     * The stacks hold the empty child slots still waiting for a value,
+     *  the most recently made node's left slot on top, so values fill the
+     *  slots in the same preOrder the description was written in. If the
+     *  iterator runs out early, the slots left over stay null.
+     * 
      * @param it the iterator which will iterate over the tree description
      * @return a pointer to the root of the tree built by the iteration
      */
     public static TreeNode buildTree(Iterator<String> it)
     {
-        TreeNode t = null;
-        if (it.hasNext())
-        {            
-            String next = it.next();
-            if (next.equals("$"))
-                return null;
-            else
-                t = new TreeNode(next, buildTree(it), buildTree(it));
+        if (!it.hasNext())
+            return null;
+        String next = it.next();
+        if (next.equals("$"))
+            return null;
+
+        TreeNode root = new TreeNode(next);
+        Deque<TreeNode> parents = new ArrayDeque<TreeNode>();
+        Deque<Boolean> isLeft = new ArrayDeque<Boolean>();
+        parents.push(root);
+        isLeft.push(false);
+        parents.push(root);
+        isLeft.push(true);
+        while (!parents.isEmpty() && it.hasNext())
+        {
+            TreeNode parent = parents.pop();
+            boolean left = isLeft.pop();
+            next = it.next();
+            if (!next.equals("$"))
+            {
+                TreeNode node = new TreeNode(next);
+                if (left)
+                    parent.setLeft(node);
+                else
+                    parent.setRight(node);
+                parents.push(node);
+                isLeft.push(false);
+                parents.push(node);
+                isLeft.push(true);
+            }
         }
-        return t;
+        return root;
     }
 
     /**
@@ -270,9 +451,31 @@ public class TreeUtil
     {
         if (t == null)
             return null;
-        else
-            return new TreeNode(t.getValue(), 
-                copy(t.getLeft()), copy(t.getRight()));
+
+        //each original node sits on its stack at the same spot as its copy
+        TreeNode root = new TreeNode(t.getValue());
+        Deque<TreeNode> originals = new ArrayDeque<TreeNode>();
+        Deque<TreeNode> copies = new ArrayDeque<TreeNode>();
+        originals.push(t);
+        copies.push(root);
+        while (!originals.isEmpty())
+        {
+            TreeNode node = originals.pop();
+            TreeNode nodeCopy = copies.pop();
+            if (node.getRight() != null)
+            {
+                nodeCopy.setRight(new TreeNode(node.getRight().getValue()));
+                originals.push(node.getRight());
+                copies.push(nodeCopy.getRight());
+            }
+            if (node.getLeft() != null)
+            {
+                nodeCopy.setLeft(new TreeNode(node.getLeft().getValue()));
+                originals.push(node.getLeft());
+                copies.push(nodeCopy.getLeft());
+            }
+        }
+        return root;
     }
 
     /**
@@ -286,15 +489,86 @@ public class TreeUtil
      */
     public static boolean sameShape(TreeNode t1, TreeNode t2)
     {
-        if (t1 == null && t2 == null)
-            return true;
-        if (t1 == null && t2 != null)
-            return false;
-        if (t1 != null && t2 == null)
-            return false;
+        if (t1 == null || t2 == null)
+            return t1 == t2;
+
+        //matching nodes of the two trees are pushed and popped together
+        Deque<TreeNode> stack1 = new ArrayDeque<TreeNode>();
+        Deque<TreeNode> stack2 = new ArrayDeque<TreeNode>();
+        stack1.push(t1);
+        stack2.push(t2);
+        while (!stack1.isEmpty())
+        {
+            TreeNode a = stack1.pop();
+            TreeNode b = stack2.pop();
+            if ((a.getLeft() == null) != (b.getLeft() == null)
+                || (a.getRight() == null) != (b.getRight() == null))
+                return false;
+            if (a.getRight() != null)
+            {
+                stack1.push(a.getRight());
+                stack2.push(b.getRight());
+            }
+            if (a.getLeft() != null)
+            {
+                stack1.push(a.getLeft());
+                stack2.push(b.getLeft());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counts the nodes in a tree on all of the cores, forking a task for
+     *      each subtree near the top and counting the deeper ones
+     *      with countNodes
+     * @param t the tree to count the number of nodes of
+     * @return number of nodes, the same as countNodes(t)
+     */
+    public static int parallelCountNodes(TreeNode t)
+    {
+        return ForkJoinPool.commonPool().invoke(new MeasureTask(t, NODES, 0));
+    }
+
+    /**
+     * Counts the leaves in a tree on all of the cores
+     * @param t the tree to count the leaves in
+     * @return the number of nodes without children, the same as countLeaves(t)
+     */
+    public static int parallelCountLeaves(TreeNode t)
+    {
+        return ForkJoinPool.commonPool().invoke(new MeasureTask(t, LEAVES, 0));
+    }
 
-        return sameShape(t1.getLeft(), t2.getLeft()) && 
-        sameShape(t1.getRight(), t2.getRight());
+    /**
+     * Finds the height of the tree on all of the cores
+     * @param t the tree to find the height of
+     * @return int height of the tree, the same as maxDepth(t)
+     */
+    public static int parallelMaxDepth(TreeNode t)
+    {
+        return ForkJoinPool.commonPool().invoke(new MeasureTask(t, DEPTH, 0));
+    }
+
+    /**
+     * copy a binary tree on all of the cores
+     * @param t the root of the tree to copy
+     * @return a new tree built the same way copy(t) builds one
+     */
+    public static TreeNode parallelCopy(TreeNode t)
+    {
+        return ForkJoinPool.commonPool().invoke(new CopyTask(t, 0));
+    }
+
+    /**
+     * tests whether two trees have the same shape on all of the cores
+     * @param t1 pointer to the root of the first tree
+     * @param t2 pointer to the root of the second tree
+     * @return the same as sameShape(t1, t2)
+     */
+    public static boolean parallelSameShape(TreeNode t1, TreeNode t2)
+    {
+        return ForkJoinPool.commonPool().invoke(new SameShapeTask(t1, t2, 0));
     }
 
     /**
@@ -459,4 +733,178 @@ public class TreeUtil
     {
         if (debug) System.out.println("debug: " + out);
     }
+
+    /**
+     * Checks whether a subtree is too small to be worth splitting,
+     *      walking no more than PARALLEL_MIN_NODES of its nodes
+     * @param t root of the subtree
+     * @return true if the subtree has fewer than PARALLEL_MIN_NODES nodes
+     */
+    private static boolean isSmall(TreeNode t)
+    {
+        if (t == null)
+            return true;
+
+        Deque<TreeNode> stack = new ArrayDeque<TreeNode>();
+        stack.push(t);
+        int count = 0;
+        while (!stack.isEmpty())
+        {
+            if (++count >= PARALLEL_MIN_NODES)
+                return false;
+            TreeNode node = stack.pop();
+            if (node.getRight() != null)
+                stack.push(node.getRight());
+            if (node.getLeft() != null)
+                stack.push(node.getLeft());
+        }
+        return true;
+    }
+
+    /**
+     * Counts the nodes or leaves of a subtree, or finds its height,
+     *  forking the left subtree off while it is still near the top
+     * 
+     * @author Arnav Dani
+     * @version 10.18.26
+     */
+    private static class MeasureTask extends RecursiveTask<Integer>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final TreeNode t;
+        private final int kind;     //NODES, LEAVES or DEPTH
+        private final int depth;    //depth of t in the whole tree
+
+        /**
+         * Constructs a task that measures the subtree at t
+         * @param t root of the subtree
+         * @param kind NODES, LEAVES or DEPTH
+         * @param depth how far t is below the root of the whole tree
+         */
+        public MeasureTask(TreeNode t, int kind, int depth)
+        {
+            this.t = t;
+            this.kind = kind;
+            this.depth = depth;
+        }
+
+        /**
+         * Measures the subtree, splitting it if it is near the top
+         *  and big enough
+         * @return the count or height
+         */
+        protected Integer compute()
+        {
+            if (t == null)
+                return 0;
+            if (depth >= PARALLEL_DEPTH || isSmall(t))
+            {
+                if (kind == NODES)
+                    return countNodes(t);
+                if (kind == LEAVES)
+                    return countLeaves(t);
+                return maxDepth(t);
+            }
+            if (t.getLeft() == null && t.getRight() == null)
+                return 1;
+
+            MeasureTask left = new MeasureTask(t.getLeft(), kind, depth + 1);
+            left.fork();
+            int right = new MeasureTask(t.getRight(), kind, depth + 1).compute();
+            int leftResult = left.join();
+            if (kind == NODES)
+                return 1 + leftResult + right;
+            if (kind == LEAVES)
+                return leftResult + right;
+            return 1 + Math.max(leftResult, right);
+        }
+    }
+
+    /**
+     * Copies a subtree, copying the left and right subtrees at the
+     *  same time while they are still near the top
+     * 
+     * @author Arnav Dani
+     * @version 10.18.26
+     */
+    private static class CopyTask extends RecursiveTask<TreeNode>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final TreeNode t;
+        private final int depth;    //depth of t in the whole tree
+
+        /**
+         * Constructs a task that copies the subtree at t
+         * @param t root of the subtree
+         * @param depth how far t is below the root of the whole tree
+         */
+        public CopyTask(TreeNode t, int depth)
+        {
+            this.t = t;
+            this.depth = depth;
+        }
+
+        /**
+         * Copies the subtree, splitting it if it is near the top
+         *  and big enough
+         * @return the root of the copy
+         */
+        protected TreeNode compute()
+        {
+            if (depth >= PARALLEL_DEPTH || isSmall(t))
+                return copy(t);
+
+            CopyTask left = new CopyTask(t.getLeft(), depth + 1);
+            left.fork();
+            TreeNode right = new CopyTask(t.getRight(), depth + 1).compute();
+            return new TreeNode(t.getValue(), left.join(), right);
+        }
+    }
+
+    /**
+     * Compares the shapes of two subtrees, comparing their left and right
+     *  subtrees at the same time while they are still near the top
+     * 
+     * @author Arnav Dani
+     * @version 10.18.26
+     */
+    private static class SameShapeTask extends RecursiveTask<Boolean>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final TreeNode t1;
+        private final TreeNode t2;
+        private final int depth;    //depth of t1 and t2 in the whole trees
+
+        /**
+         * Constructs a task that compares the subtrees at t1 and t2
+         * @param t1 root of the first subtree
+         * @param t2 root of the second subtree
+         * @param depth how far t1 and t2 are below the roots
+         */
+        public SameShapeTask(TreeNode t1, TreeNode t2, int depth)
+        {
+            this.t1 = t1;
+            this.t2 = t2;
+            this.depth = depth;
+        }
+
+        /**
+         * Compares the subtrees, splitting them if they are near the top
+         *  and big enough
+         * @return true if they have the same shape
+         */
+        protected Boolean compute()
+        {
+            if (depth >= PARALLEL_DEPTH || isSmall(t1) || isSmall(t2))
+                return sameShape(t1, t2);
+
+            SameShapeTask left = new SameShapeTask(t1.getLeft(), t2.getLeft(), depth + 1);
+            left.fork();
+            boolean right = new SameShapeTask(t1.getRight(), t2.getRight(), depth + 1).compute();
+            return left.join() && right;
+        }
+    }
 }
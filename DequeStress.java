@@ -0,0 +1,254 @@
+import java.lang.ref.WeakReference;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DequeStress runs millions of add/remove cycles through a
+ *  MyConcurrentLinkedDeque and a MyBlockingLinkedDeque while they only
+ *  ever hold a couple of elements, and checks that the elements removed
+ *  early on can be garbage collected afterwards.
+ *
+ * A deque that keeps removed nodes linked to the live ones looks fine
+ *  in every single operation but grows without bound, so this is the
+ *  kind of bug only a long run shows. Each run keeps a WeakReference to
+ *  an element removed near the start and fails if it is still reachable
+ *  at the end. Run with a small heap (java -Xmx64m DequeStress) and a
+ *  leak shows up as an OutOfMemoryError long before the check.
+ *
+ * The concurrent runs also check that no element is lost or handed out
+ *  twice: every thread adds before it removes, so a remove never finds
+ *  the deque empty, and the deque ends with the elements it started with.
+ *
+ * Usage: java DequeStress [--cycles 5000000] [--threads 4]
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class DequeStress
+{
+    private static final int HELD = 2;         //elements kept in the deque
+    private static final int TRACK_AT = 1000;  //cycle whose element is tracked
+
+    /**
+     * Runs every stress test
+     * @param args options as described in the class comment
+     * @throws InterruptedException if interrupted while waiting for threads
+     */
+    public static void main(String[] args) throws InterruptedException
+    {
+        int cycles = 5_000_000;
+        int threads = 4;
+        for (int i = 0; i + 1 < args.length; i += 2)
+        {
+            if (args[i].equals("--cycles"))
+                cycles = Integer.parseInt(args[i + 1]);
+            else if (args[i].equals("--threads"))
+                threads = Integer.parseInt(args[i + 1]);
+            else
+                throw new RuntimeException("Unknown option " + args[i]);
+        }
+        if (cycles <= TRACK_AT)
+            throw new RuntimeException("cycles must be more than " + TRACK_AT);
+
+        report("addLast/removeFirst", checkCollected(oneEnd(cycles, true)));
+        report("addFirst/removeLast", checkCollected(oneEnd(cycles, false)));
+        report("both ends", checkCollected(bothEnds(cycles)));
+        report("concurrent x" + threads,
+            checkCollected(concurrent(cycles / threads, threads)));
+        report("blocking", checkCollected(blocking(cycles)));
+    }
+
+    /**
+     * Prints that a test passed and how much heap is in use after it
+     * @param name name of the test
+     * @param usedBytes heap in use once the test's garbage is collected
+     */
+    private static void report(String name, long usedBytes)
+    {
+        System.out.println(name + ": ok, " + usedBytes / 1024 + " KB used");
+    }
+
+    /**
+     * Collects garbage until a tracked element is gone, or gives up
+     * @param tracked weak reference to an element that was removed
+     * @return heap in use after collecting
+     */
+    private static long checkCollected(WeakReference<Object> tracked)
+    {
+        for (int i = 0; i < 10 && tracked.get() != null; i++)
+            System.gc();
+        if (tracked.get() != null)
+            throw new RuntimeException("Removed elements are still reachable");
+        Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    /**
+     * Adds at one end and removes from the other, like a queue
+     * @param cycles number of add/remove pairs
+     * @param atLast true to add last and remove first, false for
+     *  the other way around
+     * @return weak reference to an element removed early on
+     */
+    private static WeakReference<Object> oneEnd(int cycles, boolean atLast)
+    {
+        MyConcurrentLinkedDeque<Object> deque = new MyConcurrentLinkedDeque<Object>();
+        for (int i = 0; i < HELD; i++)
+            deque.addLast(new Object());
+
+        WeakReference<Object> tracked = null;
+        for (int i = 0; i < cycles; i++)
+        {
+            Object removed;
+            if (atLast)
+            {
+                deque.addLast(new Object());
+                removed = deque.removeFirst();
+            }
+            else
+            {
+                deque.addFirst(new Object());
+                removed = deque.removeLast();
+            }
+            if (removed == null)
+                throw new RuntimeException("Deque was empty after an add");
+            if (i == TRACK_AT)
+                tracked = new WeakReference<Object>(removed);
+        }
+        return tracked;
+    }
+
+    /**
+     * Adds and removes at both ends in turn, so nodes are pulled off
+     *  the end they were just pushed onto as well as the other one
+     * @param cycles number of add/remove pairs
+     * @return weak reference to an element removed early on
+     */
+    private static WeakReference<Object> bothEnds(int cycles)
+    {
+        MyConcurrentLinkedDeque<Object> deque = new MyConcurrentLinkedDeque<Object>();
+        for (int i = 0; i < HELD; i++)
+            deque.addLast(new Object());
+
+        WeakReference<Object> tracked = null;
+        for (int i = 0; i < cycles; i++)
+        {
+            if (i % 2 == 0)
+                deque.addFirst(new Object());
+            else
+                deque.addLast(new Object());
+            Object removed = i % 3 == 0 ? deque.removeFirst() : deque.removeLast();
+            if (removed == null)
+                throw new RuntimeException("Deque was empty after an add");
+            if (i == TRACK_AT)
+                tracked = new WeakReference<Object>(removed);
+        }
+        return tracked;
+    }
+
+    /**
+     * Has several threads add and remove at once, half of them at each
+     *  end, then checks the deque still holds exactly what it started with
+     * @param cycles number of add/remove pairs per thread
+     * @param threads number of threads
+     * @return weak reference to an element removed early on
+     * @throws InterruptedException if interrupted while waiting for threads
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static WeakReference<Object> concurrent(int cycles, int threads)
+        throws InterruptedException
+    {
+        MyConcurrentLinkedDeque<Object> deque = new MyConcurrentLinkedDeque<Object>();
+        for (int i = 0; i < HELD; i++)
+            deque.addLast(new Object());
+
+        WeakReference<Object>[] tracked = new WeakReference[threads];
+        RuntimeException[] failures = new RuntimeException[threads];
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++)
+        {
+            int id = t;
+            workers[t] = new Thread(() ->
+            {
+                try
+                {
+                    for (int i = 0; i < cycles; i++)
+                    {
+                        Object removed;
+                        if (id % 2 == 0)
+                        {
+                            deque.addLast(new Object());
+                            removed = deque.removeFirst();
+                        }
+                        else
+                        {
+                            deque.addFirst(new Object());
+                            removed = deque.removeLast();
+                        }
+                        if (removed == null)
+                            throw new RuntimeException("Deque was empty after an add");
+                        if (i == TRACK_AT)
+                            tracked[id] = new WeakReference<Object>(removed);
+                    }
+                }
+                catch (RuntimeException e)
+                {
+                    failures[id] = e;
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers)
+            worker.join();
+        for (RuntimeException e : failures)
+        {
+            if (e != null)
+                throw e;
+        }
+
+        int left = 0;
+        while (deque.removeFirst() != null)
+            left++;
+        if (left != HELD)
+            throw new RuntimeException("Deque ended with " + left
+                + " elements instead of " + HELD);
+        for (int t = 1; t < threads; t++)
+            checkCollected(tracked[t]);
+        return tracked[0];
+    }
+
+    /**
+     * Adds and takes through a MyBlockingLinkedDeque, mixing takeFirst
+     *  with the timed and untimed polls
+     * @param cycles number of add/take pairs
+     * @return weak reference to an element removed early on
+     * @throws InterruptedException if interrupted while taking
+     */
+    private static WeakReference<Object> blocking(int cycles)
+        throws InterruptedException
+    {
+        MyBlockingLinkedDeque<Object> deque = new MyBlockingLinkedDeque<Object>();
+        for (int i = 0; i < HELD; i++)
+            deque.addLast(new Object());
+
+        WeakReference<Object> tracked = null;
+        for (int i = 0; i < cycles; i++)
+        {
+            deque.addLast(new Object());
+            Object removed;
+            if (i % 3 == 0)
+                removed = deque.takeFirst();
+            else if (i % 3 == 1)
+                removed = deque.pollFirst(1, TimeUnit.SECONDS);
+            else
+                removed = deque.pollFirst();
+            if (removed == null)
+                throw new RuntimeException("Deque was empty after an add");
+            if (i == TRACK_AT)
+                tracked = new WeakReference<Object>(removed);
+        }
+        if (deque.size() != HELD)
+            throw new RuntimeException("Deque ended with " + deque.size()
+                + " elements instead of " + HELD);
+        return tracked;
+    }
+}
@@ -0,0 +1,78 @@
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Frees the native memory behind direct and mapped ByteBuffers right
+ *      away instead of waiting for the garbage collector.
+ * A direct buffer only gives its memory back (and a mapped one only
+ *      unmaps its file) once the buffer object is collected, which may
+ *      be never on a quiet heap. Java 17 has no public way to do it
+ *      sooner, so this calls sun.misc.Unsafe.invokeCleaner, found by
+ *      reflection. If that isn't there, free does nothing and the
+ *      memory is returned on collection as before.
+ *
+ * @version 10/18/26
+ * @author Arnav Dani
+ */
+public final class DirectBuffers
+{
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static
+    {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try
+        {
+            Class<?> type = Class.forName("sun.misc.Unsafe");
+            Field field = type.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = type.getMethod("invokeCleaner", ByteBuffer.class);
+        }
+        catch (ReflectiveOperationException | RuntimeException e)
+        {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    /**
+     * Constructor for DirectBuffers; never used
+     */
+    private DirectBuffers()
+    {
+    }
+
+    /**
+     * Frees a buffer's native memory now
+     * @param buffer a direct buffer from allocateDirect or a mapped one
+     *      from FileChannel.map, not a slice or duplicate of one; null
+     *      and heap buffers are ignored
+     * @postcondition the buffer, and every slice or duplicate of it,
+     *               must never be touched again; reading freed memory
+     *               can crash the JVM
+     */
+    public static void free(ByteBuffer buffer)
+    {
+        if (buffer == null || !buffer.isDirect() || INVOKE_CLEANER == null)
+            return;
+        try
+        {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new RuntimeException(e);
+        }
+        catch (InvocationTargetException e)
+        {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Describes methods and properties of
+ *  a DoubleNode object, which is used to construct
+ *  doubly linked lists like MyLinkedList
+ *
+ *  @author Arnav Dani
+ *  @version 10.18.26
+ */
+public class DoubleNode
+{
+    private Object value;
+    private DoubleNode previous;
+    private DoubleNode next;
+
+    /**
+     * Constructor for DoubleNode object
+     *  with only 1 param passed
+     * @param initValue initial value to set node to
+     */
+    public DoubleNode(Object initValue)
+    {
+        this(initValue, null, null);
+    }
+
+    /**
+     * Constructor for DoubleNode with 3 parameters
+     * @param initValue initial value/object to set the node to
+     * @param initPrevious what the previous reference is pointing to
+     * @param initNext what the next reference is pointing to
+     */
+    public DoubleNode(Object initValue, DoubleNode initPrevious, DoubleNode initNext)
+    {
+        value = initValue;
+        previous = initPrevious;
+        next = initNext;
+    }
+
+    /**
+     * gets the value at the node
+     * @return value
+     */
+    public Object getValue() { return value; }
+
+    /**
+     * gets the node before this one
+     * @return PreviousNode
+     */
+    public DoubleNode getPrevious() { return previous; }
+
+    /**
+     * gets the node after this one
+     * @return NextNode
+     */
+    public DoubleNode getNext() { return next; }
+
+    /**
+     * changes the value to the new specific one
+     * @param theNewValue the new value
+     */
+    public void setValue(Object theNewValue) { value = theNewValue; }
+
+    /**
+     * changes the previous reference to a specific reference
+     * @param theNewPrevious the specific reference passed in
+     */
+    public void setPrevious(DoubleNode theNewPrevious) { previous = theNewPrevious; }
+
+    /**
+     * changes the next reference to a specific reference
+     * @param theNewNext the specific reference passed in
+     */
+    public void setNext(DoubleNode theNewNext) { next = theNewNext; }
+}
@@ -0,0 +1,92 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Describes how ListCodec turns one element of a list into bytes and 
+ *      back. Unlike a RecordCodec, each element may take a different 
+ *      number of bytes; ListCodec asks for the most it could take, makes
+ *      that much room, and stores the number actually written in front
+ *      of the element. The bound is there so that an element never has
+ *      to be encoded twice, once to measure it and once to write it.
+ *
+ * @version 10/18/26
+ * @author Arnav Dani
+ *
+ * @param <E> type of object being stored
+ */
+public interface ElementCodec<E>
+{
+    /**
+     * Stores each Integer as 4 bytes
+     */
+    ElementCodec<Integer> INT = new ElementCodec<Integer>()
+    {
+        public int maxEncodedSize(Integer obj) { return Integer.BYTES; }
+        public void write(ByteBuffer out, Integer obj) { out.putInt(obj); }
+        public Integer read(ByteBuffer in) { return in.getInt(); }
+    };
+
+    /**
+     * Stores each Long as 8 bytes
+     */
+    ElementCodec<Long> LONG = new ElementCodec<Long>()
+    {
+        public int maxEncodedSize(Long obj) { return Long.BYTES; }
+        public void write(ByteBuffer out, Long obj) { out.putLong(obj); }
+        public Long read(ByteBuffer in) { return in.getLong(); }
+    };
+
+    /**
+     * Stores each Double as 8 bytes
+     */
+    ElementCodec<Double> DOUBLE = new ElementCodec<Double>()
+    {
+        public int maxEncodedSize(Double obj) { return Double.BYTES; }
+        public void write(ByteBuffer out, Double obj) { out.putDouble(obj); }
+        public Double read(ByteBuffer in) { return in.getDouble(); }
+    };
+
+    /**
+     * Stores each String as its UTF-8 bytes; no char takes more than 3
+     *      of them (a surrogate pair takes 4 for its 2 chars), so the
+     *      bound comes from the length without encoding anything
+     */
+    ElementCodec<String> STRING = new ElementCodec<String>()
+    {
+        public int maxEncodedSize(String obj) 
+        { 
+            return (int) Math.min(3L * obj.length(), GrowthPolicy.MAX_ARRAY_SIZE); 
+        }
+        public void write(ByteBuffer out, String obj) 
+        { 
+            out.put(obj.getBytes(StandardCharsets.UTF_8)); 
+        }
+        public String read(ByteBuffer in) 
+        { 
+            byte[] bytes = new byte[in.remaining()];
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * @param obj a non-null element
+     * @return the most bytes write could use for obj; it should be
+     *      cheap to work out and close to the real number
+     */
+    int maxEncodedSize(E obj);
+
+    /**
+     * Writes an element at the buffer's position
+     * @param out buffer with at least maxEncodedSize(obj) bytes remaining
+     * @param obj a non-null element
+     */
+    void write(ByteBuffer out, E obj);
+
+    /**
+     * Reads an element back
+     * @param in buffer whose remaining bytes are exactly one element
+     * @return the element
+     */
+    E read(ByteBuffer in);
+}
@@ -0,0 +1,74 @@
+/**
+ * Describes how an array-backed list decides how big its new array
+ *      should be once the old one is full.
+ * Picking the policy lets a list trade wasted space for fewer copies:
+ *      doubling copies the least, 1.5x wastes less space, fixed chunks
+ *      waste a bounded amount, and HUGE backs off its growth rate once the
+ *      array gets big and never asks for more than MAX_ARRAY_SIZE.
+ *
+ * @version 10/18/26
+ * @author Arnav Dani
+ */
+public interface GrowthPolicy
+{
+    /**
+     * The largest array length that the JVM will reliably allocate
+     */
+    int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Doubles the capacity every time, the way MyArrayList always grew
+     */
+    GrowthPolicy DOUBLING = (oldCapacity, minCapacity) ->
+        clamp(2L * oldCapacity, minCapacity);
+
+    /**
+     * Grows the capacity by half of its old length
+     */
+    GrowthPolicy ONE_AND_HALF = (oldCapacity, minCapacity) ->
+        clamp(oldCapacity + (oldCapacity >> 1), minCapacity);
+
+    /**
+     * Doubles until the array holds a million elements, then only grows
+     *      by a quarter at a time, stopping at MAX_ARRAY_SIZE
+     */
+    GrowthPolicy HUGE = (oldCapacity, minCapacity) ->
+        clamp(oldCapacity < (1 << 20) ? 2L * oldCapacity
+            : oldCapacity + (oldCapacity >> 2), minCapacity);
+
+    /**
+     * Works out the length of the array that should replace a full one
+     * @param oldCapacity length of the current array
+     * @param minCapacity the smallest length that is enough
+     * @return the new length, which is at least minCapacity
+     */
+    int newCapacity(int oldCapacity, int minCapacity);
+
+    /**
+     * Makes a policy that always grows by the same number of slots
+     * @param chunk number of slots added on each grow
+     * @return policy that adds chunk slots at a time
+     */
+    static GrowthPolicy fixedChunk(int chunk)
+    {
+        if (chunk <= 0)
+            throw new RuntimeException("Chunk size must be positive");
+
+        return (oldCapacity, minCapacity) ->
+            clamp((long) oldCapacity + chunk, minCapacity);
+    }
+
+    /**
+     * Keeps a wanted capacity between minCapacity and MAX_ARRAY_SIZE
+     * @param wanted the capacity a policy would like to use
+     * @param minCapacity the smallest length that is enough
+     * @return the capacity to actually allocate
+     */
+    static int clamp(long wanted, int minCapacity)
+    {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE)
+            throw new OutOfMemoryError("Required array size too large");
+
+        return (int) Math.max(minCapacity, Math.min(wanted, MAX_ARRAY_SIZE));
+    }
+}
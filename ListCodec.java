@@ -0,0 +1,455 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+
+/**
+ * ListCodec saves lists to a channel in a compact binary format 
+ *      and loads them back.
+ * Every stream starts with a header: the magic number, the format
+ *      version, the kind of list, and the number of elements. Object 
+ *      lists then hold each element as its length followed by the bytes
+ *      from its ElementCodec (a length of -1 means null). The primitive
+ *      lists skip the lengths and write their values back to back.
+ * The bytes go through one reusable buffer, so the list is never 
+ *      copied into a byte array first. All numbers are little-endian.
+ * Reading never takes a byte past the end of the list from the channel,
+ *      so lists written one after another can be read back one after
+ *      another: every element takes at least its 4-byte length (or its
+ *      value, for the primitive lists), so the reader knows the least
+ *      number of bytes still to come and never asks the channel for more.
+ *
+ * @version 10/18/26
+ * @author Arnav Dani
+ */
+public class ListCodec
+{
+    private static final int MAGIC = 0x4C434F44;    //"LCOD"
+    private static final short VERSION = 1;
+
+    private static final byte KIND_OBJECT = 0;
+    private static final byte KIND_INT = 1;
+    private static final byte KIND_LONG = 2;
+    private static final byte KIND_DOUBLE = 3;
+
+    private static final int HEADER_SIZE = 11;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * ListCodec only has static methods
+     */
+    private ListCodec()
+    {
+    }
+
+    /**
+     * Makes the buffer that the bytes go through
+     * @return an empty little-endian buffer
+     */
+    private static ByteBuffer newBuffer()
+    {
+        return ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Writes everything in the buffer to the channel and empties it
+     * @param buf buffer that has been filled
+     * @param out channel to write to
+     * @throws IOException if the channel can't be written to
+     */
+    private static void drain(ByteBuffer buf, WritableByteChannel out) 
+        throws IOException
+    {
+        buf.flip();
+        while (buf.hasRemaining())
+            out.write(buf);
+        buf.clear();
+    }
+
+    /**
+     * Makes sure there is room for a number of bytes in the buffer
+     * @param buf buffer being filled
+     * @param out channel to write to if the buffer is too full
+     * @param bytes number of bytes about to be put
+     * @throws IOException if the channel can't be written to
+     */
+    private static void reserve(ByteBuffer buf, WritableByteChannel out, 
+                                int bytes) throws IOException
+    {
+        if (buf.remaining() < bytes)
+            drain(buf, out);
+    }
+
+    /**
+     * Makes sure a number of bytes can be read from the buffer,
+     *      reading more from the channel if needed
+     * @param buf buffer being read, in read mode
+     * @param in channel to read more bytes from
+     * @param bytes number of bytes about to be read, at most
+     *      the capacity of the buffer
+     * @param atMost the most bytes, counted from the buffer's position,
+     *      that are sure to still belong to the list; at least bytes
+     * @throws IOException if the channel ends too soon
+     * @postcondition reads as much as the buffer holds in one go, but
+     *               never more than atMost, so nothing after the list
+     *               is taken from the channel
+     */
+    private static void require(ByteBuffer buf, ReadableByteChannel in, 
+                                int bytes, long atMost) throws IOException
+    {
+        if (buf.remaining() >= bytes)
+            return;
+
+        buf.compact();
+        buf.limit((int) Math.min(buf.capacity(), atMost));
+        while (buf.position() < bytes)
+        {
+            if (in.read(buf) < 0)
+                throw new EOFException("List ended early");
+        }
+        buf.flip();
+    }
+
+    /**
+     * Writes the header that starts every list
+     * @param buf empty buffer to put the header in
+     * @param kind kind of list
+     * @param size number of elements
+     */
+    private static void putHeader(ByteBuffer buf, byte kind, int size)
+    {
+        buf.putInt(MAGIC).putShort(VERSION).put(kind).putInt(size);
+    }
+
+    /**
+     * Reads and checks the header that starts every list
+     * @param buf buffer being read, in read mode
+     * @param in channel to read from
+     * @param kind the kind of list expected
+     * @return the number of elements in the list
+     * @throws IOException if the header is not the one expected
+     */
+    private static int getHeader(ByteBuffer buf, ReadableByteChannel in, 
+                                 byte kind) throws IOException
+    {
+        require(buf, in, HEADER_SIZE, HEADER_SIZE);
+        if (buf.getInt() != MAGIC)
+            throw new IOException("Not a saved list");
+        short version = buf.getShort();
+        if (version != VERSION)
+            throw new IOException("Unsupported list version " + version);
+        if (buf.get() != kind)
+            throw new IOException("Saved list is a different kind of list");
+        int size = buf.getInt();
+        if (size < 0)
+            throw new IOException("Corrupt list size " + size);
+        return size;
+    }
+
+    /**
+     * Works out how many elements a list should make room for before
+     *      they are read, so that a corrupt size in the header can't make
+     *      the reader allocate a huge array up front
+     * @param size number of elements the header says are coming
+     * @param buf buffer being read, in read mode
+     * @param in channel the elements are read from
+     * @return size if the channel is a file (or the like) with room for
+     *      that many elements; otherwise size but no more than
+     *      BUFFER_SIZE, and the list grows from there as it is read
+     * @throws IOException if the channel is too short for size elements
+     *      of at least 4 bytes each
+     */
+    private static int initialCapacity(int size, ByteBuffer buf, 
+                                       ReadableByteChannel in) throws IOException
+    {
+        if (!(in instanceof SeekableByteChannel))
+            return Math.min(size, BUFFER_SIZE);
+
+        SeekableByteChannel file = (SeekableByteChannel) in;
+        long left = file.size() - file.position() + buf.remaining();
+        if ((long) Integer.BYTES * size > left)
+            throw new IOException("Saved list says it holds " + size 
+                + " elements but only " + left + " bytes are left");
+        return size;
+    }
+
+    /**
+     * Writes the elements handed out by an iterator, each with its length
+     * @param it iterator over the elements
+     * @param size number of elements it will hand out
+     * @param out channel to write to
+     * @param codec turns each element into bytes
+     * @throws IOException if the channel can't be written to
+     */
+    private static <E> void writeObjects(Iterator<E> it, int size, 
+                                         WritableByteChannel out, 
+                                         ElementCodec<? super E> codec) 
+        throws IOException
+    {
+        ByteBuffer buf = newBuffer();
+        putHeader(buf, KIND_OBJECT, size);
+        while (it.hasNext())
+        {
+            E obj = it.next();
+            if (obj == null)
+            {
+                reserve(buf, out, Integer.BYTES);
+                buf.putInt(-1);
+                continue;
+            }
+            int max = codec.maxEncodedSize(obj);
+            ByteBuffer target = buf;
+            reserve(buf, out, Integer.BYTES + max);
+            if (buf.remaining() < Integer.BYTES + max)
+            {
+                //element may be bigger than the whole buffer
+                target = ByteBuffer.allocate(Integer.BYTES + max)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            }
+            //write the element, then go back and fill in its length
+            int start = target.position();
+            target.putInt(0);
+            codec.write(target, obj);
+            target.putInt(start, target.position() - start - Integer.BYTES);
+            if (target != buf)
+                drain(target, out);
+        }
+        drain(buf, out);
+    }
+
+    /**
+     * Reads one length-prefixed element
+     * @param buf buffer being read, in read mode
+     * @param in channel to read from
+     * @param codec turns the bytes back into an element
+     * @param left number of elements left to read, counting this one
+     * @return the element, which may be null
+     * @throws IOException if the channel ends too soon
+     */
+    private static <E> E readObject(ByteBuffer buf, ReadableByteChannel in,
+                                    ElementCodec<E> codec, int left) 
+        throws IOException
+    {
+        //every element left has at least its length still to come
+        require(buf, in, Integer.BYTES, (long) Integer.BYTES * left);
+        int length = buf.getInt();
+        if (length == -1)
+            return null;
+        if (length < 0)
+            throw new IOException("Corrupt element length " + length);
+
+        ByteBuffer element;
+        if (length > buf.capacity())
+        {
+            //element is bigger than the whole buffer
+            element = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+            element.put(buf);
+            while (element.hasRemaining())
+            {
+                if (in.read(element) < 0)
+                    throw new EOFException("List ended early");
+            }
+            element.flip();
+            buf.clear().flip();
+            return codec.read(element);
+        }
+        require(buf, in, length, length + (long) Integer.BYTES * (left - 1));
+        int end = buf.position() + length;
+        element = buf.slice(buf.position(), length).order(ByteOrder.LITTLE_ENDIAN);
+        E obj = codec.read(element);
+        buf.position(end);
+        return obj;
+    }
+
+    /**
+     * Saves a MyArrayList to a channel
+     * @param list the list to save
+     * @param out channel to write to; it is not closed
+     * @param codec turns each element into bytes
+     * @throws IOException if the channel can't be written to
+     */
+    public static <E> void write(MyArrayList<E> list, WritableByteChannel out,
+                                 ElementCodec<? super E> codec) 
+        throws IOException
+    {
+        writeObjects(list.iterator(), list.size(), out, codec);
+    }
+
+    /**
+     * Saves a MyLinkedList to a channel
+     * @param list the list to save
+     * @param out channel to write to; it is not closed
+     * @param codec turns each element into bytes
+     * @throws IOException if the channel can't be written to
+     */
+    public static <E> void write(MyLinkedList<E> list, WritableByteChannel out,
+                                 ElementCodec<? super E> codec) 
+        throws IOException
+    {
+        writeObjects(list.iterator(), list.size(), out, codec);
+    }
+
+    /**
+     * Loads a list that was saved with write into a MyArrayList
+     * @param in channel to read from; it is not closed
+     * @param codec turns the bytes back into elements
+     * @return the loaded list
+     * @throws IOException if the channel does not hold a saved list
+     */
+    public static <E> MyArrayList<E> readArrayList(ReadableByteChannel in, 
+                                                   ElementCodec<E> codec) 
+        throws IOException
+    {
+        ByteBuffer buf = newBuffer();
+        buf.flip();
+        int size = getHeader(buf, in, KIND_OBJECT);
+        MyArrayList<E> list = new MyArrayList<E>(initialCapacity(size, buf, in));
+        for (int i = 0; i < size; i++)
+            list.add(readObject(buf, in, codec, size - i));
+        return list;
+    }
+
+    /**
+     * Loads a list that was saved with write into a MyLinkedList
+     * @param in channel to read from; it is not closed
+     * @param codec turns the bytes back into elements
+     * @return the loaded list
+     * @throws IOException if the channel does not hold a saved list
+     */
+    public static <E> MyLinkedList<E> readLinkedList(ReadableByteChannel in, 
+                                                     ElementCodec<E> codec) 
+        throws IOException
+    {
+        ByteBuffer buf = newBuffer();
+        buf.flip();
+        int size = getHeader(buf, in, KIND_OBJECT);
+        MyLinkedList<E> list = new MyLinkedList<E>();
+        for (int i = 0; i < size; i++)
+            list.addLast(readObject(buf, in, codec, size - i));
+        return list;
+    }
+
+    /**
+     * Saves a MyIntArrayList as raw 4-byte values
+     * @param list the list to save
+     * @param out channel to write to; it is not closed
+     * @throws IOException if the channel can't be written to
+     */
+    public static void write(MyIntArrayList list, WritableByteChannel out) 
+        throws IOException
+    {
+        ByteBuffer buf = newBuffer();
+        putHeader(buf, KIND_INT, list.size());
+        for (int i = 0; i < list.size(); i++)
+        {
+            reserve(buf, out, Integer.BYTES);
+            buf.putInt(list.get(i));
+        }
+        drain(buf, out);
+    }
+
+    /**
+     * Loads a MyIntArrayList that was saved with write
+     * @param in channel to read from; it is not closed
+     * @return the loaded list
+     * @throws IOException if the channel does not hold a saved int list
+     */
+    public static MyIntArrayList readIntList(ReadableByteChannel in) 
+        throws IOException
+    {
+        ByteBuffer buf = newBuffer();
+        buf.flip();
+        int size = getHeader(buf, in, KIND_INT);
+        MyIntArrayList list = new MyIntArrayList();
+        for (int i = 0; i < size; i++)
+        {
+            require(buf, in, Integer.BYTES, (long) Integer.BYTES * (size - i));
+            list.add(buf.getInt());
+        }
+        return list;
+    }
+
+    /**
+     * Saves a MyLongArrayList as raw 8-byte values
+     * @param list the list to save
+     * @param out channel to write to; it is not closed
+     * @throws IOException if the channel can't be written to
+     */
+    public static void write(MyLongArrayList list, WritableByteChannel out) 
+        throws IOException
+    {
+        ByteBuffer buf = newBuffer();
+        putHeader(buf, KIND_LONG, list.size());
+        for (int i = 0; i < list.size(); i++)
+        {
+            reserve(buf, out, Long.BYTES);
+            buf.putLong(list.get(i));
+        }
+        drain(buf, out);
+    }
+
+    /**
+     * Loads a MyLongArrayList that was saved with write
+     * @param in channel to read from; it is not closed
+     * @return the loaded list
+     * @throws IOException if the channel does not hold a saved long list
+     */
+    public static MyLongArrayList readLongList(ReadableByteChannel in) 
+        throws IOException
+    {
+        ByteBuffer buf = newBuffer();
+        buf.flip();
+        int size = getHeader(buf, in, KIND_LONG);
+        MyLongArrayList list = new MyLongArrayList();
+        for (int i = 0; i < size; i++)
+        {
+            require(buf, in, Long.BYTES, (long) Long.BYTES * (size - i));
+            list.add(buf.getLong());
+        }
+        return list;
+    }
+
+    /**
+     * Saves a MyDoubleArrayList as raw 8-byte values
+     * @param list the list to save
+     * @param out channel to write to; it is not closed
+     * @throws IOException if the channel can't be written to
+     */
+    public static void write(MyDoubleArrayList list, WritableByteChannel out) 
+        throws IOException
+    {
+        ByteBuffer buf = newBuffer();
+        putHeader(buf, KIND_DOUBLE, list.size());
+        for (int i = 0; i < list.size(); i++)
+        {
+            reserve(buf, out, Double.BYTES);
+            buf.putDouble(list.get(i));
+        }
+        drain(buf, out);
+    }
+
+    /**
+     * Loads a MyDoubleArrayList that was saved with write
+     * @param in channel to read from; it is not closed
+     * @return the loaded list
+     * @throws IOException if the channel does not hold a saved double list
+     */
+    public static MyDoubleArrayList readDoubleList(ReadableByteChannel in) 
+        throws IOException
+    {
+        ByteBuffer buf = newBuffer();
+        buf.flip();
+        int size = getHeader(buf, in, KIND_DOUBLE);
+        MyDoubleArrayList list = new MyDoubleArrayList();
+        for (int i = 0; i < size; i++)
+        {
+            require(buf, in, Double.BYTES, (long) Double.BYTES * (size - i));
+            list.add(buf.getDouble());
+        }
+        return list;
+    }
+}
@@ -0,0 +1,266 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * ListCodecCheck saves every kind of list ListCodec knows to a channel,
+ *  loads it back and checks that nothing changed, then checks that a
+ *  damaged or cut-short stream is rejected instead of misread.
+ *
+ * The round trips cover empty lists, nulls, strings that are not ASCII
+ *  or are bigger than ListCodec's buffer, and several lists written one
+ *  after another to the same channel, which have to come back in order
+ *  with nothing left over.
+ *
+ * Usage: java ListCodecCheck
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class ListCodecCheck
+{
+    private static final int SIZE_OFFSET = 7;   //where the header keeps the size
+
+    /**
+     * Runs every check
+     * @param args not used
+     * @throws IOException if a temporary file can't be used
+     */
+    public static void main(String[] args) throws IOException
+    {
+        objectLists();
+        report("object lists");
+        primitiveLists();
+        report("primitive lists");
+        backToBack();
+        report("lists back to back");
+        corruptSize();
+        report("corrupt size");
+        cutShort();
+        report("cut short");
+    }
+
+    /**
+     * Prints that a check passed
+     * @param name name of the check
+     */
+    private static void report(String name)
+    {
+        System.out.println(name + ": ok");
+    }
+
+    /**
+     * Throws if two things that should match don't
+     * @param what what is being compared
+     * @param expected the value it should have
+     * @param actual the value it has
+     */
+    private static void check(String what, Object expected, Object actual)
+    {
+        if (!String.valueOf(expected).equals(String.valueOf(actual)))
+            throw new RuntimeException(what + ": expected " + expected
+                + " but got " + actual);
+    }
+
+    /**
+     * @param bytes bytes to read
+     * @return a channel reading them, which is not seekable
+     */
+    private static ReadableByteChannel reader(byte[] bytes)
+    {
+        return Channels.newChannel(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * @return strings that are empty, null, not ASCII, or longer than
+     *  ListCodec's 64 KB buffer, next to ordinary ones
+     */
+    private static MyArrayList<String> strings()
+    {
+        MyArrayList<String> list = new MyArrayList<String>();
+        list.add("");
+        list.add(null);
+        list.add("h\u00e9llo w\u00f6rld \u20ac");
+        list.add("\ud83d\ude00 surrogate pair");
+        list.add("x".repeat(200_000));
+        list.add("\u20ac".repeat(30_000));
+        for (int i = 0; i < 10_000; i++)
+            list.add(i % 7 == 0 ? null : "element " + i);
+        return list;
+    }
+
+    /**
+     * Round-trips strings and longs through MyArrayList and MyLinkedList
+     * @throws IOException never; the channels are in memory
+     */
+    private static void objectLists() throws IOException
+    {
+        MyArrayList<String> strings = strings();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ListCodec.write(strings, Channels.newChannel(bytes), ElementCodec.STRING);
+        check("strings", strings,
+            ListCodec.readArrayList(reader(bytes.toByteArray()), ElementCodec.STRING));
+
+        MyLinkedList<Long> longs = new MyLinkedList<Long>();
+        for (long i = 0; i < 100_000; i++)
+            longs.addLast(i % 3 == 0 ? null : i * 1_000_003L);
+        bytes.reset();
+        ListCodec.write(longs, Channels.newChannel(bytes), ElementCodec.LONG);
+        check("longs", longs,
+            ListCodec.readLinkedList(reader(bytes.toByteArray()), ElementCodec.LONG));
+
+        MyArrayList<Double> empty = new MyArrayList<Double>();
+        bytes.reset();
+        ListCodec.write(empty, Channels.newChannel(bytes), ElementCodec.DOUBLE);
+        check("empty", empty,
+            ListCodec.readArrayList(reader(bytes.toByteArray()), ElementCodec.DOUBLE));
+    }
+
+    /**
+     * Round-trips the int, long and double lists
+     * @throws IOException never; the channels are in memory
+     */
+    private static void primitiveLists() throws IOException
+    {
+        MyIntArrayList ints = new MyIntArrayList();
+        MyLongArrayList longs = new MyLongArrayList();
+        MyDoubleArrayList doubles = new MyDoubleArrayList();
+        for (int i = 0; i < 100_000; i++)
+        {
+            ints.add(i * 31 - 50_000);
+            longs.add((long) i << 33);
+            doubles.add(i / 7.0);
+        }
+        doubles.add(Double.NaN);
+        doubles.add(Double.NEGATIVE_INFINITY);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ListCodec.write(ints, Channels.newChannel(bytes));
+        check("ints", ints, ListCodec.readIntList(reader(bytes.toByteArray())));
+        bytes.reset();
+        ListCodec.write(longs, Channels.newChannel(bytes));
+        check("longs", longs, ListCodec.readLongList(reader(bytes.toByteArray())));
+        bytes.reset();
+        ListCodec.write(doubles, Channels.newChannel(bytes));
+        check("doubles", doubles, ListCodec.readDoubleList(reader(bytes.toByteArray())));
+    }
+
+    /**
+     * Writes several lists to one channel and reads them back in order,
+     *  then checks the channel has nothing left
+     * @throws IOException never; the channels are in memory
+     */
+    private static void backToBack() throws IOException
+    {
+        MyArrayList<String> strings = strings();
+        MyIntArrayList ints = new MyIntArrayList();
+        for (int i = 0; i < 5; i++)
+            ints.add(i);
+        MyLinkedList<Integer> small = new MyLinkedList<Integer>();
+        small.addLast(42);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WritableByteChannel out = Channels.newChannel(bytes);
+        ListCodec.write(strings, out, ElementCodec.STRING);
+        ListCodec.write(ints, out);
+        ListCodec.write(small, out, ElementCodec.INT);
+        ListCodec.write(strings, out, ElementCodec.STRING);
+
+        ReadableByteChannel in = reader(bytes.toByteArray());
+        check("first", strings, ListCodec.readArrayList(in, ElementCodec.STRING));
+        check("second", ints, ListCodec.readIntList(in));
+        check("third", small, ListCodec.readLinkedList(in, ElementCodec.INT));
+        check("fourth", strings, ListCodec.readArrayList(in, ElementCodec.STRING));
+        check("bytes left", -1, in.read(ByteBuffer.allocate(1)));
+    }
+
+    /**
+     * Checks that a header claiming far more elements than were saved
+     *  is rejected from a file before anything big is allocated, and
+     *  fails cleanly from a stream
+     * @throws IOException if the temporary file can't be used
+     */
+    private static void corruptSize() throws IOException
+    {
+        MyArrayList<Integer> list = new MyArrayList<Integer>();
+        for (int i = 0; i < 10; i++)
+            list.add(i);
+        Path file = Files.createTempFile("ListCodecCheck", ".bin");
+        try
+        {
+            try (FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE))
+            {
+                ListCodec.write(list, out, ElementCodec.INT);
+                ByteBuffer size = ByteBuffer.allocate(Integer.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN).putInt(0, 2_000_000_000);
+                out.write(size, SIZE_OFFSET);
+            }
+            try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ))
+            {
+                ListCodec.readArrayList(in, ElementCodec.INT);
+                throw new RuntimeException("Corrupt size was read from a file");
+            }
+            catch (EOFException e)
+            {
+                throw new RuntimeException("Corrupt size was not caught up front", e);
+            }
+            catch (IOException e)
+            {
+                //expected
+            }
+            try
+            {
+                ListCodec.readArrayList(reader(Files.readAllBytes(file)), ElementCodec.INT);
+                throw new RuntimeException("Corrupt size was read from a stream");
+            }
+            catch (EOFException e)
+            {
+                //expected
+            }
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Checks that every way of cutting a saved list short is an
+     *  EOFException rather than a wrong list
+     * @throws IOException never; the channels are in memory
+     */
+    private static void cutShort() throws IOException
+    {
+        MyArrayList<String> list = new MyArrayList<String>();
+        list.add("one");
+        list.add(null);
+        list.add("three");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListCodec.write(list, Channels.newChannel(out), ElementCodec.STRING);
+        byte[] full = out.toByteArray();
+        for (int length = 0; length < full.length; length++)
+        {
+            byte[] cut = new byte[length];
+            System.arraycopy(full, 0, cut, 0, length);
+            try
+            {
+                ListCodec.readArrayList(reader(cut), ElementCodec.STRING);
+                throw new RuntimeException("List cut to " + length + " bytes was read");
+            }
+            catch (EOFException e)
+            {
+                //expected
+            }
+        }
+    }
+}
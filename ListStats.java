@@ -0,0 +1,387 @@
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * ListStats collects counters about what a MyArrayList or MyLinkedList
+ *  is doing: how often the array grows and how much it copies, how far
+ *  add(index) and remove(index) shift elements, how many nodes getNode
+ *  walks over, and (if asked for) how long each operation takes.
+ *
+ * Stats are off unless a ListStats is handed to the list with setStats;
+ *  a list without one only pays a null check per operation. Counting
+ *  is a few additions, but timing calls System.nanoTime twice per
+ *  operation, which costs more than a get on an array, so it has to be
+ *  turned on separately.
+ *
+ * Distances and times go into histograms shaped like HdrHistogram's:
+ *  each power of two is split into 8 equal buckets, so a value is off
+ *  by at most 1/8 and the whole range of a long fits in under 500
+ *  counters without any allocation while recording.
+ *
+ * Like the lists, a ListStats isn't safe to update from more than one
+ *  thread. snapshot() makes a copy that can be handed to another thread.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class ListStats
+{
+    public static final int GET = 0;
+    public static final int SET = 1;
+    public static final int ADD = 2;
+    public static final int ADD_INDEX = 3;
+    public static final int REMOVE = 4;
+    private static final String[] OP_NAMES = {"get", "set", "add", "addIndex", "remove"};
+
+    //size of one element reference, assuming compressed references
+    //(the default for heaps under 32 GB)
+    private static final int REFERENCE_BYTES = 4;
+
+    private final boolean timing;
+    private long resizes;
+    private long resizeCopies;      //elements copied by resizes
+    private final Histogram shifts;
+    private final Histogram walks;
+    private final Histogram[] latency;
+
+    /**
+     * Constructor for ListStats that counts but doesn't time operations
+     */
+    public ListStats()
+    {
+        this(false);
+    }
+
+    /**
+     * Constructor for ListStats
+     * @param timing true to also record how long each operation takes
+     */
+    public ListStats(boolean timing)
+    {
+        this.timing = timing;
+        shifts = new Histogram();
+        walks = new Histogram();
+        latency = new Histogram[OP_NAMES.length];
+        for (int i = 0; i < latency.length; i++)
+            latency[i] = new Histogram();
+    }
+
+    /**
+     * Copy constructor used by snapshot
+     * @param other stats to copy
+     */
+    private ListStats(ListStats other)
+    {
+        timing = other.timing;
+        resizes = other.resizes;
+        resizeCopies = other.resizeCopies;
+        shifts = other.shifts.copy();
+        walks = other.walks.copy();
+        latency = new Histogram[OP_NAMES.length];
+        for (int i = 0; i < latency.length; i++)
+            latency[i] = other.latency[i].copy();
+    }
+
+    /**
+     * Records that the backing array was replaced by a longer one
+     * @param copied number of elements copied into the new array
+     */
+    void resized(int copied)
+    {
+        resizes++;
+        resizeCopies += copied;
+    }
+
+    /**
+     * Records how many elements an add or remove moved over
+     * @param distance number of elements shifted
+     */
+    void shifted(int distance)
+    {
+        shifts.record(distance);
+    }
+
+    /**
+     * Records how many links a node lookup followed
+     * @param steps number of nodes stepped over
+     */
+    void walked(int steps)
+    {
+        walks.record(steps);
+    }
+
+    /**
+     * Starts timing an operation
+     * @return the time to hand to stop, or 0 if timing is off
+     */
+    long start()
+    {
+        return timing ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Finishes timing an operation
+     * @param op GET, SET, ADD, ADD_INDEX or REMOVE
+     * @param start what start returned
+     */
+    void stop(int op, long start)
+    {
+        if (timing)
+            latency[op].record(System.nanoTime() - start);
+    }
+
+    /**
+     * @return true if operations are being timed
+     */
+    public boolean isTiming()
+    {
+        return timing;
+    }
+
+    /**
+     * @return number of times the backing array grew
+     */
+    public long getResizes()
+    {
+        return resizes;
+    }
+
+    /**
+     * @return bytes of references copied by resizes
+     */
+    public long getBytesCopied()
+    {
+        return resizeCopies * REFERENCE_BYTES;
+    }
+
+    /**
+     * @return histogram of how many elements each add(index)
+     *  and remove(index) shifted
+     */
+    public Histogram getShifts()
+    {
+        return shifts;
+    }
+
+    /**
+     * @return histogram of how many nodes each node lookup walked over
+     */
+    public Histogram getWalks()
+    {
+        return walks;
+    }
+
+    /**
+     * @param op GET, SET, ADD, ADD_INDEX or REMOVE
+     * @return histogram of how many nanoseconds each call took
+     */
+    public Histogram getLatency(int op)
+    {
+        return latency[op];
+    }
+
+    /**
+     * @return a copy of the stats as they are now, which later
+     *  operations won't change
+     */
+    public ListStats snapshot()
+    {
+        return new ListStats(this);
+    }
+
+    /**
+     * Sets every counter and histogram back to zero
+     */
+    public void reset()
+    {
+        resizes = 0;
+        resizeCopies = 0;
+        shifts.reset();
+        walks.reset();
+        for (Histogram h : latency)
+            h.reset();
+    }
+
+    /**
+     * @return the stats as a JSON object
+     */
+    public String toString()
+    {
+        StringBuilder s = new StringBuilder("{");
+        s.append("\"resizes\": ").append(resizes)
+            .append(", \"bytesCopied\": ").append(getBytesCopied())
+            .append(", \"shifts\": ").append(shifts)
+            .append(", \"walks\": ").append(walks);
+        if (timing)
+        {
+            s.append(", \"latencyNanos\": {");
+            for (int i = 0; i < latency.length; i++)
+            {
+                if (i > 0)
+                    s.append(", ");
+                s.append('"').append(OP_NAMES[i]).append("\": ").append(latency[i]);
+            }
+            s.append('}');
+        }
+        return s.append('}').toString();
+    }
+
+    /**
+     * A histogram of non-negative longs in log-linear buckets: values
+     *  below 8 get a bucket each, and every power of two above that is
+     *  split into 8 buckets of equal width
+     *
+     * @author Arnav Dani
+     * @version 10.18.26
+     */
+    public static class Histogram
+    {
+        private static final int SUB_BITS = 3;
+        private static final int SUB_COUNT = 1 << SUB_BITS;
+        private static final int BUCKETS = (64 - SUB_BITS) * SUB_COUNT;
+
+        private final long[] counts;
+        private long count;
+        private long total;
+        private long max;
+
+        /**
+         * Constructor for an empty Histogram
+         */
+        public Histogram()
+        {
+            counts = new long[BUCKETS];
+        }
+
+        /**
+         * @param value a non-negative value
+         * @return the bucket value falls in
+         */
+        private static int bucket(long value)
+        {
+            if (value < SUB_COUNT)
+                return (int) value;
+            int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+            return (shift + 1) * SUB_COUNT + (int) (value >>> shift) - SUB_COUNT;
+        }
+
+        /**
+         * @param bucket a bucket index
+         * @return the smallest value that falls in the bucket
+         */
+        private static long lowest(int bucket)
+        {
+            if (bucket < SUB_COUNT)
+                return bucket;
+            int shift = bucket / SUB_COUNT - 1;
+            return (long) (SUB_COUNT + bucket % SUB_COUNT) << shift;
+        }
+
+        /**
+         * Adds a value to the histogram; negative values count as 0
+         * @param value the value to record
+         */
+        public void record(long value)
+        {
+            if (value < 0)
+                value = 0;
+            counts[bucket(value)]++;
+            count++;
+            total += value;
+            if (value > max)
+                max = value;
+        }
+
+        /**
+         * @return number of values recorded
+         */
+        public long getCount()
+        {
+            return count;
+        }
+
+        /**
+         * @return sum of the values recorded
+         */
+        public long getTotal()
+        {
+            return total;
+        }
+
+        /**
+         * @return largest value recorded, or 0 if there are none
+         */
+        public long getMax()
+        {
+            return max;
+        }
+
+        /**
+         * @return average of the values recorded, or 0 if there are none
+         */
+        public double getMean()
+        {
+            return count == 0 ? 0 : (double) total / count;
+        }
+
+        /**
+         * Finds a value that at least a given percent of the
+         *  recorded values are no bigger than
+         * @param percent from 0 to 100
+         * @return the top of the bucket holding that percentile, never
+         *  more than the largest value recorded; 0 if there are none
+         */
+        public long getPercentile(double percent)
+        {
+            if (count == 0)
+                return 0;
+            long rank = Math.max(1, (long) Math.ceil(percent / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++)
+            {
+                seen += counts[i];
+                if (seen >= rank)
+                    return i + 1 < BUCKETS ? Math.min(max, lowest(i + 1) - 1) : max;
+            }
+            return max;
+        }
+
+        /**
+         * Sets the histogram back to empty
+         */
+        public void reset()
+        {
+            Arrays.fill(counts, 0);
+            count = 0;
+            total = 0;
+            max = 0;
+        }
+
+        /**
+         * @return a separate histogram with the same values
+         */
+        public Histogram copy()
+        {
+            Histogram h = new Histogram();
+            System.arraycopy(counts, 0, h.counts, 0, BUCKETS);
+            h.count = count;
+            h.total = total;
+            h.max = max;
+            return h;
+        }
+
+        /**
+         * @return a summary of the histogram as a JSON object
+         */
+        public String toString()
+        {
+            return "{\"count\": " + count + ", \"mean\": "
+                + String.format(Locale.ROOT, "%.1f", getMean())
+                + ", \"p50\": " + getPercentile(50)
+                + ", \"p90\": " + getPercentile(90)
+                + ", \"p99\": " + getPercentile(99)
+                + ", \"p999\": " + getPercentile(99.9)
+                + ", \"max\": " + max + "}";
+        }
+    }
+}
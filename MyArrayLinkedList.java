@@ -0,0 +1,398 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * MyArrayLinkedList is a doubly linked list that keeps its nodes in
+ *  arrays instead of as separate objects.
+ *
+ * "Node" i is made up of values[i], next[i] and prev[i], and the links
+ *  are array indexes instead of references (-1 means there is no node).
+ *  Slots of removed nodes are chained together into a free list through
+ *  next[] and are reused by later adds.
+ *
+ * Since the nodes sit next to each other in three arrays instead of
+ *  being scattered around the heap, walking the list is much friendlier
+ *  to the cache, and adding or removing doesn't create garbage.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ *
+ * @param <E> generic type of all the objects
+ *  in the structure
+ */
+public class MyArrayLinkedList<E>
+{
+    private static final int NONE = -1;
+
+    private Object[] values;
+    private int[] next;
+    private int[] prev;
+    private int first;
+    private int last;
+    private int freeHead;   //first slot of the free list
+    private int used;       //slots at or past this index have never been used
+    private int size;
+    private int modCount;
+
+    /**
+     * Constructor for MyArrayLinkedList
+     */
+    public MyArrayLinkedList()
+    {
+        values = new Object[8];
+        next = new int[8];
+        prev = new int[8];
+        first = NONE;
+        last = NONE;
+        freeHead = NONE;
+        used = 0;
+        size = 0;
+    }
+
+    /**
+     * Converts the properties of the list into a readable string
+     * @return String to test output
+     */
+    public String toString()
+    {
+        StringBuilder s = new StringBuilder("[");
+        for (int node = first; node != NONE; node = next[node])
+        {
+            s.append(values[node]);
+            if (next[node] != NONE)
+                s.append(", ");
+        }
+        return s.append("]").toString();
+    }
+
+    /**
+     * Reads the value a node holds; the one place the list casts what
+     *      it stores back to E, since only Es are ever stored
+     * @param node index of the node
+     * @return the node's value
+     */
+    @SuppressWarnings("unchecked")
+    private E elementAt(int node)
+    {
+        return (E) values[node];
+    }
+
+    /**
+     * Takes a slot for a new node, from the free list if possible
+     * @param obj the value the node holds
+     * @return index of the new node
+     * @postcondition the arrays double in length (but grow no longer
+     *               than GrowthPolicy.MAX_ARRAY_SIZE) if every slot is taken
+     */
+    private int newNode(Object obj)
+    {
+        int node;
+        if (freeHead != NONE)
+        {
+            node = freeHead;
+            freeHead = next[node];
+        }
+        else
+        {
+            if (used == values.length)
+            {
+                int newLength = GrowthPolicy.clamp(2L * values.length, used + 1);
+                values = Arrays.copyOf(values, newLength);
+                next = Arrays.copyOf(next, newLength);
+                prev = Arrays.copyOf(prev, newLength);
+            }
+            node = used;
+            used++;
+        }
+        values[node] = obj;
+        return node;
+    }
+
+    /**
+     * Unlinks a node from the list and puts its slot on the free list
+     * @param node index of the node to remove
+     * @return the value the node held
+     */
+    private E unlink(int node)
+    {
+        E obj = elementAt(node);
+        int before = prev[node];
+        int after = next[node];
+        if (before == NONE)
+            first = after;
+        else
+            next[before] = after;
+        if (after == NONE)
+            last = before;
+        else
+            prev[after] = before;
+
+        values[node] = null;
+        next[node] = freeHead;
+        freeHead = node;
+        size--;
+        modCount++;
+        return obj;
+    }
+
+    /**
+     * Links a new node in right before another one
+     * @param obj value for the new node
+     * @param after node that will follow the new one, or NONE to add last
+     */
+    private void linkBefore(Object obj, int after)
+    {
+        int node = newNode(obj);
+        int before = after == NONE ? last : prev[after];
+        prev[node] = before;
+        next[node] = after;
+        if (before == NONE)
+            first = node;
+        else
+            next[before] = node;
+        if (after == NONE)
+            last = node;
+        else
+            prev[after] = node;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * @precondition  0 <= index < size
+     * @postcondition starting from first or last (whichever
+     *               is closer), returns the node with given index
+     * @param index index of the node
+     * @return the array slot of that node
+     */
+    private int getNode(int index)
+    {
+        if (index < 0 || index >= size)
+            throw new RuntimeException("Index is out of bounds");
+
+        int node;
+        if (index > size / 2)
+        {
+            node = last;
+            for (int i = size - 1; i > index; i--)
+                node = prev[node];
+        }
+        else
+        {
+            node = first;
+            for (int i = 0; i < index; i++)
+                node = next[node];
+        }
+        return node;
+    }
+
+    /**
+     * Gets the size of the list
+     * @return size of the list
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * gets the object at a specific index
+     * @param index index to get object at
+     * @return the object at index
+     */
+    public E get(int index)
+    {
+        return elementAt(getNode(index));
+    }
+
+    /**
+     * @postcondition replaces the element at position index with obj
+     * @param index index to replace object at
+     * @param obj object to replace object at index with
+     * @return element that was replaced
+     */
+    public E set(int index, E obj)
+    {
+        int node = getNode(index);
+        E oldObj = elementAt(node);
+        values[node] = obj;
+        return oldObj;
+    }
+
+    /**
+     * @postcondition appends obj to end of list; returns true
+     * @param obj object to add at the back
+     * @return true;
+     */
+    public boolean add(E obj)
+    {
+        addLast(obj);
+        return true;
+    }
+
+    /**
+     * @precondition  0 <= index <= size
+     * @postcondition inserts obj at position index,
+     *                moving elements at position index and higher
+     *                to the right (adds 1 to their indices) and adjusts size
+     * @param index index to add the object at
+     * @param obj object to add at specific index
+     */
+    public void add(int index, E obj)
+    {
+        if (index == size)
+            addLast(obj);
+        else
+            linkBefore(obj, getNode(index));
+    }
+
+    /**
+     * @postcondition removes element from position index, moving elements
+     *               at position index + 1 and higher to the left
+     *               and adjusts size
+     * @param index index at which to remove object
+     * @return element removed
+     */
+    public E remove(int index)
+    {
+        return unlink(getNode(index));
+    }
+
+    /**
+     * Adds an element to the front of the list
+     * @param obj object to add at the front
+     */
+    public void addFirst(E obj)
+    {
+        linkBefore(obj, first);
+    }
+
+    /**
+     * Adds an element to the back of the list
+     * @param obj object to add at the back
+     */
+    public void addLast(E obj)
+    {
+        linkBefore(obj, NONE);
+    }
+
+    /**
+     * gets the object at the front of the list
+     * @return object at the front node
+     */
+    public E getFirst()
+    {
+        if (first == NONE)
+            throw new RuntimeException("NoSuchElementException");
+        return elementAt(first);
+    }
+
+    /**
+     * gets the object at the back of the list
+     * @return object at last node
+     */
+    public E getLast()
+    {
+        if (last == NONE)
+            throw new RuntimeException("NoSuchElementException");
+        return elementAt(last);
+    }
+
+    /**
+     * removes the first element in the list
+     * @return the element removed
+     */
+    public E removeFirst()
+    {
+        if (first == NONE)
+            throw new RuntimeException("NoSuchElementException");
+        return unlink(first);
+    }
+
+    /**
+     * removes the last element in the list
+     * @return the element removed
+     */
+    public E removeLast()
+    {
+        if (last == NONE)
+            throw new RuntimeException("NoSuchElementException");
+        return unlink(last);
+    }
+
+    /**
+     * gets the iterator to iterate over the list
+     * @return the iterator
+     */
+    public Iterator<E> iterator()
+    {
+        return new MyArrayLinkedListIterator();
+    }
+
+    /**
+     * Defines the properties of the iterator which
+     *  follows the index links through MyArrayLinkedList
+     *
+     * @author Arnav Dani
+     * @version 10.18.26
+     */
+    private class MyArrayLinkedListIterator implements Iterator<E>
+    {
+        private int nextNode;
+        private int lastReturned;
+        private int expectedModCount;
+
+        /**
+         * Constructor for the iterator
+         *  initializes all instance variables
+         */
+        public MyArrayLinkedListIterator()
+        {
+            nextNode = first;
+            lastReturned = NONE;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * checks whether there is a next element
+         * @return if there is a next element
+         */
+        public boolean hasNext()
+        {
+            return nextNode != NONE;
+        }
+
+        /**
+         * iterates to the next object and
+         *  returns the value just passed
+         * @return the value at the node just
+         *  passed by the iterator
+         */
+        public E next()
+        {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (nextNode == NONE)
+                throw new NoSuchElementException();
+            lastReturned = nextNode;
+            nextNode = next[nextNode];
+            return elementAt(lastReturned);
+        }
+
+        /**
+         * removes the element last returned by next
+         */
+        public void remove()
+        {
+            if (lastReturned == NONE)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            unlink(lastReturned);
+            lastReturned = NONE;
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -1,6 +1,27 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.ConcurrentModificationException;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Describes the methods and properties of the ArrayList data structure
@@ -15,48 +36,184 @@ import java.util.ConcurrentModificationException;
  * 
  * @param <E> type of object making up the ArrayList
  */
-public class MyArrayList<E>
+public class MyArrayList<E> implements Iterable<E>
 {
+    //lists at least this long are sorted with the fork/join merge sort
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+    //ranges at most this long are sorted on one thread by Arrays.sort
+    private static final int SORT_GRAIN = 1 << 13;
+
     private int size;
     private Object[] values;  //(Java doesn't let us make an array of type E)
+    private GrowthPolicy growth;
+    private int modCount;   //counts structural changes, for fail-fast iterators
+    private ListStats stats;    //null unless instrumentation is turned on
 
     /**
      * Constructor for MyArrayList Object
      */
     public MyArrayList()
     {
+        this(1);
+    }
+
+    /**
+     * Constructor for a MyArrayList that starts with room for
+     *      initialCapacity elements and doubles when it fills up
+     * @param initialCapacity length of the starting array
+     */
+    public MyArrayList(int initialCapacity)
+    {
+        this(initialCapacity, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Constructor for a MyArrayList with a starting capacity
+     *      and a policy for how it grows
+     * @param initialCapacity length of the starting array
+     * @param growth decides the new length each time the array is full
+     */
+    public MyArrayList(int initialCapacity, GrowthPolicy growth)
+    {
+        if (initialCapacity < 0 || initialCapacity > GrowthPolicy.MAX_ARRAY_SIZE)
+            throw new RuntimeException("Illegal capacity: " + initialCapacity);
+
         size = 0;
-        values = new Object[1];
+        values = new Object[initialCapacity];
+        this.growth = growth;
     }
 
     /**
-     * @return a string of the array in a readable form for testing
+     * @return a string of the list in a readable form for testing
      */
     public String toString()
     {
-        if (size == 0)
-            return "[]";
+        StringBuilder s = new StringBuilder();
+        try
+        {
+            writeTo(s, String::valueOf, Integer.MAX_VALUE);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);  //a StringBuilder never throws
+        }
+        return s.toString();
+    }
 
-        String s = "[";
-        for (int i = 0; i < size - 1; i++)
-            s += values[i] + ", ";
-        return s + values[size - 1] + "]";
+    /**
+     * Writes the list in the same form as toString, one element
+     *      at a time, without building the whole string first
+     * @param out where the text is written
+     * @throws IOException if out can't be written to
+     */
+    public void writeTo(Appendable out) throws IOException
+    {
+        writeTo(out, String::valueOf, Integer.MAX_VALUE);
     }
 
     /**
-     * Doubles the capacity of the array and duplicates all the values
-     * @postcondition replaces the array with one that is
-     *               twice as long, and copies all of the
-     *               old elements into it
+     * Writes the list as text, one element at a time
+     * @param out where the text is written
+     * @param formatter turns each element into its text
+     * @param maxElements the most elements to write; if the list is
+     *      longer, the rest are summed up as "... (n more)"; may not
+     *      be negative
+     * @throws IOException if out can't be written to
+     * @postcondition writes something like "[a, b, c]" to out, in time
+     *               proportional to the length of the text
      */
-    private void doubleCapacity()
+    public void writeTo(Appendable out, 
+                        Function<? super E, ? extends CharSequence> formatter,
+                        int maxElements) throws IOException
     {
-        Object[] doubleVals = new Object[size * 2];
-        for (int i = 0; i < size; i++)
+        if (maxElements < 0)
+            throw new RuntimeException("maxElements can't be negative");
+        int shown = Math.min(size, maxElements);
+        out.append('[');
+        for (int i = 0; i < shown; i++)
         {
-            doubleVals[i] = values[i];
+            if (i > 0)
+                out.append(", ");
+            out.append(formatter.apply(elements()[i]));
         }
-        values = doubleVals;
+        if (shown < size)
+        {
+            if (shown > 0)
+                out.append(", ");
+            out.append("... (").append(String.valueOf(size - shown))
+                .append(" more)");
+        }
+        out.append(']');
+    }
+
+    /**
+     * Writes the list as UTF-8 text to a stream, buffering the output
+     * @param out the stream the text is written to; it is flushed
+     *      but not closed
+     * @param formatter turns each element into its text
+     * @param maxElements the most elements to write
+     * @throws IOException if out can't be written to
+     */
+    public void writeUtf8(OutputStream out, 
+                          Function<? super E, ? extends CharSequence> formatter,
+                          int maxElements) throws IOException
+    {
+        Writer writer = new BufferedWriter(
+            new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeTo(writer, formatter, maxElements);
+        writer.flush();
+    }
+
+    /**
+     * Views the array as an E[]; the one place the list casts what it
+     *      stores back to E. E is erased to Object, so the cast never
+     *      fails at runtime, and only elements of type E are ever stored
+     * @return the values array
+     */
+    @SuppressWarnings("unchecked")
+    private E[] elements()
+    {
+        return (E[]) values;
+    }
+
+    /**
+     * Grows the array by the growth policy so one more element fits
+     * @postcondition replaces the array with a longer one, and
+     *               copies all of the old elements into it
+     */
+    private void grow()
+    {
+        ensureCapacity(size + 1);
+    }
+
+    /**
+     * Makes sure the array can hold at least minCapacity elements,
+     *      growing it with a single copy if it can't
+     * @param minCapacity the number of elements the array must be able to hold
+     * @postcondition getCapacity() >= minCapacity
+     */
+    public void ensureCapacity(int minCapacity)
+    {
+        if (minCapacity >= 0 && minCapacity <= values.length)
+            return;
+
+        Object[] newVals = 
+            new Object[growth.newCapacity(values.length, minCapacity)];
+        System.arraycopy(values, 0, newVals, 0, size);
+        values = newVals;
+        if (stats != null)
+            stats.resized(size);
+    }
+
+    /**
+     * Shrinks the array so it is exactly as long as the list,
+     *      giving back the space left over after mass removals
+     * @postcondition getCapacity() == size()
+     */
+    public void trimToSize()
+    {
+        if (size < values.length)
+            values = Arrays.copyOf(values, size);
     }
 
     /**
@@ -68,6 +225,24 @@ public class MyArrayList<E>
         return values.length;
     }
 
+    /**
+     * Turns instrumentation on or off for this list
+     * @param stats where the list records what it does, or null to
+     *      stop recording
+     */
+    public void setStats(ListStats stats)
+    {
+        this.stats = stats;
+    }
+
+    /**
+     * @return the stats the list is recording into, or null if none
+     */
+    public ListStats getStats()
+    {
+        return stats;
+    }
+
     /**
      * Returns the number of elements stored in the list
      * @return size of the ArrayList
@@ -86,7 +261,11 @@ public class MyArrayList<E>
         if (index < 0 || index >= size)
             throw new RuntimeException("Index is out of bounds");
 
-        return (E)values[index];
+        long start = stats == null ? 0 : stats.start();
+        E obj = elements()[index];
+        if (stats != null)
+            stats.stop(ListStats.GET, start);
+        return obj;
     }
 
     /** 
@@ -101,10 +280,13 @@ public class MyArrayList<E>
         if (index < 0 || index >= size)
             throw new RuntimeException("Index is out of bounds");
 
-        E oldObj = (E)values[index];
+        long start = stats == null ? 0 : stats.start();
+        E oldObj = elements()[index];
 
         values[index] = obj;
 
+        if (stats != null)
+            stats.stop(ListStats.SET, start);
         return oldObj;
 
         //(You will need to promise the return value is of type E.)
@@ -118,18 +300,22 @@ public class MyArrayList<E>
      */
     public boolean add(E obj)
     {
-        /* if values is already full, call doubleCapacity before adding */
+        /* if values is already full, grow before adding */
 
+        long start = stats == null ? 0 : stats.start();
         if (size < values.length)
         {
             values[size] = obj;
         }
         else
         {
-            doubleCapacity();
+            grow();
             values[size] = obj;
         }
         size++;
+        modCount++;
+        if (stats != null)
+            stats.stop(ListStats.ADD, start);
         return true;
     }
 
@@ -147,19 +333,210 @@ public class MyArrayList<E>
         if (index < 0 || index >= size)
             throw new RuntimeException("Index is out of bounds");
 
-        E removed = (E) values[index];
-        for (int i = index; i < size - 1; i++)
+        long start = stats == null ? 0 : stats.start();
+        E removed = elements()[index];
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        values[size - 1] = null;
+        if (stats != null)
         {
-            values[i] = values[i + 1];
+            stats.shifted(size - index - 1);
+            stats.stop(ListStats.REMOVE, start);
         }
-        values[size - 1] = null;
         size -= 1;
+        modCount++;
 
         return removed;
 
         //(You will need to promise the return value is of type E.)
     }
 
+    /**
+     * Performs an action on every element, in order
+     * @param action what to do with each element
+     */
+    public void forEach(Consumer<? super E> action)
+    {
+        int expected = modCount;
+        for (int i = 0; i < size && modCount == expected; i++)
+            action.accept(elements()[i]);
+        if (modCount != expected)
+            throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Performs an action on every element using all available cores;
+     *      elements are not visited in any particular order
+     * @param action what to do with each element, which must be 
+     *      safe to run from several threads at once
+     */
+    public void parallelForEach(Consumer<? super E> action)
+    {
+        parallelStream().forEach(action);
+    }
+
+    /**
+     * Replaces every element with the result of applying op to it
+     * @param op function giving the new value for each element
+     */
+    public void replaceAll(UnaryOperator<E> op)
+    {
+        for (int i = 0; i < size; i++)
+            values[i] = op.apply(elements()[i]);
+    }
+
+    /**
+     * Replaces every element with the result of applying op to it,
+     *      splitting the array between all available cores
+     * @param op function giving the new value for each element, which
+     *      must be safe to run from several threads at once
+     */
+    public void parallelReplaceAll(UnaryOperator<E> op)
+    {
+        int expected = modCount;
+        E[] vals = elements();
+        IntStream.range(0, size).parallel()
+            .forEach(i -> vals[i] = op.apply(vals[i]));
+        if (modCount != expected)
+            throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Sorts the list in place; the sort is stable
+     * @param c decides the order of the elements, or null to use
+     *      their compareTo
+     * @postcondition small lists are sorted by Arrays.sort (a TimSort
+     *               merge sort) and lists of PARALLEL_SORT_THRESHOLD
+     *               elements or more use parallelSort
+     */
+    public void sort(Comparator<? super E> c)
+    {
+        c = orNaturalOrder(c);
+        if (size >= PARALLEL_SORT_THRESHOLD)
+        {
+            parallelSort(c);
+            return;
+        }
+        int expected = modCount;
+        Arrays.sort(elements(), 0, size, c);
+        if (modCount != expected)
+            throw new ConcurrentModificationException();
+        modCount++;
+    }
+
+    /**
+     * Sorts the list in place with a fork/join merge sort that splits
+     *      the work between all available cores; the sort is stable
+     * @param c decides the order of the elements, or null to use
+     *      their compareTo
+     */
+    public void parallelSort(Comparator<? super E> c)
+    {
+        c = orNaturalOrder(c);
+        int expected = modCount;
+        Object[] buffer = new Object[size];
+        ForkJoinPool.commonPool().invoke(
+            new MergeSortTask<E>(elements(), buffer, 0, size, c));
+        if (modCount != expected)
+            throw new ConcurrentModificationException();
+        modCount++;
+    }
+
+    /**
+     * Searches a sorted list for an object using binary search
+     * @param key object to look for
+     * @param c the order the list is sorted in, or null if it is
+     *      sorted by the elements' compareTo
+     * @return index of key if it is in the list; otherwise 
+     *      -(insertion point) - 1, where the insertion point is 
+     *      the index key would have to be added at
+     * @precondition the list is sorted according to c
+     */
+    public int binarySearch(E key, Comparator<? super E> c)
+    {
+        c = orNaturalOrder(c);
+        int low = 0;
+        int high = size - 1;
+        while (low <= high)
+        {
+            int mid = (low + high) >>> 1;
+            int cmp = c.compare(elements()[mid], key);
+            if (cmp < 0)
+                low = mid + 1;
+            else if (cmp > 0)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Adds an object to a sorted list so that it stays sorted
+     * @param obj object to add
+     * @param c the order the list is sorted in, or null if it is
+     *      sorted by the elements' compareTo
+     * @return the index obj was added at
+     * @precondition the list is sorted according to c
+     * @postcondition obj is added after any elements equal to it,
+     *               so repeated sorted inserts stay stable
+     */
+    public int addSorted(E obj, Comparator<? super E> c)
+    {
+        c = orNaturalOrder(c);
+        int low = 0;
+        int high = size;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            if (c.compare(elements()[mid], obj) <= 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        add(low, obj);
+        return low;
+    }
+
+    /**
+     * Picks the comparator the sorting methods use, so that a null
+     *      comparator means the same thing on every path
+     * @param c comparator passed in by the caller, or null
+     * @return c, or an order that uses the elements' compareTo if c
+     *      is null
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Comparator<? super T> orNaturalOrder(Comparator<? super T> c)
+    {
+        if (c != null)
+            return c;
+        Comparator<Comparable<Object>> natural = Comparator.naturalOrder();
+        return (Comparator<? super T>) (Comparator<?>) natural;
+    }
+
+    /**
+     * @return a spliterator over the list that splits by index range
+     */
+    public Spliterator<E> spliterator()
+    {
+        return new MyArrayListSpliterator(0, -1, 0);
+    }
+
+    /**
+     * @return a sequential stream of the elements in the list
+     */
+    public Stream<E> stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return a stream of the elements that may be processed in parallel
+     */
+    public Stream<E> parallelStream()
+    {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     /**
      * @return the iterator defined inside the class
      */
@@ -173,7 +550,18 @@ public class MyArrayList<E>
      */
     public ListIterator<E> listIterator()
     {
-        return new MyArrayListListIterator();
+        return new MyArrayListListIterator(0);
+    }
+
+    /**
+     * @param index index of the element the first call to next() returns
+     * @return the listiterator defined, starting before index
+     */
+    public ListIterator<E> listIterator(int index)
+    {
+        if (index < 0 || index > size)
+            throw new RuntimeException("Index is out of bounds");
+        return new MyArrayListListIterator(index);
     }
 
     /**
@@ -187,32 +575,196 @@ public class MyArrayList<E>
      */
     public void add(int index, E obj)
     {
-        if (index < 0 || index >= size)
+        if (index < 0 || index > size)
             throw new RuntimeException("Index is out of bounds");
 
+        long start = stats == null ? 0 : stats.start();
         if (size >= values.length)
         {
-            doubleCapacity();
+            grow();
         }
-        for (int i = size - 1; i > index; i++)
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = obj;
+        if (stats != null)
         {
-            values[i + 1] = values[i];
+            stats.shifted(size - index);
+            stats.stop(ListStats.ADD_INDEX, start);
         }
-        values[index] = obj;
         size++;
+        modCount++;
+    }
+
+    /**
+     * Adds every object in the array to the back of the list
+     * @param objs objects to add, in order
+     * @return true if the list changed
+     * @postcondition grows the array at most once and appends
+     *               all of objs to the end of the list
+     */
+    public boolean addAll(E[] objs)
+    {
+        return insertArray(size, objs);
+    }
+
+    /**
+     * Adds every object in the collection to the back of the list
+     * @param objs objects to add, in the collection's iteration order
+     * @return true if the list changed
+     */
+    public boolean addAll(Collection<? extends E> objs)
+    {
+        return insertArray(size, objs.toArray());
+    }
+
+    /**
+     * Adds every object in another MyArrayList to the back of this one
+     * @param other list whose objects are added, in order
+     * @return true if the list changed
+     */
+    public boolean addAll(MyArrayList<? extends E> other)
+    {
+        int count = other.size;
+        ensureCapacity(size + count);
+        System.arraycopy(other.values, 0, values, size, count);
+        size += count;
+        modCount++;
+        return count > 0;
+    }
+
+    /**
+     * Inserts every object in the array starting at the given index
+     * @param index index the first object will end up at
+     * @param objs objects to insert, in order
+     * @return true if the list changed
+     * @precondition  0 <= index <= size
+     * @postcondition shifts elements at position index and higher
+     *               to the right by objs.length in a single move
+     */
+    public boolean insertAll(int index, E[] objs)
+    {
+        return insertArray(index, objs);
+    }
+
+    /**
+     * Inserts every object in the collection starting at the given index
+     * @param index index the first object will end up at
+     * @param objs objects to insert, in the collection's iteration order
+     * @return true if the list changed
+     * @precondition  0 <= index <= size
+     */
+    public boolean insertAll(int index, Collection<? extends E> objs)
+    {
+        return insertArray(index, objs.toArray());
+    }
+
+    /**
+     * Shared helper for the bulk adds, which does one grow
+     *      and one shift no matter how many objects are inserted
+     * @param index index the first object will end up at
+     * @param objs objects to insert
+     * @return true if the list changed
+     */
+    private boolean insertArray(int index, Object[] objs)
+    {
+        if (index < 0 || index > size)
+            throw new RuntimeException("Index is out of bounds");
+
+        int count = objs.length;
+        ensureCapacity(size + count);
+        System.arraycopy(values, index, values, index + count, size - index);
+        System.arraycopy(objs, 0, values, index, count);
+        size += count;
+        modCount++;
+        return count > 0;
+    }
+
+    /**
+     * Removes every element from fromIndex up to, but not including, toIndex
+     * @param fromIndex index of the first element to remove
+     * @param toIndex index after the last element to remove
+     * @precondition  0 <= fromIndex <= toIndex <= size
+     * @postcondition moves the elements after toIndex left in a single
+     *               shift and clears the slots left at the end
+     */
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+            throw new RuntimeException("Index is out of bounds");
+
+        System.arraycopy(values, toIndex, values, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(values, newSize, size, null);
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * Removes every element that matches the filter
+     * @param filter returns true for elements that should be removed
+     * @return true if anything was removed
+     * @postcondition the kept elements are slid left in one pass,
+     *               keeping their order, and the rest are cleared;
+     *               if the filter throws, the list is left unchanged
+     */
+    public boolean removeIf(Predicate<? super E> filter)
+    {
+        //test everything before moving anything, so a filter that
+        //throws part way can't leave the list half compacted
+        int expectedModCount = modCount;
+        BitSet removed = new BitSet(size);
+        for (int i = 0; i < size; i++)
+        {
+            if (filter.test(elements()[i]))
+                removed.set(i);
+        }
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+        if (removed.isEmpty())
+            return false;
+
+        int kept = removed.nextSetBit(0);
+        for (int i = removed.nextClearBit(kept); i < size;
+            i = removed.nextClearBit(i + 1))
+        {
+            values[kept] = values[i];
+            kept++;
+        }
+        Arrays.fill(values, kept, size, null);
+        size = kept;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes every element that is not in the given collection
+     * @param keep collection of elements that should stay in the list
+     * @return true if anything was removed
+     */
+    public boolean retainAll(Collection<?> keep)
+    {
+        return removeIf(obj -> !keep.contains(obj));
     }
 
     /**
      * Defines methods of MyArrayListIterator which iterates 
      *      through the indexes of the arraylist
      * 
+     * next() and hasNext() read the values array directly instead of 
+     *      going through get, and the iterator fails fast with a
+     *      ConcurrentModificationException if the list is structurally
+     *      changed by anything other than the iterator itself
+     * 
      * @author Arnav Dani
      * @version 11/6/20
      */
     private class MyArrayListIterator implements Iterator<E>
     {
         //the index of the value that will be returned by next()
-        private int nextIndex;
+        protected int nextIndex;
+        //index of the value last returned by next() or previous(), or -1
+        protected int lastIndex;
+        //the modCount the list had when this iterator last synced with it
+        protected int expectedModCount;
 
         /**
          * Constructor for iterator
@@ -220,6 +772,18 @@ public class MyArrayList<E>
         public MyArrayListIterator()
         {
             nextIndex = 0;
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Throws if the list was structurally changed
+         *      behind the iterator's back
+         */
+        protected final void checkForComodification()
+        {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
         }
 
         /**
@@ -230,7 +794,7 @@ public class MyArrayList<E>
          */
         public boolean hasNext()
         {
-            return ( nextIndex < size);
+            return nextIndex < size;
         }
 
         /**
@@ -239,9 +803,13 @@ public class MyArrayList<E>
          */
         public E next()
         {
-            E obj = (E) MyArrayList.this.get(nextIndex);
-            nextIndex++;
-            return obj;
+            checkForComodification();
+            int i = nextIndex;
+            if (i >= size)
+                throw new NoSuchElementException();
+            nextIndex = i + 1;
+            lastIndex = i;
+            return elements()[i];
         }
 
         //@postcondition removes the last element that was returned by next
@@ -251,9 +819,13 @@ public class MyArrayList<E>
          */
         public void remove()
         {
-            if (!hasNext())
-                throw new RuntimeException("NoSuchElementException");
-            MyArrayList.this.remove(nextIndex);
+            if (lastIndex < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            MyArrayList.this.remove(lastIndex);
+            nextIndex = lastIndex;
+            lastIndex = -1;
+            expectedModCount = modCount;
         }
     }
 
@@ -272,38 +844,13 @@ public class MyArrayList<E>
         // note the extends MyArrayListIterator 
         // Remember this class thus inherits the methods from the parent class.
 
-        private int nextIndex;
-        private int previousIndex; // Index of element that 
-                        //will be returned by the next call of next()
-        private boolean forward; //direction of traversal
-        private boolean modified;
-
         /**
          * Constructs a new MyArrayListListIterator
+         * @param index index of the element the first call to next() returns
          */
-        public MyArrayListListIterator()
-        {
-            nextIndex = 0;
-            previousIndex = -1;
-            forward = true;
-            modified = false;
-        }
-
-        /**
-         * Returns next element and moves pointer forward
-         * @return next Object in MyArryaList
-         */
-        public E next()
+        public MyArrayListListIterator(int index)
         {
-            if (modified)
-            {
-                throw new 
-                    ConcurrentModificationException("Concurrent" +
-                                    "Modification Exception");
-            }
-            previousIndex++;
-            forward = true;
-            return super.next();
+            nextIndex = index;
         }
 
         /**
@@ -312,9 +859,11 @@ public class MyArrayList<E>
          */
         public void add(E obj)
         {
-            modified = true;
+            checkForComodification();
             MyArrayList.this.add(nextIndex, obj);
-            modified = false;
+            nextIndex++;
+            lastIndex = -1;
+            expectedModCount = modCount;
         }
 
         /**
@@ -324,21 +873,23 @@ public class MyArrayList<E>
          */
         public boolean hasPrevious()
         {
-            return (previousIndex > 0);
+            return nextIndex > 0;
         }
 
         /**
          * gets the object at the position previous 
          *  to the iterators current position
+         * @return the previous object, moving the cursor backward
          */
         public E previous()
         {
-            if (modified)
-            {
-                throw new ConcurrentModificationException();
-            }
-            forward = false;
-            return (E)MyArrayList.this.get(nextIndex);
+            checkForComodification();
+            int i = nextIndex - 1;
+            if (i < 0)
+                throw new NoSuchElementException();
+            nextIndex = i;
+            lastIndex = i;
+            return elements()[i];
         }
 
         /**
@@ -358,35 +909,218 @@ public class MyArrayList<E>
          */
         public int previousIndex()
         {
-            return previousIndex;
+            return nextIndex - 1;
         }
 
         /**
-         * Removes element that was returned by next() or previous()
-         * USE direction FOR THIS
+         * Uses the iterator to replace the object last returned
+         *  by next() or previous() with a new one
+         * @param obj the new object
          */
-        public void remove()
+        public void set(E obj)
         {
-            modified = true;
-            if (forward)
-                super.remove();
-            else
+            if (lastIndex < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            values[lastIndex] = obj;
+        }
+    }
+
+    /**
+     * Spliterator for MyArrayList, which lets streams split the list
+     *      into halves by index range so each half can be handled on
+     *      its own core
+     * 
+     * The end of the range and the modCount are only read the first
+     *      time the spliterator is used, so elements added between 
+     *      creating a stream and running it are still seen
+     * 
+     * @author Arnav Dani
+     * @version 10/18/26
+     */
+    private class MyArrayListSpliterator implements Spliterator<E>
+    {
+        private int index;      //index of the next element to hand out
+        private int fence;      //one past the last index; -1 until first use
+        private int expectedModCount;
+
+        /**
+         * Constructs a spliterator over a range of the list
+         * @param origin first index covered
+         * @param fence one past the last index covered, or -1 for the end
+         * @param expectedModCount modCount the range was split under
+         */
+        public MyArrayListSpliterator(int origin, int fence, 
+                                      int expectedModCount)
+        {
+            index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        /**
+         * @return the end of the range, fixing it on the first call
+         */
+        private int getFence()
+        {
+            if (fence < 0)
             {
-                if (!hasPrevious())
-                    throw new RuntimeException("NoSuchElementException");
-                MyArrayList.this.remove(previousIndex);
+                expectedModCount = modCount;
+                fence = size;
             }
-            modified = false;
+            return fence;
         }
 
         /**
-         * Uses the iterator to replace an object at an index iwth a new one
+         * Splits off the first half of the remaining range
+         * @return a spliterator for the first half, or null if 
+         *      the range is too small to split
          */
-        public void set(E obj)
+        public Spliterator<E> trySplit()
+        {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid)
+                return null;
+            index = mid;
+            return new MyArrayListSpliterator(lo, mid, expectedModCount);
+        }
+
+        /**
+         * Hands the next element in the range to the action
+         * @param action what to do with the element
+         * @return false if the range was already used up
+         */
+        public boolean tryAdvance(Consumer<? super E> action)
+        {
+            int hi = getFence();
+            int i = index;
+            if (i >= hi)
+                return false;
+            index = i + 1;
+            action.accept(elements()[i]);
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return true;
+        }
+
+        /**
+         * Hands every remaining element in the range to the action
+         * @param action what to do with each element
+         */
+        public void forEachRemaining(Consumer<? super E> action)
+        {
+            int hi = getFence();
+            E[] vals = elements();
+            for (int i = index; i < hi; i++)
+                action.accept(vals[i]);
+            index = hi;
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        /**
+         * @return the number of elements left in the range
+         */
+        public long estimateSize()
+        {
+            return getFence() - index;
+        }
+
+        /**
+         * @return ORDERED, SIZED and SUBSIZED, since every split
+         *      knows exactly how many elements it covers
+         */
+        public int characteristics()
+        {
+            return Spliterator.ORDERED | Spliterator.SIZED 
+                | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Fork/join task that merge sorts a range of an array: each half is
+     *      sorted as its own task, then the halves are merged
+     * 
+     * Ranges of SORT_GRAIN elements or fewer are handed to Arrays.sort
+     *      instead of being split any further
+     * 
+     * @author Arnav Dani
+     * @version 10/18/26
+     * 
+     * @param <T> type of the elements being sorted
+     */
+    private static class MergeSortTask<T> extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] a;
+        private final Object[] buffer;  //scratch space, as long as a
+        private final int lo;
+        private final int hi;
+        private final Comparator<? super T> c;
+
+        /**
+         * Constructs a task that sorts a[lo, hi)
+         * @param a array being sorted
+         * @param buffer scratch array used for merging
+         * @param lo first index to sort
+         * @param hi one past the last index to sort
+         * @param c decides the order of the elements; not null
+         */
+        public MergeSortTask(T[] a, Object[] buffer, int lo, int hi, 
+                             Comparator<? super T> c)
+        {
+            this.a = a;
+            this.buffer = buffer;
+            this.lo = lo;
+            this.hi = hi;
+            this.c = c;
+        }
+
+        /**
+         * Sorts the range, splitting it if it is large enough
+         */
+        protected void compute()
+        {
+            if (hi - lo <= SORT_GRAIN)
+            {
+                Arrays.sort(a, lo, hi, c);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new MergeSortTask<T>(a, buffer, lo, mid, c),
+                new MergeSortTask<T>(a, buffer, mid, hi, c));
+            if (c.compare(a[mid - 1], a[mid]) <= 0)
+                return;     //halves are already in order
+
+            System.arraycopy(a, lo, buffer, lo, mid - lo);
+            int i = lo;     //next in the copied left half
+            int j = mid;    //next in the right half, still in a
+            int k = lo;     //next slot to fill in a
+            while (i < mid && j < hi)
+            {
+                if (c.compare(a[j], buffered(i)) < 0)
+                    a[k++] = a[j++];
+                else
+                    a[k++] = buffered(i++);
+            }
+            while (i < mid)
+                a[k++] = buffered(i++);
+        }
+
+        /**
+         * Reads a slot of the scratch array, which only ever holds
+         *      elements copied out of a; the one place they are cast
+         *      back to T
+         * @param i index in buffer
+         * @return the element at buffer[i]
+         */
+        @SuppressWarnings("unchecked")
+        private T buffered(int i)
         {
-            modified = true;
-            MyArrayList.this.set(nextIndex, obj);
-            modified = false;
+            return (T) buffer[i];
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,192 @@
+import java.util.Collection;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyBlockingLinkedDeque wraps a MyConcurrentLinkedDeque so that threads
+ *  taking elements wait for one to show up instead of getting null.
+ *
+ * A semaphore holds one permit per element: adding releases a permit
+ *  after the element is in the deque, and taking acquires one before
+ *  removing, so a thread that gets a permit is sure to find an element.
+ *  Adding never blocks. drainTo moves a whole batch out for the price
+ *  of a single semaphore update.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ *
+ * @param <E> generic type of all the objects
+ *  in the structure
+ */
+public class MyBlockingLinkedDeque<E>
+{
+    private final MyConcurrentLinkedDeque<E> deque;
+    private final Semaphore available;
+
+    /**
+     * Constructor for an empty MyBlockingLinkedDeque
+     */
+    public MyBlockingLinkedDeque()
+    {
+        deque = new MyConcurrentLinkedDeque<E>();
+        available = new Semaphore(0);
+    }
+
+    /**
+     * @return the number of elements that can be taken right now
+     */
+    public int size()
+    {
+        return available.availablePermits();
+    }
+
+    /**
+     * Adds an element to the front of the deque
+     * @param obj element to add; may not be null
+     */
+    public void addFirst(E obj)
+    {
+        deque.addFirst(obj);
+        available.release();
+    }
+
+    /**
+     * Adds an element to the back of the deque
+     * @param obj element to add; may not be null
+     */
+    public void addLast(E obj)
+    {
+        deque.addLast(obj);
+        available.release();
+    }
+
+    /**
+     * Removes the first element, waiting for one if the deque is empty
+     * @return the element removed
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public E takeFirst() throws InterruptedException
+    {
+        available.acquire();
+        return deque.removeFirst();
+    }
+
+    /**
+     * Removes the last element, waiting for one if the deque is empty
+     * @return the element removed
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public E takeLast() throws InterruptedException
+    {
+        available.acquire();
+        return deque.removeLast();
+    }
+
+    /**
+     * Removes the first element, waiting at most a certain time for one
+     * @param timeout how long to wait
+     * @param unit the unit of timeout
+     * @return the element removed, or null if the time ran out
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public E pollFirst(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        if (!available.tryAcquire(timeout, unit))
+            return null;
+        return deque.removeFirst();
+    }
+
+    /**
+     * Removes the first element if there is one, without waiting
+     * @return the element removed, or null if the deque was empty
+     */
+    public E pollFirst()
+    {
+        if (!available.tryAcquire())
+            return null;
+        return deque.removeFirst();
+    }
+
+    /**
+     * Moves up to maxElements elements from the front of the deque
+     *  into a collection, without waiting. If c refuses an element by
+     *  throwing, that element goes back on the front of the deque and
+     *  the rest stay where they are.
+     * @param c collection the elements are added to, in order
+     * @param maxElements the most elements to move
+     * @return the number of elements moved
+     */
+    public int drainTo(Collection<? super E> c, int maxElements)
+    {
+        int count = claim(maxElements);
+        int moved = 0;
+        try
+        {
+            for (; moved < count; moved++)
+            {
+                E obj = deque.removeFirst();
+                try
+                {
+                    c.add(obj);
+                }
+                catch (RuntimeException e)
+                {
+                    deque.addFirst(obj);
+                    throw e;
+                }
+            }
+        }
+        finally
+        {
+            if (moved < count)
+                available.release(count - moved);
+        }
+        return count;
+    }
+
+    /**
+     * Moves up to maxElements elements from the front of the deque
+     *  into a MyArrayList, without waiting
+     * @param list list the elements are added to, in order
+     * @param maxElements the most elements to move
+     * @return the number of elements moved
+     */
+    public int drainTo(MyArrayList<? super E> list, int maxElements)
+    {
+        int count = claim(maxElements);
+        int moved = 0;
+        try
+        {
+            list.ensureCapacity(list.size() + count);
+            for (; moved < count; moved++)
+                list.add(deque.removeFirst());
+        }
+        finally
+        {
+            if (moved < count)
+                available.release(count - moved);
+        }
+        return count;
+    }
+
+    /**
+     * Takes permits for a batch of elements in one step. Only the
+     *  permits kept are ever taken, so other threads never see the
+     *  deque as emptier than it is; if they take some first, the
+     *  batch is sized again from what is left.
+     * @param maxElements the most permits to take
+     * @return the number of permits taken
+     */
+    private int claim(int maxElements)
+    {
+        int taken;
+        do
+        {
+            taken = Math.min(available.availablePermits(), maxElements);
+            if (taken <= 0)
+                return 0;
+        }
+        while (!available.tryAcquire(taken));
+        return taken;
+    }
+}
@@ -0,0 +1,311 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Describes an ArrayList that keeps its elements in many small
+ *      fixed-size arrays ("chunks") instead of one big one.
+ * A spine array holds a reference to each chunk, so element i lives at
+ *      chunk i / chunkSize, slot i % chunkSize, and get/set stay O(1).
+ * When the list fills up only a new chunk is allocated and the spine
+ *      grows, so existing elements are never copied, which keeps very
+ *      large lists away from giant allocations and long copy pauses.
+ *
+ * @version 10/18/26
+ * @author Arnav Dani
+ *
+ * @param <E> type of object making up the list
+ */
+public class MyChunkedArrayList<E>
+{
+    private static final int DEFAULT_CHUNK_SHIFT = 12;
+
+    private int size;
+    private Object[][] spine;
+    private final int chunkShift;
+    private final int chunkMask;
+    private int modCount;
+
+    /**
+     * Constructor for a MyChunkedArrayList with 4096 elements per chunk
+     */
+    public MyChunkedArrayList()
+    {
+        this(DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Constructor for a MyChunkedArrayList with a chosen chunk size
+     * @param chunkShift each chunk holds 2^chunkShift elements
+     */
+    public MyChunkedArrayList(int chunkShift)
+    {
+        if (chunkShift < 0 || chunkShift > 30)
+            throw new RuntimeException("Illegal chunk shift: " + chunkShift);
+
+        this.chunkShift = chunkShift;
+        chunkMask = (1 << chunkShift) - 1;
+        size = 0;
+        spine = new Object[1][];
+    }
+
+    /**
+     * @return a string of the list in a readable form for testing
+     */
+    public String toString()
+    {
+        if (size == 0)
+            return "[]";
+
+        StringBuilder s = new StringBuilder("[");
+        for (int i = 0; i < size - 1; i++)
+            s.append(get(i)).append(", ");
+        return s.append(get(size - 1)).append("]").toString();
+    }
+
+    /**
+     * Makes sure the chunk with the given number exists
+     * @param chunk number of the chunk that is needed
+     * @postcondition spine[chunk] is allocated; the spine doubles if
+     *               it is too short, but the chunks themselves are
+     *               never copied
+     */
+    private void ensureChunk(int chunk)
+    {
+        if (chunk >= spine.length)
+            spine = Arrays.copyOf(spine, Math.max(chunk + 1, spine.length * 2));
+        if (spine[chunk] == null)
+            spine[chunk] = new Object[chunkMask + 1];
+    }
+
+    /**
+     * @return how many elements fit in the chunks allocated so far
+     */
+    public long getCapacity()
+    {
+        long chunks = 0;
+        for (Object[] chunk : spine)
+        {
+            if (chunk != null)
+                chunks++;
+        }
+        return chunks << chunkShift;
+    }
+
+    /**
+     * Reads an element; the one place an Object from a chunk is cast to E
+     * @param index index of the element, which must be in bounds
+     * @return the element at index
+     */
+    @SuppressWarnings("unchecked")
+    private E elementAt(int index)
+    {
+        return (E) spine[index >> chunkShift][index & chunkMask];
+    }
+
+    /**
+     * Releases the chunks that are no longer used after removals
+     * @postcondition only the chunks holding elements stay allocated
+     */
+    public void trimToSize()
+    {
+        //size + chunkMask would overflow for a nearly full list
+        int used = (size >>> chunkShift) + ((size & chunkMask) != 0 ? 1 : 0);
+        spine = Arrays.copyOf(spine, Math.max(used, 1));
+    }
+
+    /**
+     * Returns the number of elements stored in the list
+     * @return size of the list
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * @return the object at a certain index and casts it to generic type E
+     * @param index index to get object from
+     */
+    public E get(int index)
+    {
+        if (index < 0 || index >= size)
+            throw new RuntimeException("Index is out of bounds");
+
+        return elementAt(index);
+    }
+
+    /**
+     * @postcondition replaces the element at position index with obj
+     * @param index index to replace object at
+     * @param obj object replace current object with
+     * @return E object that was replaced
+     */
+    public E set(int index, E obj)
+    {
+        if (index < 0 || index >= size)
+            throw new RuntimeException("Index is out of bounds");
+
+        E oldObj = elementAt(index);
+        spine[index >> chunkShift][index & chunkMask] = obj;
+        return oldObj;
+    }
+
+    /**
+     * Adds an object to the back of the list
+     * @param obj object to add at the back
+     * @return true
+     */
+    public boolean add(E obj)
+    {
+        if (size == Integer.MAX_VALUE)
+            throw new OutOfMemoryError("List is full");
+
+        ensureChunk(size >> chunkShift);
+        spine[size >> chunkShift][size & chunkMask] = obj;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Adds an object at the index specified, shifts the rest of the list back
+     * @param index index to add object at
+     * @param obj object to add at index
+     * @precondition  0 <= index <= size
+     * @postcondition inserts obj at position index, moving elements at
+     *               position index and higher to the right; each chunk
+     *               shifts its own slots and passes its last element on
+     *               to the front of the next chunk
+     */
+    public void add(int index, E obj)
+    {
+        if (index < 0 || index > size)
+            throw new RuntimeException("Index is out of bounds");
+        if (size == Integer.MAX_VALUE)
+            throw new OutOfMemoryError("List is full");
+
+        int lastChunk = size >> chunkShift;
+        ensureChunk(lastChunk);
+
+        Object carry = obj;
+        int offset = index & chunkMask;
+        for (int c = index >> chunkShift; c < lastChunk; c++)
+        {
+            Object[] chunk = spine[c];
+            Object out = chunk[chunkMask];
+            System.arraycopy(chunk, offset, chunk, offset + 1, chunkMask - offset);
+            chunk[offset] = carry;
+            carry = out;
+            offset = 0;
+        }
+        Object[] chunk = spine[lastChunk];
+        int used = size & chunkMask;
+        System.arraycopy(chunk, offset, chunk, offset + 1, used - offset);
+        chunk[offset] = carry;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes element from a specified index in the list
+     * @param index index to remove from
+     * @return generic object that was removed
+     * @postcondition removes element from position index, moving elements
+     *               at position index + 1 and higher to the left
+     *               and adjusts size
+     */
+    public E remove(int index)
+    {
+        if (index < 0 || index >= size)
+            throw new RuntimeException("Index is out of bounds");
+
+        int lastChunk = (size - 1) >> chunkShift;
+        int offset = index & chunkMask;
+        E removed = elementAt(index);
+        for (int c = index >> chunkShift; c < lastChunk; c++)
+        {
+            Object[] chunk = spine[c];
+            System.arraycopy(chunk, offset + 1, chunk, offset, chunkMask - offset);
+            chunk[chunkMask] = spine[c + 1][0];
+            offset = 0;
+        }
+        Object[] chunk = spine[lastChunk];
+        int used = ((size - 1) & chunkMask) + 1;
+        System.arraycopy(chunk, offset + 1, chunk, offset, used - 1 - offset);
+        chunk[used - 1] = null;
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * @return the iterator defined inside the class
+     */
+    public Iterator<E> iterator()
+    {
+        return new MyChunkedArrayListIterator();
+    }
+
+    /**
+     * Iterates through the list a chunk at a time, failing fast if the
+     *      list is changed by anything other than the iterator itself
+     *
+     * @author Arnav Dani
+     * @version 10/18/26
+     */
+    private class MyChunkedArrayListIterator implements Iterator<E>
+    {
+        //the index of the value that will be returned by next()
+        private int nextIndex;
+        //the index last returned, or -1 if remove is not allowed
+        private int lastIndex = -1;
+        private int expectedModCount = modCount;
+
+        /**
+         * Throws if the list was changed behind the iterator's back
+         */
+        private void checkForComodification()
+        {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        /**
+         * @return true if there is another value in the list
+         */
+        public boolean hasNext()
+        {
+            return nextIndex < size;
+        }
+
+        /**
+         * Moves the iterator to the next index and returns that object
+         * @return object that iterator moved past
+         */
+        public E next()
+        {
+            checkForComodification();
+            if (nextIndex >= size)
+                throw new NoSuchElementException();
+            lastIndex = nextIndex;
+            nextIndex++;
+            return elementAt(lastIndex);
+        }
+
+        /**
+         * Removes the element that was last returned by next
+         */
+        public void remove()
+        {
+            if (lastIndex < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            MyChunkedArrayList.this.remove(lastIndex);
+            nextIndex = lastIndex;
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -0,0 +1,485 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Describes an ArrayList whose array is used as a circular buffer.
+ * Instead of always starting at index 0, the list starts at "head" and
+ *      wraps around the end of the array back to the front, so adding or
+ *      removing at either end never has to shift anything.
+ * Adding or removing in the middle only shifts whichever side of the
+ *      index is shorter, so it moves at most half of the list.
+ *
+ * @version 10/18/26
+ * @author Arnav Dani
+ *
+ * @param <E> type of object making up the list
+ */
+public class MyCircularArrayList<E>
+{
+    private int size;
+    private int head;   //position in values of the element at index 0
+    private Object[] values;
+    private int modCount;
+
+    /**
+     * Constructor for MyCircularArrayList Object
+     */
+    public MyCircularArrayList()
+    {
+        size = 0;
+        head = 0;
+        values = new Object[1];
+    }
+
+    /**
+     * @return a string of the list in a readable form for testing
+     */
+    public String toString()
+    {
+        if (size == 0)
+            return "[]";
+
+        StringBuilder s = new StringBuilder("[");
+        for (int i = 0; i < size - 1; i++)
+            s.append(values[slot(i)]).append(", ");
+        return s.append(values[slot(size - 1)]).append("]").toString();
+    }
+
+    /**
+     * Finds where in the array a list index is stored
+     * @param index index in the list
+     * @return position in values that holds that index
+     */
+    private int slot(int index)
+    {
+        int pos = head + index;
+        if (pos >= values.length)
+            pos -= values.length;
+        return pos;
+    }
+
+    /**
+     * Reads a slot of the array; the one place an Object from values is
+     *      cast to E
+     * @param pos position in values, which must hold an element
+     * @return the element stored at pos
+     */
+    @SuppressWarnings("unchecked")
+    private E elementAt(int pos)
+    {
+        return (E) values[pos];
+    }
+
+    /**
+     * Doubles the capacity of the array
+     * @postcondition replaces the array with one that is twice as long
+     *               (but no longer than GrowthPolicy.MAX_ARRAY_SIZE)
+     *               and copies the elements into it starting at 0,
+     *               unwrapping them so that head is 0 again
+     */
+    private void doubleCapacity()
+    {
+        Object[] doubleVals =
+            new Object[GrowthPolicy.clamp(2L * values.length, values.length + 1)];
+        int firstPart = Math.min(size, values.length - head);
+        System.arraycopy(values, head, doubleVals, 0, firstPart);
+        System.arraycopy(values, 0, doubleVals, firstPart, size - firstPart);
+        values = doubleVals;
+        head = 0;
+    }
+
+    /**
+     * @return the capacity of the array, how much can be held
+     */
+    public int getCapacity()
+    {
+        return values.length;
+    }
+
+    /**
+     * Returns the number of elements stored in the list
+     * @return size of the list
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * @return the object at a certain index and casts it to generic type E
+     * @param index index to get object from
+     */
+    public E get(int index)
+    {
+        if (index < 0 || index >= size)
+            throw new RuntimeException("Index is out of bounds");
+
+        return elementAt(slot(index));
+    }
+
+    /**
+     * @postcondition replaces the element at position index with obj
+     * @param index index to replace object at
+     * @param obj object replace current object with
+     * @return E object that was replaced
+     */
+    public E set(int index, E obj)
+    {
+        if (index < 0 || index >= size)
+            throw new RuntimeException("Index is out of bounds");
+
+        int pos = slot(index);
+        E oldObj = elementAt(pos);
+        values[pos] = obj;
+        return oldObj;
+    }
+
+    /**
+     * Adds an object to the back of the list
+     * @param obj object to add at the back
+     * @return true
+     */
+    public boolean add(E obj)
+    {
+        addLast(obj);
+        return true;
+    }
+
+    /**
+     * Adds an object to the front of the list without shifting anything
+     * @param obj object to add at the front
+     */
+    public void addFirst(E obj)
+    {
+        if (size >= values.length)
+            doubleCapacity();
+        head = (head == 0 ? values.length : head) - 1;
+        values[head] = obj;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds an object to the back of the list without shifting anything
+     * @param obj object to add at the back
+     */
+    public void addLast(E obj)
+    {
+        if (size >= values.length)
+            doubleCapacity();
+        values[slot(size)] = obj;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * gets the object at the front of the list
+     * @return object at index 0
+     */
+    public E getFirst()
+    {
+        return get(0);
+    }
+
+    /**
+     * gets the object at the back of the list
+     * @return object at index size - 1
+     */
+    public E getLast()
+    {
+        return get(size - 1);
+    }
+
+    /**
+     * removes the first element in the list
+     * @return the element removed
+     */
+    public E removeFirst()
+    {
+        if (size == 0)
+            throw new RuntimeException("NoSuchElementException");
+
+        E obj = elementAt(head);
+        values[head] = null;
+        head = slot(1);
+        size--;
+        modCount++;
+        return obj;
+    }
+
+    /**
+     * removes the last element in the list
+     * @return the element removed
+     */
+    public E removeLast()
+    {
+        if (size == 0)
+            throw new RuntimeException("NoSuchElementException");
+
+        int pos = slot(size - 1);
+        E obj = elementAt(pos);
+        values[pos] = null;
+        size--;
+        modCount++;
+        return obj;
+    }
+
+    /**
+     * Adds an object at the index specified
+     * @param index index to add object at
+     * @param obj object to add at index
+     * @precondition  0 <= index <= size
+     * @postcondition inserts obj at position index; if index is in the
+     *               front half the elements before it move one slot
+     *               towards the front, otherwise the elements after it
+     *               move one slot towards the back
+     */
+    public void add(int index, E obj)
+    {
+        if (index < 0 || index > size)
+            throw new RuntimeException("Index is out of bounds");
+
+        if (size >= values.length)
+            doubleCapacity();
+        if (index < size / 2)
+        {
+            head = (head == 0 ? values.length : head) - 1;
+            move(1, 0, index);
+        }
+        else
+            move(index, index + 1, size - index);
+        values[slot(index)] = obj;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes element from a specified index in the list
+     * @param index index to remove from
+     * @return generic object that was removed
+     * @postcondition removes element from position index, closing the
+     *               hole from whichever side is shorter, and adjusts size
+     */
+    public E remove(int index)
+    {
+        if (index < 0 || index >= size)
+            throw new RuntimeException("Index is out of bounds");
+
+        E removed = elementAt(slot(index));
+        if (index < size / 2)
+        {
+            move(0, 1, index);
+            values[head] = null;
+            head = slot(1);
+        }
+        else
+        {
+            move(index + 1, index, size - 1 - index);
+            values[slot(size - 1)] = null;
+        }
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Moves a run of list indices to overlapping indices one slot away,
+     *      copying with System.arraycopy one piece at a time so that no
+     *      piece crosses the end of the array, on either the side it
+     *      is read from or the side it is written to
+     * @param from list index of the first element to move
+     * @param to list index the first element moves to
+     * @param count number of elements to move
+     * @postcondition the pieces are copied front first when moving
+     *               towards the front and back first otherwise, so no
+     *               element is overwritten before it has been moved
+     */
+    private void move(int from, int to, int count)
+    {
+        if (to < from)
+        {
+            int done = 0;
+            while (done < count)
+            {
+                int src = slot(from + done);
+                int dst = slot(to + done);
+                int run = Math.min(count - done, values.length - Math.max(src, dst));
+                System.arraycopy(values, src, values, dst, run);
+                done += run;
+            }
+        }
+        else
+        {
+            int left = count;
+            while (left > 0)
+            {
+                int src = slot(from + left - 1);
+                int dst = slot(to + left - 1);
+                int run = Math.min(left, Math.min(src, dst) + 1);
+                System.arraycopy(values, src - run + 1, values, dst - run + 1, run);
+                left -= run;
+            }
+        }
+    }
+
+    /**
+     * @return the iterator defined inside the class
+     */
+    public Iterator<E> iterator()
+    {
+        return new MyCircularListIterator(0);
+    }
+
+    /**
+     * @return a ListIterator that starts before the first element
+     */
+    public ListIterator<E> listIterator()
+    {
+        return new MyCircularListIterator(0);
+    }
+
+    /**
+     * @param index index of the element the first call to next() returns
+     * @return a ListIterator that starts before the given index
+     */
+    public ListIterator<E> listIterator(int index)
+    {
+        if (index < 0 || index > size)
+            throw new RuntimeException("Index is out of bounds");
+        return new MyCircularListIterator(index);
+    }
+
+    /**
+     * ListIterator for MyCircularArrayList that fails fast if the list
+     *      is changed by anything other than the iterator itself
+     *
+     * @author Arnav Dani
+     * @version 10/18/26
+     */
+    private class MyCircularListIterator implements ListIterator<E>
+    {
+        private int nextIndex;
+        //index returned by the last next()/previous(), or -1
+        private int lastIndex;
+        private int expectedModCount;
+
+        /**
+         * Constructs an iterator positioned before index
+         * @param index index returned by the first call to next()
+         */
+        public MyCircularListIterator(int index)
+        {
+            nextIndex = index;
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Throws if the list was changed behind the iterator's back
+         */
+        private void checkForComodification()
+        {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        /**
+         * @return true if next() has an element to return
+         */
+        public boolean hasNext()
+        {
+            return nextIndex < size;
+        }
+
+        /**
+         * @return the next element, moving the cursor forward
+         */
+        public E next()
+        {
+            checkForComodification();
+            if (nextIndex >= size)
+                throw new NoSuchElementException();
+            lastIndex = nextIndex;
+            nextIndex++;
+            return elementAt(slot(lastIndex));
+        }
+
+        /**
+         * @return true if previous() has an element to return
+         */
+        public boolean hasPrevious()
+        {
+            return nextIndex > 0;
+        }
+
+        /**
+         * @return the previous element, moving the cursor backward
+         */
+        public E previous()
+        {
+            checkForComodification();
+            if (nextIndex <= 0)
+                throw new NoSuchElementException();
+            nextIndex--;
+            lastIndex = nextIndex;
+            return elementAt(slot(lastIndex));
+        }
+
+        /**
+         * @return index of the element next() would return
+         */
+        public int nextIndex()
+        {
+            return nextIndex;
+        }
+
+        /**
+         * @return index of the element previous() would return
+         */
+        public int previousIndex()
+        {
+            return nextIndex - 1;
+        }
+
+        /**
+         * Removes the element last returned by next() or previous()
+         */
+        public void remove()
+        {
+            if (lastIndex < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            MyCircularArrayList.this.remove(lastIndex);
+            nextIndex = lastIndex;
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Replaces the element last returned by next() or previous()
+         * @param obj the new element
+         */
+        public void set(E obj)
+        {
+            if (lastIndex < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            MyCircularArrayList.this.set(lastIndex, obj);
+        }
+
+        /**
+         * Inserts an element right before the cursor
+         * @param obj element to add
+         */
+        public void add(E obj)
+        {
+            checkForComodification();
+            MyCircularArrayList.this.add(nextIndex, obj);
+            nextIndex++;
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
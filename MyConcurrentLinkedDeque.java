@@ -0,0 +1,317 @@
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * MyConcurrentLinkedDeque is a doubly linked deque that many threads can
+ *  add to and remove from at both ends at once, without any locks.
+ *
+ * It follows Maged Michael's CAS-based deque: the first and last nodes
+ *  are kept together in one immutable "anchor" object, and every change
+ *  to either end swaps in a new anchor with compareAndSet. A push links
+ *  the new node on one side first and marks the anchor as unstable; any
+ *  thread that then sees the unstable anchor finishes the link on the
+ *  other side ("stabilizes" it) before making its own change, so no
+ *  thread ever has to wait for another one to wake up.
+ *
+ * A removed node has its links cleared, and its neighbor's link back to
+ *  it is cleared too if nothing has replaced it yet, so removed nodes
+ *  don't stay chained to the deque and can be garbage collected.
+ *
+ * Elements can't be null, since removeFirst and removeLast return null
+ *  to mean the deque was empty.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ *
+ * @param <E> generic type of all the objects
+ *  in the structure
+ */
+public class MyConcurrentLinkedDeque<E>
+{
+    private static final int STABLE = 0;
+    private static final int RPUSH = 1;   //last's previous node may not link to it yet
+    private static final int LPUSH = 2;   //first's next node may not link to it yet
+
+    private final AtomicReference<Anchor> anchor;
+
+    /**
+     * Constructor for an empty MyConcurrentLinkedDeque
+     */
+    public MyConcurrentLinkedDeque()
+    {
+        anchor = new AtomicReference<Anchor>(new Anchor(null, null, STABLE));
+    }
+
+    /**
+     * @return true if the deque held no elements when it was checked
+     */
+    public boolean isEmpty()
+    {
+        return anchor.get().first == null;
+    }
+
+    /**
+     * Adds an element to the front of the deque
+     * @param obj element to add; may not be null
+     */
+    public void addFirst(E obj)
+    {
+        if (obj == null)
+            throw new NullPointerException();
+
+        Node node = new Node(obj);
+        while (true)
+        {
+            Anchor a = anchor.get();
+            if (a.first == null)
+            {
+                if (anchor.compareAndSet(a, new Anchor(node, node, STABLE)))
+                    return;
+            }
+            else if (a.status == STABLE)
+            {
+                node.next.set(a.first);
+                Anchor pushed = new Anchor(node, a.last, LPUSH);
+                if (anchor.compareAndSet(a, pushed))
+                {
+                    stabilizeFirst(pushed);
+                    return;
+                }
+            }
+            else
+                stabilize(a);
+        }
+    }
+
+    /**
+     * Adds an element to the back of the deque
+     * @param obj element to add; may not be null
+     */
+    public void addLast(E obj)
+    {
+        if (obj == null)
+            throw new NullPointerException();
+
+        Node node = new Node(obj);
+        while (true)
+        {
+            Anchor a = anchor.get();
+            if (a.last == null)
+            {
+                if (anchor.compareAndSet(a, new Anchor(node, node, STABLE)))
+                    return;
+            }
+            else if (a.status == STABLE)
+            {
+                node.prev.set(a.last);
+                Anchor pushed = new Anchor(a.first, node, RPUSH);
+                if (anchor.compareAndSet(a, pushed))
+                {
+                    stabilizeLast(pushed);
+                    return;
+                }
+            }
+            else
+                stabilize(a);
+        }
+    }
+
+    /**
+     * removes the first element in the deque
+     * @return the element removed, or null if the deque was empty
+     */
+    public E removeFirst()
+    {
+        while (true)
+        {
+            Anchor a = anchor.get();
+            if (a.first == null)
+                return null;
+            if (a.first == a.last)
+            {
+                if (anchor.compareAndSet(a, new Anchor(null, null, STABLE)))
+                    return unlinked(a.first);
+            }
+            else if (a.status == STABLE)
+            {
+                Node second = a.first.next.get();
+                if (anchor.compareAndSet(a, new Anchor(second, a.last, STABLE)))
+                {
+                    second.prev.compareAndSet(a.first, null);
+                    return unlinked(a.first);
+                }
+            }
+            else
+                stabilize(a);
+        }
+    }
+
+    /**
+     * removes the last element in the deque
+     * @return the element removed, or null if the deque was empty
+     */
+    public E removeLast()
+    {
+        while (true)
+        {
+            Anchor a = anchor.get();
+            if (a.last == null)
+                return null;
+            if (a.first == a.last)
+            {
+                if (anchor.compareAndSet(a, new Anchor(null, null, STABLE)))
+                    return unlinked(a.last);
+            }
+            else if (a.status == STABLE)
+            {
+                Node secondLast = a.last.prev.get();
+                if (anchor.compareAndSet(a, new Anchor(a.first, secondLast, STABLE)))
+                {
+                    secondLast.next.compareAndSet(a.last, null);
+                    return unlinked(a.last);
+                }
+            }
+            else
+                stabilize(a);
+        }
+    }
+
+    /**
+     * gets the object at the front of the deque
+     * @return the first element, or null if the deque was empty
+     */
+    public E getFirst()
+    {
+        Node first = anchor.get().first;
+        return first == null ? null : first.value;
+    }
+
+    /**
+     * gets the object at the back of the deque
+     * @return the last element, or null if the deque was empty
+     */
+    public E getLast()
+    {
+        Node last = anchor.get().last;
+        return last == null ? null : last.value;
+    }
+
+    /**
+     * Clears the links of a node that was just removed, so it doesn't
+     *  keep the nodes removed before it reachable; only threads holding
+     *  an old anchor can still look at it, and their compareAndSet on
+     *  that anchor is bound to fail
+     * @param node a node no anchor will ever point to again
+     * @return the element the node held
+     */
+    private E unlinked(Node node)
+    {
+        node.prev.set(null);
+        node.next.set(null);
+        return node.value;
+    }
+
+    /**
+     * Finishes whichever push left the anchor unstable
+     * @param a an anchor that is not STABLE
+     */
+    private void stabilize(Anchor a)
+    {
+        if (a.status == RPUSH)
+            stabilizeLast(a);
+        else
+            stabilizeFirst(a);
+    }
+
+    /**
+     * Links the node before last forward to last, then marks the
+     *  anchor stable; gives up quietly if another thread got there first
+     * @param a an anchor with status RPUSH
+     */
+    private void stabilizeLast(Anchor a)
+    {
+        Node before = a.last.prev.get();
+        if (anchor.get() != a)
+            return;
+        Node beforeNext = before.next.get();
+        if (beforeNext != a.last)
+        {
+            if (anchor.get() != a)
+                return;
+            if (!before.next.compareAndSet(beforeNext, a.last))
+                return;
+        }
+        anchor.compareAndSet(a, new Anchor(a.first, a.last, STABLE));
+    }
+
+    /**
+     * Links the node after first back to first, then marks the
+     *  anchor stable; gives up quietly if another thread got there first
+     * @param a an anchor with status LPUSH
+     */
+    private void stabilizeFirst(Anchor a)
+    {
+        Node after = a.first.next.get();
+        if (anchor.get() != a)
+            return;
+        Node afterPrev = after.prev.get();
+        if (afterPrev != a.first)
+        {
+            if (anchor.get() != a)
+                return;
+            if (!after.prev.compareAndSet(afterPrev, a.first))
+                return;
+        }
+        anchor.compareAndSet(a, new Anchor(a.first, a.last, STABLE));
+    }
+
+    /**
+     * A node of the deque whose links can be swapped with compareAndSet
+     *
+     * @author Arnav Dani
+     * @version 10.18.26
+     */
+    private class Node
+    {
+        private final E value;
+        private final AtomicReference<Node> prev;
+        private final AtomicReference<Node> next;
+
+        /**
+         * Constructor for an unlinked node
+         * @param value the element the node holds
+         */
+        public Node(E value)
+        {
+            this.value = value;
+            prev = new AtomicReference<Node>();
+            next = new AtomicReference<Node>();
+        }
+    }
+
+    /**
+     * The first and last nodes plus whether a push is still being
+     *  linked in; never changed, only replaced as a whole
+     *
+     * @author Arnav Dani
+     * @version 10.18.26
+     */
+    private class Anchor
+    {
+        private final Node first;
+        private final Node last;
+        private final int status;
+
+        /**
+         * Constructor for Anchor
+         * @param first first node, or null if the deque is empty
+         * @param last last node, or null if the deque is empty
+         * @param status STABLE, RPUSH or LPUSH
+         */
+        public Anchor(Node first, Node last, int status)
+        {
+            this.first = first;
+            this.last = last;
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Describes a thread-safe ArrayList meant for data that is read far
+ *      more often than it is changed.
+ * Every change copies the array, makes the edit on the copy and then
+ *      publishes the copy, so readers never lock: get and size just read
+ *      whichever array is current, and an iterator walks the snapshot it
+ *      started with even if other threads change the list meanwhile.
+ * Writers take turns on a lock, so each write costs a full copy.
+ *
+ * @version 10/18/26
+ * @author Arnav Dani
+ *
+ * @param <E> type of object making up the list
+ */
+public class MyCopyOnWriteArrayList<E> implements Iterable<E>
+{
+    //the array is always exactly as long as the list
+    private volatile Object[] values;
+    private final Object lock;
+
+    /**
+     * Constructor for MyCopyOnWriteArrayList Object
+     */
+    public MyCopyOnWriteArrayList()
+    {
+        values = new Object[0];
+        lock = new Object();
+    }
+
+    /**
+     * @return a string of the current snapshot in a readable form
+     */
+    public String toString()
+    {
+        return Arrays.toString(values);
+    }
+
+    /**
+     * Returns the number of elements stored in the list
+     * @return size of the list
+     */
+    public int size()
+    {
+        return values.length;
+    }
+
+    /**
+     * @return the object at a certain index and casts it to generic type E
+     * @param index index to get object from
+     */
+    public E get(int index)
+    {
+        Object[] vals = values;
+        if (index < 0 || index >= vals.length)
+            throw new RuntimeException("Index is out of bounds");
+
+        return elementAt(vals, index);
+    }
+
+    /**
+     * @postcondition replaces the element at position index with obj
+     * @param index index to replace object at
+     * @param obj object replace current object with
+     * @return E object that was replaced
+     */
+    public E set(int index, E obj)
+    {
+        synchronized (lock)
+        {
+            Object[] vals = values;
+            if (index < 0 || index >= vals.length)
+                throw new RuntimeException("Index is out of bounds");
+
+            E oldObj = elementAt(vals, index);
+            Object[] newVals = vals.clone();
+            newVals[index] = obj;
+            values = newVals;
+            return oldObj;
+        }
+    }
+
+    /**
+     * Adds an object to the back of the list
+     * @param obj object to add at the back
+     * @return true
+     */
+    public boolean add(E obj)
+    {
+        synchronized (lock)
+        {
+            Object[] vals = values;
+            Object[] newVals = Arrays.copyOf(vals, vals.length + 1);
+            newVals[vals.length] = obj;
+            values = newVals;
+            return true;
+        }
+    }
+
+    /**
+     * Adds an object at the index specified, shifts the rest of the list back
+     * @param index index to add object at
+     * @param obj object to add at index
+     * @precondition  0 <= index <= size
+     */
+    public void add(int index, E obj)
+    {
+        synchronized (lock)
+        {
+            Object[] vals = values;
+            if (index < 0 || index > vals.length)
+                throw new RuntimeException("Index is out of bounds");
+
+            Object[] newVals = new Object[vals.length + 1];
+            System.arraycopy(vals, 0, newVals, 0, index);
+            System.arraycopy(vals, index, newVals, index + 1, vals.length - index);
+            newVals[index] = obj;
+            values = newVals;
+        }
+    }
+
+    /**
+     * Removes element from a specified index in the list
+     * @param index index to remove from
+     * @return generic object that was removed
+     */
+    public E remove(int index)
+    {
+        synchronized (lock)
+        {
+            Object[] vals = values;
+            if (index < 0 || index >= vals.length)
+                throw new RuntimeException("Index is out of bounds");
+
+            E removed = elementAt(vals, index);
+            Object[] newVals = new Object[vals.length - 1];
+            System.arraycopy(vals, 0, newVals, 0, index);
+            System.arraycopy(vals, index + 1, newVals, index, 
+                vals.length - index - 1);
+            values = newVals;
+            return removed;
+        }
+    }
+
+    /**
+     * Reads an element out of one of the list's arrays; every array
+     *      the list publishes only ever holds Es
+     * @param vals the array to read
+     * @param index index to read
+     * @return the element at index
+     */
+    @SuppressWarnings("unchecked")
+    private E elementAt(Object[] vals, int index)
+    {
+        return (E) vals[index];
+    }
+
+    /**
+     * @return an iterator over a snapshot of the list as it is right now
+     */
+    public Iterator<E> iterator()
+    {
+        return new SnapshotIterator(values);
+    }
+
+    /**
+     * Iterates through the array that was current when it was created;
+     *      later changes to the list are never seen and never interfere
+     *
+     * @author Arnav Dani
+     * @version 10/18/26
+     */
+    private class SnapshotIterator implements Iterator<E>
+    {
+        private final Object[] snapshot;
+        private int nextIndex;
+
+        /**
+         * Constructs an iterator over a snapshot
+         * @param snapshot the array being iterated
+         */
+        public SnapshotIterator(Object[] snapshot)
+        {
+            this.snapshot = snapshot;
+            nextIndex = 0;
+        }
+
+        /**
+         * @return true if the snapshot has another element
+         */
+        public boolean hasNext()
+        {
+            return nextIndex < snapshot.length;
+        }
+
+        /**
+         * @return the next element in the snapshot
+         */
+        public E next()
+        {
+            if (nextIndex >= snapshot.length)
+                throw new NoSuchElementException();
+            return elementAt(snapshot, nextIndex++);
+        }
+    }
+}
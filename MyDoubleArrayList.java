@@ -0,0 +1,208 @@
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Describes an ArrayList that is specialized for double values.
+ * Works the same way as MyArrayList, except the values are kept
+ *      in a double[] instead of an Object[], so adding or getting a
+ *      value never has to box it into a Double and every element
+ *      sits right next to the others in memory.
+ *
+ * @version 10/18/26
+ * @author Arnav Dani
+ */
+public class MyDoubleArrayList
+{
+    private int size;
+    private double[] values;
+
+    /**
+     * Constructor for MyDoubleArrayList Object
+     */
+    public MyDoubleArrayList()
+    {
+        size = 0;
+        values = new double[1];
+    }
+
+    /**
+     * @return a string of the array in a readable form for testing
+     */
+    public String toString()
+    {
+        if (size == 0)
+            return "[]";
+
+        StringBuilder s = new StringBuilder("[");
+        for (int i = 0; i < size - 1; i++)
+            s.append(values[i]).append(", ");
+        return s.append(values[size - 1]).append("]").toString();
+    }
+
+    /**
+     * Doubles the capacity of the array and duplicates all the values
+     * @postcondition replaces the array with one that is
+     *               twice as long (but no longer than
+     *               GrowthPolicy.MAX_ARRAY_SIZE), and copies all
+     *               of the old elements into it
+     */
+    private void doubleCapacity()
+    {
+        double[] doubleVals = new double[GrowthPolicy.clamp(2L * size, size + 1)];
+        System.arraycopy(values, 0, doubleVals, 0, size);
+        values = doubleVals;
+    }
+
+    /**
+     * @return the capacity of the array, how much can be held
+     */
+    public int getCapacity()
+    {
+        return values.length;
+    }
+
+    /**
+     * Returns the number of elements stored in the list
+     * @return size of the list
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * @return the value at a certain index
+     * @param index index to get value from
+     */
+    public double get(int index)
+    {
+        if (index < 0 || index >= size)
+            throw new RuntimeException("Index is out of bounds");
+
+        return values[index];
+    }
+
+    /**
+     * @postcondition replaces the element at position index with value
+     * @param index index to replace value at
+     * @param value value to replace current value with
+     * @return the value that was replaced
+     */
+    public double set(int index, double value)
+    {
+        if (index < 0 || index >= size)
+            throw new RuntimeException("Index is out of bounds");
+
+        double old = values[index];
+        values[index] = value;
+        return old;
+    }
+
+    /**
+     * Adds a value to the back of the array
+     * @param value value to add at the back
+     * @return true
+     */
+    public boolean add(double value)
+    {
+        if (size >= values.length)
+            doubleCapacity();
+        values[size] = value;
+        size++;
+        return true;
+    }
+
+    /**
+     * Adds a value at the index specified, shifts the rest of the list back
+     * @param index index to add value at
+     * @param value value to add at index
+     * @precondition  0 <= index <= size
+     * @postcondition inserts value at position index,
+     *               moving elements at position index and higher
+     *               to the right (adds 1 to their indices) and adjusts size
+     */
+    public void add(int index, double value)
+    {
+        if (index < 0 || index > size)
+            throw new RuntimeException("Index is out of bounds");
+
+        if (size >= values.length)
+            doubleCapacity();
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+    }
+
+    /**
+     * Removes the value at a specified index in the array
+     * @param index index to remove from
+     * @return the value that was removed
+     * @postcondition removes element from position index, moving elements
+     *               at position index + 1 and higher to the left
+     *               and adjusts size
+     */
+    public double remove(int index)
+    {
+        if (index < 0 || index >= size)
+            throw new RuntimeException("Index is out of bounds");
+
+        double removed = values[index];
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * @return an iterator that hands back unboxed doubles
+     */
+    public PrimitiveIterator.OfDouble iterator()
+    {
+        return new MyDoubleArrayListIterator();
+    }
+
+    /**
+     * Iterates through the indexes of the list without boxing
+     *
+     * @author Arnav Dani
+     * @version 10/18/26
+     */
+    private class MyDoubleArrayListIterator implements PrimitiveIterator.OfDouble
+    {
+        //the index of the value that will be returned by nextDouble()
+        private int nextIndex;
+        //the index last returned, or -1 if remove is not allowed
+        private int lastIndex = -1;
+
+        /**
+         * @return true if there is another value in the list
+         */
+        public boolean hasNext()
+        {
+            return nextIndex < size;
+        }
+
+        /**
+         * Moves the iterator forward and returns the value it passed
+         * @return value that the iterator moved past
+         */
+        public double nextDouble()
+        {
+            if (nextIndex >= size)
+                throw new NoSuchElementException();
+            lastIndex = nextIndex;
+            return values[nextIndex++];
+        }
+
+        /**
+         * Removes the value that was last returned by nextDouble
+         */
+        public void remove()
+        {
+            if (lastIndex < 0)
+                throw new IllegalStateException();
+            MyDoubleArrayList.this.remove(lastIndex);
+            nextIndex = lastIndex;
+            lastIndex = -1;
+        }
+    }
+}
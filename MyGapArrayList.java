@@ -0,0 +1,374 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Describes an ArrayList that is stored as a gap buffer, the way a
+ *      text editor stores the text around its cursor.
+ * The empty part of the array (the "gap") is kept wherever the last edit
+ *      happened instead of always being at the end. Moving the gap costs
+ *      as much as the distance it moves, so edits that stay close to each
+ *      other, like adding through a ListIterator, are amortized O(1)
+ *      instead of shifting the whole tail every time.
+ *
+ * @version 10/18/26
+ * @author Arnav Dani
+ *
+ * @param <E> type of object making up the list
+ */
+public class MyGapArrayList<E>
+{
+    private Object[] values;
+    private int gapStart;   //index of the first empty slot
+    private int gapEnd;     //index right after the last empty slot
+    private int modCount;
+
+    /**
+     * Constructor for MyGapArrayList Object
+     */
+    public MyGapArrayList()
+    {
+        values = new Object[1];
+        gapStart = 0;
+        gapEnd = 1;
+    }
+
+    /**
+     * @return a string of the list in a readable form for testing
+     */
+    public String toString()
+    {
+        if (size() == 0)
+            return "[]";
+
+        StringBuilder s = new StringBuilder("[");
+        for (int i = 0; i < size() - 1; i++)
+            s.append(values[slot(i)]).append(", ");
+        return s.append(values[slot(size() - 1)]).append("]").toString();
+    }
+
+    /**
+     * Finds where in the array a list index is stored
+     * @param index index in the list
+     * @return position in values that holds that index
+     */
+    private int slot(int index)
+    {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    /**
+     * Moves the gap so that it starts at the given index
+     * @param index index the gap should start at
+     * @postcondition gapStart == index; only the elements between the
+     *               old and new gap position are copied
+     */
+    private void moveGap(int index)
+    {
+        if (index < gapStart)
+        {
+            int count = gapStart - index;
+            System.arraycopy(values, index, values, gapEnd - count, count);
+            Arrays.fill(values, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart -= count;
+            gapEnd -= count;
+        }
+        else if (index > gapStart)
+        {
+            int count = index - gapStart;
+            System.arraycopy(values, gapEnd, values, gapStart, count);
+            Arrays.fill(values, Math.max(gapEnd, index), gapEnd + count, null);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    /**
+     * Reads a slot of the array; the one place an Object from values is
+     *      cast to E
+     * @param pos position in values, which must hold an element
+     * @return the element stored at pos
+     */
+    @SuppressWarnings("unchecked")
+    private E elementAt(int pos)
+    {
+        return (E) values[pos];
+    }
+
+    /**
+     * Doubles the capacity of the array
+     * @postcondition replaces the array with one that is twice as long
+     *               (but no longer than GrowthPolicy.MAX_ARRAY_SIZE);
+     *               the elements after the gap move to the end of the
+     *               new array so the gap absorbs all of the new space
+     */
+    private void doubleCapacity()
+    {
+        Object[] doubleVals =
+            new Object[GrowthPolicy.clamp(2L * values.length, values.length + 1)];
+        int tail = values.length - gapEnd;
+        System.arraycopy(values, 0, doubleVals, 0, gapStart);
+        System.arraycopy(values, gapEnd, doubleVals, doubleVals.length - tail, tail);
+        gapEnd = doubleVals.length - tail;
+        values = doubleVals;
+    }
+
+    /**
+     * @return the capacity of the array, how much can be held
+     */
+    public int getCapacity()
+    {
+        return values.length;
+    }
+
+    /**
+     * Returns the number of elements stored in the list
+     * @return size of the list
+     */
+    public int size()
+    {
+        return values.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * @return the object at a certain index and casts it to generic type E
+     * @param index index to get object from
+     */
+    public E get(int index)
+    {
+        if (index < 0 || index >= size())
+            throw new RuntimeException("Index is out of bounds");
+
+        return elementAt(slot(index));
+    }
+
+    /**
+     * @postcondition replaces the element at position index with obj
+     * @param index index to replace object at
+     * @param obj object replace current object with
+     * @return E object that was replaced
+     */
+    public E set(int index, E obj)
+    {
+        if (index < 0 || index >= size())
+            throw new RuntimeException("Index is out of bounds");
+
+        int pos = slot(index);
+        E oldObj = elementAt(pos);
+        values[pos] = obj;
+        return oldObj;
+    }
+
+    /**
+     * Adds an object to the back of the list
+     * @param obj object to add at the back
+     * @return true
+     */
+    public boolean add(E obj)
+    {
+        add(size(), obj);
+        return true;
+    }
+
+    /**
+     * Adds an object at the index specified
+     * @param index index to add object at
+     * @param obj object to add at index
+     * @precondition  0 <= index <= size
+     * @postcondition moves the gap to index and fills its first slot
+     *               with obj, growing the array if the gap is empty
+     */
+    public void add(int index, E obj)
+    {
+        if (index < 0 || index > size())
+            throw new RuntimeException("Index is out of bounds");
+
+        moveGap(index);
+        if (gapStart == gapEnd)
+            doubleCapacity();
+        values[gapStart] = obj;
+        gapStart++;
+        modCount++;
+    }
+
+    /**
+     * Removes element from a specified index in the list
+     * @param index index to remove from
+     * @return generic object that was removed
+     * @postcondition moves the gap to index and widens it over
+     *               the removed element
+     */
+    public E remove(int index)
+    {
+        if (index < 0 || index >= size())
+            throw new RuntimeException("Index is out of bounds");
+
+        moveGap(index);
+        E removed = elementAt(gapEnd);
+        values[gapEnd] = null;
+        gapEnd++;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * @return the iterator defined inside the class
+     */
+    public Iterator<E> iterator()
+    {
+        return new MyGapListIterator(0);
+    }
+
+    /**
+     * @return a ListIterator that starts before the first element
+     */
+    public ListIterator<E> listIterator()
+    {
+        return new MyGapListIterator(0);
+    }
+
+    /**
+     * @param index index of the element the first call to next() returns
+     * @return a ListIterator that starts before the given index
+     */
+    public ListIterator<E> listIterator(int index)
+    {
+        if (index < 0 || index > size())
+            throw new RuntimeException("Index is out of bounds");
+        return new MyGapListIterator(index);
+    }
+
+    /**
+     * ListIterator for MyGapArrayList; its add and remove happen right
+     *      at the cursor, which is exactly where the gap is kept
+     *
+     * @author Arnav Dani
+     * @version 10/18/26
+     */
+    private class MyGapListIterator implements ListIterator<E>
+    {
+        private int nextIndex;
+        //index returned by the last next()/previous(), or -1
+        private int lastIndex;
+        private int expectedModCount;
+
+        /**
+         * Constructs an iterator positioned before index
+         * @param index index returned by the first call to next()
+         */
+        public MyGapListIterator(int index)
+        {
+            nextIndex = index;
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Throws if the list was changed behind the iterator's back
+         */
+        private void checkForComodification()
+        {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        /**
+         * @return true if next() has an element to return
+         */
+        public boolean hasNext()
+        {
+            return nextIndex < size();
+        }
+
+        /**
+         * @return the next element, moving the cursor forward
+         */
+        public E next()
+        {
+            checkForComodification();
+            if (nextIndex >= size())
+                throw new NoSuchElementException();
+            lastIndex = nextIndex;
+            nextIndex++;
+            return elementAt(slot(lastIndex));
+        }
+
+        /**
+         * @return true if previous() has an element to return
+         */
+        public boolean hasPrevious()
+        {
+            return nextIndex > 0;
+        }
+
+        /**
+         * @return the previous element, moving the cursor backward
+         */
+        public E previous()
+        {
+            checkForComodification();
+            if (nextIndex <= 0)
+                throw new NoSuchElementException();
+            nextIndex--;
+            lastIndex = nextIndex;
+            return elementAt(slot(lastIndex));
+        }
+
+        /**
+         * @return index of the element next() would return
+         */
+        public int nextIndex()
+        {
+            return nextIndex;
+        }
+
+        /**
+         * @return index of the element previous() would return
+         */
+        public int previousIndex()
+        {
+            return nextIndex - 1;
+        }
+
+        /**
+         * Removes the element last returned by next() or previous()
+         */
+        public void remove()
+        {
+            if (lastIndex < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            MyGapArrayList.this.remove(lastIndex);
+            nextIndex = lastIndex;
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Replaces the element last returned by next() or previous()
+         * @param obj the new element
+         */
+        public void set(E obj)
+        {
+            if (lastIndex < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            MyGapArrayList.this.set(lastIndex, obj);
+        }
+
+        /**
+         * Inserts an element right before the cursor
+         * @param obj element to add
+         */
+        public void add(E obj)
+        {
+            checkForComodification();
+            MyGapArrayList.this.add(nextIndex, obj);
+            nextIndex++;
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -1,5 +1,14 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.ListIterator;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
 
 /**
  * MyLinkedList describes and defines the properties of a doubly
@@ -25,33 +34,167 @@ public class MyLinkedList<E>
     private DoubleNode first;
     private DoubleNode last;
     private int size;
+    private int modCount;   //counts structural changes, for fail-fast iterators
+    private ListStats stats;    //null unless instrumentation is turned on
+
+    //removed nodes kept for reuse, chained through their next references
+    private DoubleNode pool;
+    private int poolSize;
+    private final int poolCapacity;
 
     /**
      * Constructor for MyLinkedList
      */
     public MyLinkedList()
     {
+        this(0);
+    }
+
+    /**
+     * Constructor for a MyLinkedList that recycles its nodes
+     * 
+     * Up to poolCapacity removed nodes are kept on a free list and
+     *  handed back out by the next adds, so a list that keeps adding and
+     *  removing about the same number of elements stops allocating
+     *  nodes altogether. The pool belongs to this list, so it needs no
+     *  locking as long as the list is only used by one thread.
+     *  
+     * @param poolCapacity the most removed nodes to keep; 0 turns
+     *  recycling off
+     */
+    public MyLinkedList(int poolCapacity)
+    {
+        if (poolCapacity < 0)
+            throw new RuntimeException("Pool capacity can't be negative");
+
         first = null;
         last = null;
         size = 0;
+        pool = null;
+        poolSize = 0;
+        this.poolCapacity = poolCapacity;
+    }
+
+    /**
+     * Gets a node for a new element, reusing a pooled one if there is one
+     * @param obj the value the node holds
+     * @return a node holding obj with no previous or next node
+     */
+    private DoubleNode newNode(Object obj)
+    {
+        DoubleNode node = pool;
+        if (node == null)
+            return new DoubleNode(obj);
+
+        pool = node.getNext();
+        poolSize--;
+        node.setNext(null);
+        node.setValue(obj);
+        return node;
     }
 
     /**
-     * Converts the properties of the list into a readable string
-     * @return String to test output
+     * Gives a node that was unlinked from the list back to the pool
+     * @param node node that is no longer in the list
+     * @postcondition the node's references are cleared so it doesn't keep
+     *               its value or neighbors alive, and it is kept for
+     *               reuse if the pool is not full
+     */
+    private void recycle(DoubleNode node)
+    {
+        node.setValue(null);
+        node.setPrevious(null);
+        if (poolSize < poolCapacity)
+        {
+            node.setNext(pool);
+            pool = node;
+            poolSize++;
+        }
+        else
+            node.setNext(null);
+    }
+
+    /**
+     * @return a string of the list in a readable form for testing
      */
     public String toString()
     {
+        StringBuilder s = new StringBuilder();
+        try
+        {
+            writeTo(s, String::valueOf, Integer.MAX_VALUE);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);  //a StringBuilder never throws
+        }
+        return s.toString();
+    }
+
+    /**
+     * Writes the list in the same form as toString, one element
+     *      at a time, without building the whole string first
+     * @param out where the text is written
+     * @throws IOException if out can't be written to
+     */
+    public void writeTo(Appendable out) throws IOException
+    {
+        writeTo(out, String::valueOf, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Writes the list as text, one element at a time
+     * @param out where the text is written
+     * @param formatter turns each element into its text
+     * @param maxElements the most elements to write; if the list is
+     *      longer, the rest are summed up as "... (n more)"; may not
+     *      be negative
+     * @throws IOException if out can't be written to
+     * @postcondition writes something like "[a, b, c]" to out, in time
+     *               proportional to the length of the text
+     */
+    public void writeTo(Appendable out, 
+                        Function<? super E, ? extends CharSequence> formatter,
+                        int maxElements) throws IOException
+    {
+        if (maxElements < 0)
+            throw new RuntimeException("maxElements can't be negative");
+        int shown = Math.min(size, maxElements);
+        out.append('[');
         DoubleNode node = first;
-        if (node == null)
-            return "[]";
-        String s = "[";
-        while (node.getNext() != null)
+        for (int i = 0; i < shown; i++)
         {
-            s += node.getValue() + ", ";
+            if (i > 0)
+                out.append(", ");
+            out.append(formatter.apply((E) node.getValue()));
             node = node.getNext();
         }
-        return s + node.getValue() + "]";
+        if (shown < size)
+        {
+            if (shown > 0)
+                out.append(", ");
+            out.append("... (").append(String.valueOf(size - shown))
+                .append(" more)");
+        }
+        out.append(']');
+    }
+
+    /**
+     * Writes the list as UTF-8 text to a stream, buffering the output
+     * @param out the stream the text is written to; it is flushed
+     *      but not closed
+     * @param formatter turns each element into its text
+     * @param maxElements the most elements to write
+     * @throws IOException if out can't be written to
+     */
+    public void writeUtf8(OutputStream out, 
+                          Function<? super E, ? extends CharSequence> formatter,
+                          int maxElements) throws IOException
+    {
+        Writer writer = new BufferedWriter(
+            new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeTo(writer, formatter, maxElements);
+        writer.flush();
     }
 
     /** 
@@ -94,11 +237,34 @@ public class MyLinkedList<E>
      *              */
     private DoubleNode getNode(int index)
     {
+        if (index < 0 || index >= size)
+            throw new RuntimeException("Index is out of bounds");
+
+        if (stats != null)
+            stats.walked(index > size / 2 ? size - 1 - index : index);
         if (index > size / 2)
             return getNodeFromLast(index);
         return getNodeFromFirst(index);
     }
 
+    /**
+     * Turns instrumentation on or off for this list
+     * @param stats where the list records what it does, or null to
+     *  stop recording
+     */
+    public void setStats(ListStats stats)
+    {
+        this.stats = stats;
+    }
+
+    /**
+     * @return the stats the list is recording into, or null if none
+     */
+    public ListStats getStats()
+    {
+        return stats;
+    }
+
     /**
      * Gets the size of the list
      * @return size of the list
@@ -115,7 +281,11 @@ public class MyLinkedList<E>
      */
     public E get(int index)
     {
-        return (E) getNode(index).getValue();
+        long start = stats == null ? 0 : stats.start();
+        E obj = (E) getNode(index).getValue();
+        if (stats != null)
+            stats.stop(ListStats.GET, start);
+        return obj;
     }
 
     /** 
@@ -127,10 +297,13 @@ public class MyLinkedList<E>
      */
     public E set(int index, E obj)
     {
-        E oldObj = (E) get(index);        
+        long start = stats == null ? 0 : stats.start();
         DoubleNode node = getNode(index);
+        E oldObj = (E) node.getValue();
         node.setValue(obj);
-        return oldObj;        
+        if (stats != null)
+            stats.stop(ListStats.SET, start);
+        return oldObj;
     }
 
     /**
@@ -140,14 +313,10 @@ public class MyLinkedList<E>
      */
     public boolean add(E obj)
     {
-        DoubleNode newLast = new DoubleNode(obj);
-        if (last != null)
-        {   
-            newLast.setPrevious(last);       
-        }
-        last.setNext(newLast);
-        last = newLast;
-        size++;
+        long start = stats == null ? 0 : stats.start();
+        addLast(obj);
+        if (stats != null)
+            stats.stop(ListStats.ADD, start);
         return true;
     }
 
@@ -161,19 +330,60 @@ public class MyLinkedList<E>
      */
     public E remove(int index)
     {
-        DoubleNode node = getNode(index);
-        E obj = (E) get(index);
-        if (index == 0)
-            return removeFirst();
-        else if (index == size - 1)
-            return removeLast();
+        long start = stats == null ? 0 : stats.start();
+        E obj = unlink(getNode(index));
+        if (stats != null)
+            stats.stop(ListStats.REMOVE, start);
+        return obj;
+    }
+
+    /**
+     * Takes a node out of the list in O(1), fixing first and last if
+     *  the node was at either end
+     * @param node a node that is in the list
+     * @return the element the node held
+     */
+    private E unlink(DoubleNode node)
+    {
+        E obj = (E) node.getValue();
+        DoubleNode before = node.getPrevious();
+        DoubleNode after = node.getNext();
+        if (before == null)
+            first = after;
         else
-        {
-            node.getPrevious().setNext(node.getNext());
-            node.getNext().setPrevious(node.getPrevious());
-            size--;
-            return obj;
-        }
+            before.setNext(after);
+        if (after == null)
+            last = before;
+        else
+            after.setPrevious(before);
+        size--;
+        modCount++;
+        recycle(node);
+        return obj;
+    }
+
+    /**
+     * Links a new node into the list right before another node in O(1)
+     * @param obj element for the new node
+     * @param after node that will follow the new one, or null to
+     *  add at the back
+     */
+    private void linkBefore(Object obj, DoubleNode after)
+    {
+        DoubleNode newNode = newNode(obj);
+        DoubleNode before = after == null ? last : after.getPrevious();
+        newNode.setPrevious(before);
+        newNode.setNext(after);
+        if (before == null)
+            first = newNode;
+        else
+            before.setNext(newNode);
+        if (after == null)
+            last = newNode;
+        else
+            after.setPrevious(newNode);
+        size++;
+        modCount++;
     }
 
     /** 
@@ -190,18 +400,15 @@ public class MyLinkedList<E>
      */
     public void add(int index, E obj)
     {
+        long start = stats == null ? 0 : stats.start();
         if (index == 0)
             addFirst(obj);
+        else if (index == size)
+            addLast(obj);
         else
-        {
-            DoubleNode node = getNode(index - 1);
-            DoubleNode newNode = new DoubleNode(obj);
-            newNode.setPrevious(node);
-            newNode.setNext(node.getNext());
-            node.setNext(newNode);
-            newNode.getNext().setPrevious(newNode);
-            size++;
-        }
+            linkBefore(obj, getNode(index));
+        if (stats != null)
+            stats.stop(ListStats.ADD_INDEX, start);
     }
 
     /**
@@ -212,14 +419,7 @@ public class MyLinkedList<E>
      */
     public void addFirst(E obj)
     {
-        DoubleNode newFirst = new DoubleNode(obj);
-        newFirst.setNext(first);
-        if (first != null)
-            first.setPrevious(newFirst);
-        else
-            last = newFirst;
-        first = newFirst;
-        size++;
+        linkBefore(obj, first);
     }
 
     /**
@@ -228,12 +428,7 @@ public class MyLinkedList<E>
      */
     public void addLast(E obj)
     {
-        DoubleNode newLast = new DoubleNode(obj);
-        if (last != null)
-            last.setNext(newLast);
-        newLast.setPrevious(last);
-        last = newLast;
-        size++;
+        linkBefore(obj, null);
     }
 
     /**
@@ -260,15 +455,9 @@ public class MyLinkedList<E>
      */
     public E removeFirst()
     {
-        E obj = (E) first.getValue();
-        if (last == first)
-            last = null;
-        first = first.getNext();
-
-        if (first != null)
-            first.setPrevious(null);
-        size--;
-        return obj;        
+        if (first == null)
+            throw new RuntimeException("NoSuchElementException");
+        return unlink(first);
     }
 
     /**
@@ -277,12 +466,9 @@ public class MyLinkedList<E>
      */
     public E removeLast()
     {
-        E obj = (E) last.getValue();
-        System.out.print(last.getValue());
-        last = last.getPrevious();
-        last.setNext(null);
-        size--;
-        return obj;
+        if (last == null)
+            throw new RuntimeException("NoSuchElementException");
+        return unlink(last);
     }
 
     /**
@@ -291,27 +477,70 @@ public class MyLinkedList<E>
      */
     public Iterator<E> iterator()
     {
-        return new MyLinkedListIterator();
+        return new MyLinkedListIterator(0);
+    }
+
+    /**
+     * gets a ListIterator that starts before the first element
+     * @return the list iterator
+     */
+    public ListIterator<E> listIterator()
+    {
+        return new MyLinkedListIterator(0);
+    }
+
+    /**
+     * gets a ListIterator that starts before the given index
+     * @param index index of the element the first call to next() returns
+     * @return the list iterator
+     */
+    public ListIterator<E> listIterator(int index)
+    {
+        if (index < 0 || index > size)
+            throw new RuntimeException("Index is out of bounds");
+        return new MyLinkedListIterator(index);
     }
 
     /**
      * Defines the properties of the iterator which
      *  iterates through and operates on MyLinkedList
      *  
+     * The iterator keeps a reference to the node it is next to, so
+     *  add, remove and set at the cursor are O(1) and keep first, last
+     *  and size correct. It fails fast with a
+     *  ConcurrentModificationException if the list is changed by
+     *  anything other than the iterator itself.
+     *  
      * @author Arnav Dani
      * @version 11.12.20
      */
-    private class MyLinkedListIterator implements Iterator<E>
+    private class MyLinkedListIterator implements ListIterator<E>
     {
-        private DoubleNode nextNode;
+        private DoubleNode nextNode;        //node next() returns; null at the end
+        private DoubleNode lastReturned;    //node remove()/set() act on, or null
+        private int nextIndex;
+        private int expectedModCount;
 
         /**
          * Constructor for the iterator
          *  initializes all instance variables
+         * @param index index of the element the first call to next() returns
          */
-        public MyLinkedListIterator()
+        public MyLinkedListIterator(int index)
         {
-            nextNode = first;
+            nextNode = index == size ? null : getNode(index);
+            lastReturned = null;
+            nextIndex = index;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Throws if the list was changed behind the iterator's back
+         */
+        private void checkForComodification()
+        {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
         }
 
         /**
@@ -320,7 +549,7 @@ public class MyLinkedList<E>
          */
         public boolean hasNext()
         {
-            return nextNode != null;
+            return nextIndex < size;
         }
 
         /**
@@ -332,26 +561,98 @@ public class MyLinkedList<E>
          */
         public E next()
         {
-            E obj = (E) nextNode.getValue();
+            checkForComodification();
+            if (nextNode == null)
+                throw new NoSuchElementException();
+            lastReturned = nextNode;
             nextNode = nextNode.getNext();
-            return (E) obj;
+            nextIndex++;
+            return (E) lastReturned.getValue();
+        }
+
+        /**
+         * checks whether there is a previous element
+         * @return if there is a previous element
+         */
+        public boolean hasPrevious()
+        {
+            return nextIndex > 0;
+        }
+
+        /**
+         * moves back one element and returns the value just passed
+         * @return the value at the node just passed by the iterator
+         */
+        public E previous()
+        {
+            checkForComodification();
+            if (nextIndex == 0)
+                throw new NoSuchElementException();
+            nextNode = nextNode == null ? last : nextNode.getPrevious();
+            lastReturned = nextNode;
+            nextIndex--;
+            return (E) lastReturned.getValue();
+        }
+
+        /**
+         * @return index of the element next() would return
+         */
+        public int nextIndex()
+        {
+            return nextIndex;
+        }
+
+        /**
+         * @return index of the element previous() would return
+         */
+        public int previousIndex()
+        {
+            return nextIndex - 1;
         }
 
         //@postcondition removes the last element that was returned by next
         /**
-         * removes the element to the left of the
-         *  current location of the iterator
+         * removes the element last returned by next() or previous()
          * 
          * no need to return the object removed
          */
         public void remove()
         {
-            DoubleNode node = nextNode.getPrevious();
-            if (node.getPrevious() != null)
-                node.getPrevious().setNext(node.getNext());
+            if (lastReturned == null)
+                throw new IllegalStateException();
+            checkForComodification();
+            if (lastReturned == nextNode)
+                nextNode = lastReturned.getNext();  //came from previous()
+            else
+                nextIndex--;                        //came from next()
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
 
-            if (node.getNext() != null)
-                node.getNext().setPrevious(node.getPrevious());
+        /**
+         * replaces the element last returned by next() or previous()
+         * @param obj the new element
+         */
+        public void set(E obj)
+        {
+            if (lastReturned == null)
+                throw new IllegalStateException();
+            checkForComodification();
+            lastReturned.setValue(obj);
+        }
+
+        /**
+         * adds an element right before the cursor
+         * @param obj the element to add
+         */
+        public void add(E obj)
+        {
+            checkForComodification();
+            linkBefore(obj, nextNode);
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
         }
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,291 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Describes a list of fixed-width records that lives in a file and is
+ *      accessed through memory mapping (FileChannel.map).
+ * The records are never read into objects up front: reopening the file
+ *      just maps it again, so a list of several gigabytes is ready right
+ *      away and each record is only decoded by its RecordCodec when get
+ *      asks for it.
+ * The file starts with a small header (a magic number, the format
+ *      version, the record size and the number of records) followed by
+ *      the records. The records are mapped in regions of at most 1 GB,
+ *      since a single mapping can't be longer than Integer.MAX_VALUE.
+ *      A region that is remapped longer, and every region on close,
+ *      is unmapped right away rather than when the collector finds it.
+ *
+ * @version 10/18/26
+ * @author Arnav Dani
+ *
+ * @param <E> type of object making up the list
+ */
+public class MyMappedList<E> implements AutoCloseable
+{
+    private static final int MAGIC = 0x4D4C5354;    //"MLST"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int SIZE_OFFSET = 12;      //where size is kept
+    private static final int MAX_REGION_BYTES = 1 << 30;
+    private static final int MIN_MAP_BYTES = 1 << 16;
+
+    private final RecordCodec<E> codec;
+    private final int recordSize;
+    private final int recordsPerRegion;
+    private final long regionBytes;
+    private FileChannel channel;
+    private MappedByteBuffer header;
+    private MappedByteBuffer[] regions;
+    private int size;
+
+    /**
+     * Opens the list stored in a file, creating an empty one
+     *      if the file does not exist yet
+     * @param file the file holding the list
+     * @param codec how each element is stored as bytes; must have the
+     *      same record size the file was created with
+     * @throws IOException if the file can't be opened or mapped, is
+     *      not a list with this record size, or is shorter than its
+     *      header says
+     */
+    public MyMappedList(Path file, RecordCodec<E> codec) throws IOException
+    {
+        this.codec = codec;
+        recordSize = codec.recordSize();
+        if (recordSize <= 0 || recordSize > MAX_REGION_BYTES)
+            throw new RuntimeException("Illegal record size: " + recordSize);
+        recordsPerRegion = MAX_REGION_BYTES / recordSize;
+        regionBytes = (long) recordsPerRegion * recordSize;
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try
+        {
+            long fileSize = channel.size();
+            boolean isNew = fileSize == 0;
+            if (!isNew && fileSize < HEADER_SIZE)
+                throw new IOException(file + " is too short to be a list");
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (isNew)
+            {
+                header.putInt(0, MAGIC);
+                header.putInt(4, VERSION);
+                header.putInt(8, recordSize);
+                header.putLong(SIZE_OFFSET, 0);
+            }
+            else if (header.getInt(0) != MAGIC 
+                || header.getInt(4) != VERSION
+                || header.getInt(8) != recordSize)
+            {
+                throw new IOException(file + " is not a list of " 
+                    + recordSize + "-byte records");
+            }
+            long storedSize = header.getLong(SIZE_OFFSET);
+            if (!isNew && (storedSize < 0 || storedSize > Integer.MAX_VALUE
+                || HEADER_SIZE + storedSize * recordSize > fileSize))
+            {
+                throw new IOException(file + " says it holds " + storedSize
+                    + " records but is only " + fileSize + " bytes long");
+            }
+            size = (int) storedSize;
+            regions = new MappedByteBuffer[1];
+        }
+        catch (IOException | RuntimeException e)
+        {
+            DirectBuffers.free(header);
+            header = null;
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Finds the mapping that holds a record, mapping it on first use
+     * @param index index of the record
+     * @return the region holding that record
+     * @postcondition a region is mapped over as much of the file as 
+     *               already exists, and remapped twice as long when a 
+     *               record past its end is needed, so the file grows
+     *               by doubling instead of a whole region at a time;
+     *               the shorter mapping is unmapped once it is replaced
+     */
+    private MappedByteBuffer region(int index)
+    {
+        int r = index / recordsPerRegion;
+        int end = offset(index) + recordSize;
+        if (r >= regions.length)
+            regions = Arrays.copyOf(regions, Math.max(r + 1, regions.length * 2));
+
+        MappedByteBuffer region = regions[r];
+        if (region == null || region.capacity() < end)
+        {
+            try
+            {
+                long start = HEADER_SIZE + r * regionBytes;
+                long length = Math.max(end, Math.max(MIN_MAP_BYTES, 
+                    region == null ? channel.size() - start 
+                                   : 2L * region.capacity()));
+                MappedByteBuffer old = region;
+                region = channel.map(FileChannel.MapMode.READ_WRITE,
+                    start, Math.min(length, regionBytes));
+                region.order(ByteOrder.LITTLE_ENDIAN);
+                regions[r] = region;
+                DirectBuffers.free(old);
+            }
+            catch (IOException e)
+            {
+                throw new RuntimeException("Could not map region " + r, e);
+            }
+        }
+        return region;
+    }
+
+    /**
+     * @param index index of the record
+     * @return byte offset of the record inside its region
+     */
+    private int offset(int index)
+    {
+        return (index % recordsPerRegion) * recordSize;
+    }
+
+    /**
+     * Throws if the list has already been closed
+     */
+    private void checkOpen()
+    {
+        if (channel == null)
+            throw new RuntimeException("List has been closed");
+    }
+
+    /**
+     * Records a new size in the header of the file
+     * @param newSize the number of records now in the list
+     */
+    private void setSize(int newSize)
+    {
+        size = newSize;
+        header.putLong(SIZE_OFFSET, newSize);
+    }
+
+    /**
+     * @return a string of the list in a readable form for testing
+     */
+    public String toString()
+    {
+        if (size == 0)
+            return "[]";
+
+        StringBuilder s = new StringBuilder("[");
+        for (int i = 0; i < size - 1; i++)
+            s.append(get(i)).append(", ");
+        return s.append(get(size - 1)).append("]").toString();
+    }
+
+    /**
+     * Returns the number of elements stored in the list
+     * @return size of the list
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * @return the element at a certain index, decoded from its record
+     * @param index index to get element from
+     */
+    public E get(int index)
+    {
+        checkOpen();
+        if (index < 0 || index >= size)
+            throw new RuntimeException("Index is out of bounds");
+
+        return codec.read(region(index), offset(index));
+    }
+
+    /**
+     * @postcondition overwrites the record at position index with obj
+     * @param index index to replace element at
+     * @param obj element to store instead
+     * @return the element that was replaced
+     */
+    public E set(int index, E obj)
+    {
+        E oldObj = get(index);
+        codec.write(region(index), offset(index), obj);
+        return oldObj;
+    }
+
+    /**
+     * Appends an element to the end of the file
+     * @param obj element to add at the back
+     * @return true
+     */
+    public boolean add(E obj)
+    {
+        checkOpen();
+        if (size == Integer.MAX_VALUE)
+            throw new OutOfMemoryError("List is full");
+
+        codec.write(region(size), offset(size), obj);
+        setSize(size + 1);
+        return true;
+    }
+
+    /**
+     * Drops every element from newSize onward
+     * @param newSize number of elements to keep
+     * @precondition  0 <= newSize <= size
+     * @postcondition size() == newSize; the file keeps its length
+     *               so that later appends can reuse the space
+     */
+    public void truncate(int newSize)
+    {
+        checkOpen();
+        if (newSize < 0 || newSize > size)
+            throw new RuntimeException("Index is out of bounds");
+
+        setSize(newSize);
+    }
+
+    /**
+     * Makes sure every change so far has been written to the disk
+     */
+    public void force()
+    {
+        checkOpen();
+        for (MappedByteBuffer region : regions)
+        {
+            if (region != null)
+                region.force();
+        }
+        header.force();
+    }
+
+    /**
+     * Writes out all changes, unmaps the file and closes it
+     * @throws IOException if the file can't be closed
+     * @postcondition any further use of the list throws
+     */
+    public void close() throws IOException
+    {
+        if (channel == null)
+            return;
+
+        force();
+        for (MappedByteBuffer region : regions)
+            DirectBuffers.free(region);
+        DirectBuffers.free(header);
+        channel.close();
+        channel = null;
+        header = null;
+        regions = null;
+    }
+}
@@ -0,0 +1,285 @@
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * MyMpscRingQueue is a bounded queue that any number of producer threads
+ *  can add to while exactly one consumer thread removes, kept in a fixed
+ *  circular array so that adding and removing never allocate anything.
+ *
+ * A producer claims a slot by moving tail forward with compareAndSet,
+ *  then publishes its element into the slot with an ordered write. The
+ *  consumer treats a null slot as "not there yet": if tail has already
+ *  passed the slot, a producer is between claiming and publishing, and
+ *  poll waits the few instructions it takes to finish. Producers share
+ *  a cached limit (head + capacity) and only read the consumer's head
+ *  again when tail reaches it.
+ *
+ * head and tail are kept 128 bytes apart inside one AtomicLongArray so
+ *  the producers and the consumer never write to the same cache line.
+ *  The capacity is rounded up to a power of two so a position can be
+ *  masked into the array.
+ *
+ * Elements can't be null, since null marks an empty slot.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ *
+ * @param <E> generic type of all the objects
+ *  in the structure
+ */
+public class MyMpscRingQueue<E>
+{
+    private static final int PAD = 16;                  //longs in 128 bytes
+    private static final int TAIL = PAD;                //claimed by producers
+    private static final int PRODUCER_LIMIT = PAD + 1;  //producers' copy of head + capacity
+    private static final int HEAD = 2 * PAD;            //written by the consumer
+
+    private final AtomicReferenceArray<E> buffer;
+    private final int mask;
+    private final AtomicLongArray counters;
+
+    /**
+     * Constructor for MyMpscRingQueue
+     * @param capacity the most elements the queue holds; rounded up
+     *  to a power of two
+     */
+    public MyMpscRingQueue(int capacity)
+    {
+        if (capacity < 1 || capacity > 1 << 30)
+            throw new RuntimeException("Capacity must be between 1 and 2^30");
+
+        int length = Integer.highestOneBit(capacity);
+        if (length < capacity)
+            length <<= 1;
+        buffer = new AtomicReferenceArray<E>(length);
+        mask = length - 1;
+        counters = new AtomicLongArray(3 * PAD);
+        counters.set(PRODUCER_LIMIT, length);
+    }
+
+    /**
+     * @return the most elements the queue can hold
+     */
+    public int capacity()
+    {
+        return mask + 1;
+    }
+
+    /**
+     * @return about how many elements are in the queue; exact only
+     *  when no thread is using it
+     */
+    public int size()
+    {
+        long head = counters.getAcquire(HEAD);
+        long tail = counters.getAcquire(TAIL);
+        return (int) Math.max(0, Math.min(tail - head, mask + 1));
+    }
+
+    /**
+     * @return true if the queue held no elements when it was checked
+     */
+    public boolean isEmpty()
+    {
+        return counters.getAcquire(HEAD) >= counters.getAcquire(TAIL);
+    }
+
+    /**
+     * Gets how far tail may go before the queue is full, reading the
+     *  consumer's head again only if the shared copy says it is full
+     * @param tail the tail position the caller wants to claim from
+     * @return a limit on tail that is never past head + capacity
+     */
+    private long producerLimit(long tail)
+    {
+        long limit = counters.get(PRODUCER_LIMIT);
+        if (tail >= limit)
+        {
+            limit = counters.getAcquire(HEAD) + mask + 1;
+            if (tail < limit)
+                counters.setRelease(PRODUCER_LIMIT, limit);
+        }
+        return limit;
+    }
+
+    /**
+     * Adds an element to the back of the queue; safe from any thread
+     * @param obj element to add; may not be null
+     * @return true if it was added, false if the queue was full
+     */
+    public boolean offer(E obj)
+    {
+        if (obj == null)
+            throw new NullPointerException();
+
+        long tail;
+        do
+        {
+            tail = counters.get(TAIL);
+            if (tail >= producerLimit(tail))
+                return false;
+        }
+        while (!counters.compareAndSet(TAIL, tail, tail + 1));
+
+        buffer.setRelease((int) tail & mask, obj);
+        return true;
+    }
+
+    /**
+     * Adds as many elements of an array as fit, claiming all of their
+     *  slots with one compareAndSet; safe from any thread
+     * @param items array holding the elements; none may be null
+     * @param from index of the first element to add
+     * @param count number of elements to try to add
+     * @return the number of elements added, starting from items[from]
+     */
+    public int offerAll(E[] items, int from, int count)
+    {
+        if (from < 0 || count < 0 || from + count > items.length)
+            throw new RuntimeException("Index is out of bounds");
+        for (int i = from; i < from + count; i++)
+        {
+            if (items[i] == null)
+                throw new NullPointerException();
+        }
+        if (count == 0)
+            return 0;
+
+        long tail;
+        int n;
+        do
+        {
+            tail = counters.get(TAIL);
+            long limit = producerLimit(tail);
+            if (tail >= limit)
+                return 0;
+            n = (int) Math.min(count, limit - tail);
+        }
+        while (!counters.compareAndSet(TAIL, tail, tail + n));
+
+        for (int i = 0; i < n; i++)
+            buffer.setRelease((int) (tail + i) & mask, items[from + i]);
+        return n;
+    }
+
+    /**
+     * Waits for the element in a claimed slot to be published
+     * @param index slot of the element
+     * @param head position of the slot
+     * @return the element, or null if no producer has claimed the slot
+     */
+    private E awaitSlot(int index, long head)
+    {
+        E obj = buffer.getAcquire(index);
+        if (obj == null)
+        {
+            if (head >= counters.getAcquire(TAIL))
+                return null;
+            do
+            {
+                Thread.onSpinWait();
+                obj = buffer.getAcquire(index);
+            }
+            while (obj == null);
+        }
+        return obj;
+    }
+
+    /**
+     * Removes the element at the front of the queue; consumer thread only
+     * @return the element removed, or null if the queue was empty
+     */
+    public E poll()
+    {
+        long head = counters.getPlain(HEAD);
+        int index = (int) head & mask;
+        E obj = awaitSlot(index, head);
+        if (obj == null)
+            return null;
+        buffer.setPlain(index, null);
+        counters.setRelease(HEAD, head + 1);
+        return obj;
+    }
+
+    /**
+     * gets the element at the front of the queue without removing it;
+     *  consumer thread only
+     * @return the first element, or null if the queue was empty
+     */
+    public E peek()
+    {
+        long head = counters.getPlain(HEAD);
+        return awaitSlot((int) head & mask, head);
+    }
+
+    /**
+     * Moves up to maxElements published elements from the front of the
+     *  queue into a collection, freeing their slots all at once; stops
+     *  early at a slot whose producer hasn't finished; consumer thread only.
+     *  If c throws, the elements it already took are freed and the rest,
+     *  starting with the one it refused, stay in the queue.
+     * @param c collection the elements are added to, in order
+     * @param maxElements the most elements to move
+     * @return the number of elements moved
+     */
+    public int drainTo(Collection<? super E> c, int maxElements)
+    {
+        long head = counters.getPlain(HEAD);
+        int n = 0;
+        try
+        {
+            while (n < maxElements)
+            {
+                int index = (int) (head + n) & mask;
+                E obj = buffer.getAcquire(index);
+                if (obj == null)
+                    break;
+                c.add(obj);
+                buffer.setPlain(index, null);
+                n++;
+            }
+        }
+        finally
+        {
+            if (n > 0)
+                counters.setRelease(HEAD, head + n);
+        }
+        return n;
+    }
+
+    /**
+     * Moves up to maxElements published elements from the front of the
+     *  queue into a MyArrayList, freeing their slots all at once; stops
+     *  early at a slot whose producer hasn't finished; consumer thread only.
+     *  If list throws, the elements it already took are freed and the
+     *  rest stay in the queue.
+     * @param list list the elements are added to, in order
+     * @param maxElements the most elements to move
+     * @return the number of elements moved
+     */
+    public int drainTo(MyArrayList<? super E> list, int maxElements)
+    {
+        long head = counters.getPlain(HEAD);
+        int n = 0;
+        try
+        {
+            while (n < maxElements)
+            {
+                int index = (int) (head + n) & mask;
+                E obj = buffer.getAcquire(index);
+                if (obj == null)
+                    break;
+                list.add(obj);
+                buffer.setPlain(index, null);
+                n++;
+            }
+        }
+        finally
+        {
+            if (n > 0)
+                counters.setRelease(HEAD, head + n);
+        }
+        return n;
+    }
+}
@@ -0,0 +1,232 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Describes a list that stores its elements as fixed-width records in a
+ *      direct ByteBuffer, which lives outside of the Java heap.
+ * A RecordCodec turns each element into bytes when it is added and back
+ *      into an object when it is read, so the garbage collector never has
+ *      to scan or move the stored elements, no matter how many there are.
+ * The memory is given back as soon as close() is called, and an old
+ *      buffer is freed as soon as a bigger one replaces it, so none of
+ *      it waits on the garbage collector; using the list after close
+ *      throws an exception. Because one ByteBuffer can hold at most
+ *      Integer.MAX_VALUE bytes, that is also the limit on the list.
+ *
+ * @version 10/18/26
+ * @author Arnav Dani
+ *
+ * @param <E> type of object making up the list
+ */
+public class MyOffHeapList<E> implements AutoCloseable
+{
+    private final RecordCodec<E> codec;
+    private final int recordSize;
+    private ByteBuffer buffer;
+    private int size;
+
+    /**
+     * Constructor for MyOffHeapList with room for 16 records
+     * @param codec how each element is stored as bytes
+     */
+    public MyOffHeapList(RecordCodec<E> codec)
+    {
+        this(codec, 16);
+    }
+
+    /**
+     * Constructor for MyOffHeapList
+     * @param codec how each element is stored as bytes
+     * @param initialCapacity number of records to make room for
+     */
+    public MyOffHeapList(RecordCodec<E> codec, int initialCapacity)
+    {
+        this.codec = codec;
+        recordSize = codec.recordSize();
+        if (recordSize <= 0)
+            throw new RuntimeException("Record size must be positive");
+        if (initialCapacity < 1 
+            || (long) initialCapacity * recordSize > Integer.MAX_VALUE)
+            throw new RuntimeException("Illegal capacity: " + initialCapacity);
+
+        buffer = allocate(initialCapacity * recordSize);
+        size = 0;
+    }
+
+    /**
+     * Allocates a direct buffer in the machine's own byte order
+     * @param bytes length of the buffer
+     * @return the new buffer
+     */
+    private static ByteBuffer allocate(int bytes)
+    {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * @return a string of the list in a readable form for testing
+     */
+    public String toString()
+    {
+        if (size == 0)
+            return "[]";
+
+        StringBuilder s = new StringBuilder("[");
+        for (int i = 0; i < size - 1; i++)
+            s.append(get(i)).append(", ");
+        return s.append(get(size - 1)).append("]").toString();
+    }
+
+    /**
+     * Throws if the list has already been closed
+     */
+    private void checkOpen()
+    {
+        if (buffer == null)
+            throw new RuntimeException("List has been closed");
+    }
+
+    /**
+     * Doubles the capacity of the buffer
+     * @postcondition replaces the buffer with one that is twice as long
+     *               (or as long as allowed), copies the records over and
+     *               frees the old one; the copy happens outside of the heap
+     */
+    private void doubleCapacity()
+    {
+        long wanted = Math.min(2L * buffer.capacity(), 
+            (Integer.MAX_VALUE / recordSize) * (long) recordSize);
+        if (wanted <= (long) size * recordSize)
+            throw new OutOfMemoryError("List is full");
+
+        ByteBuffer doubled = allocate((int) wanted);
+        ByteBuffer old = buffer.duplicate();
+        old.position(0).limit(size * recordSize);
+        doubled.put(old);
+        DirectBuffers.free(buffer);
+        buffer = doubled;
+    }
+
+    /**
+     * Moves bytes inside the buffer, even when the two ranges overlap
+     * @param from byte offset to copy from
+     * @param to byte offset to copy to
+     * @param length number of bytes to copy
+     * @postcondition the bytes are copied straight from one part of the
+     *               off-heap memory to the other, never through the heap;
+     *               a bulk put from a buffer sharing the same memory acts
+     *               as if the source were copied out first
+     */
+    private void moveBytes(int from, int to, int length)
+    {
+        if (length == 0)
+            return;
+        buffer.put(to, buffer.duplicate(), from, length);
+    }
+
+    /**
+     * @return the number of records the buffer can hold
+     */
+    public int getCapacity()
+    {
+        checkOpen();
+        return buffer.capacity() / recordSize;
+    }
+
+    /**
+     * Returns the number of elements stored in the list
+     * @return size of the list
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * @return the element at a certain index, decoded from its record
+     * @param index index to get element from
+     */
+    public E get(int index)
+    {
+        checkOpen();
+        if (index < 0 || index >= size)
+            throw new RuntimeException("Index is out of bounds");
+
+        return codec.read(buffer, index * recordSize);
+    }
+
+    /**
+     * @postcondition overwrites the record at position index with obj
+     * @param index index to replace element at
+     * @param obj element to store instead
+     * @return the element that was replaced
+     */
+    public E set(int index, E obj)
+    {
+        E oldObj = get(index);
+        codec.write(buffer, index * recordSize, obj);
+        return oldObj;
+    }
+
+    /**
+     * Adds an element to the back of the list
+     * @param obj element to add at the back
+     * @return true
+     */
+    public boolean add(E obj)
+    {
+        checkOpen();
+        if ((size + 1L) * recordSize > buffer.capacity())
+            doubleCapacity();
+        codec.write(buffer, size * recordSize, obj);
+        size++;
+        return true;
+    }
+
+    /**
+     * Adds an element at the index specified, shifts the rest back
+     * @param index index to add element at
+     * @param obj element to add at index
+     * @precondition  0 <= index <= size
+     */
+    public void add(int index, E obj)
+    {
+        checkOpen();
+        if (index < 0 || index > size)
+            throw new RuntimeException("Index is out of bounds");
+
+        if ((size + 1L) * recordSize > buffer.capacity())
+            doubleCapacity();
+        moveBytes(index * recordSize, (index + 1) * recordSize, 
+            (size - index) * recordSize);
+        codec.write(buffer, index * recordSize, obj);
+        size++;
+    }
+
+    /**
+     * Removes the element at a specified index in the list
+     * @param index index to remove from
+     * @return the element that was removed
+     */
+    public E remove(int index)
+    {
+        E removed = get(index);
+        moveBytes((index + 1) * recordSize, index * recordSize, 
+            (size - index - 1) * recordSize);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Releases the off-heap buffer
+     * @postcondition the list is empty and any further use throws;
+     *               the native memory is returned right away
+     */
+    public void close()
+    {
+        ByteBuffer old = buffer;
+        buffer = null;
+        size = 0;
+        DirectBuffers.free(old);
+    }
+}
@@ -0,0 +1,438 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * MySkipList is a doubly linked list with extra "express lanes" that
+ *  let it find any index in O(log n) steps instead of O(n).
+ *
+ * Every node is on level 0, which links all of the nodes in order
+ *  exactly like MyLinkedList (including previous references). About a
+ *  quarter of the nodes are also on level 1, a quarter of those on level
+ *  2, and so on. Each link remembers its span, the number of positions
+ *  it jumps over, so a search can skip along the high levels while
+ *  counting positions and only drop down a level when it would overshoot.
+ *  That makes get, set, add(index) and remove(index) O(log n) on average.
+ *
+ * A link that runs off the end of the list has a span that reaches one
+ *  past the last element, which keeps the span bookkeeping the same for
+ *  every link.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ *
+ * @param <E> generic type of all the objects
+ *  in the structure
+ */
+public class MySkipList<E>
+{
+    private static final int MAX_LEVEL = 32;
+
+    private final SkipNode head;    //sentinel before the first element
+    private SkipNode last;
+    private int level;              //number of levels in use
+    private int size;
+    private int modCount;
+
+    //filled in by findPredecessors: the last node before the index on each
+    //level, and the position of that node (-1 for head)
+    private final SkipNode[] update;
+    private final int[] rank;
+
+    /**
+     * Constructor for MySkipList
+     */
+    public MySkipList()
+    {
+        head = new SkipNode(null, MAX_LEVEL);
+        for (int i = 0; i < MAX_LEVEL; i++)
+            head.span[i] = 1;
+        last = null;
+        level = 1;
+        size = 0;
+        update = new SkipNode[MAX_LEVEL];
+        rank = new int[MAX_LEVEL];
+    }
+
+    /**
+     * Converts the properties of the list into a readable string
+     * @return String to test output
+     */
+    public String toString()
+    {
+        StringBuilder s = new StringBuilder("[");
+        for (SkipNode node = head.next[0]; node != null; node = node.next[0])
+        {
+            s.append(node.value);
+            if (node.next[0] != null)
+                s.append(", ");
+        }
+        return s.append("]").toString();
+    }
+
+    /**
+     * Picks how many levels a new node is on
+     * @return a level count where each extra level is a quarter as likely
+     */
+    private static int randomLevel()
+    {
+        int lvl = 1;
+        while (lvl < MAX_LEVEL && ThreadLocalRandom.current().nextInt(4) == 0)
+            lvl++;
+        return lvl;
+    }
+
+    /**
+     * Finds, on every level, the last node before a position
+     * @param index the position being looked for
+     * @postcondition update[l] is the last node on level l before index
+     *               and rank[l] is its position, for every level in use
+     */
+    private void findPredecessors(int index)
+    {
+        SkipNode node = head;
+        int pos = -1;
+        for (int l = level - 1; l >= 0; l--)
+        {
+            while (node.next[l] != null && pos + node.span[l] < index)
+            {
+                pos += node.span[l];
+                node = node.next[l];
+            }
+            update[l] = node;
+            rank[l] = pos;
+        }
+    }
+
+    /**
+     * Finds the node at an index by skipping along the highest levels
+     * @param index index of the node
+     * @return the node
+     */
+    private SkipNode getNode(int index)
+    {
+        if (index < 0 || index >= size)
+            throw new RuntimeException("Index is out of bounds");
+
+        SkipNode node = head;
+        int pos = -1;
+        for (int l = level - 1; l >= 0; l--)
+        {
+            while (node.next[l] != null && pos + node.span[l] <= index)
+            {
+                pos += node.span[l];
+                node = node.next[l];
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Reads the element a node holds; the one place the list casts what
+     *  it stores back to E, since only Es are ever stored
+     * @param node a node in the list, not the head
+     * @return the node's element
+     */
+    @SuppressWarnings("unchecked")
+    private E elementOf(SkipNode node)
+    {
+        return (E) node.value;
+    }
+
+    /**
+     * Gets the size of the list
+     * @return size of the list
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * gets the object at a specific index
+     * @param index index to get object at
+     * @return the object at index
+     */
+    public E get(int index)
+    {
+        return elementOf(getNode(index));
+    }
+
+    /**
+     * @postcondition replaces the element at position index with obj
+     * @param index index to replace object at
+     * @param obj object to replace object at index with
+     * @return element that was replaced
+     */
+    public E set(int index, E obj)
+    {
+        SkipNode node = getNode(index);
+        E oldObj = elementOf(node);
+        node.value = obj;
+        return oldObj;
+    }
+
+    /**
+     * @postcondition appends obj to end of list; returns true
+     * @param obj object to add at the back
+     * @return true;
+     */
+    public boolean add(E obj)
+    {
+        add(size, obj);
+        return true;
+    }
+
+    /**
+     * @precondition  0 <= index <= size
+     * @postcondition inserts obj at position index, moving elements at
+     *               position index and higher to the right; links that
+     *               now pass over the new node get one longer span
+     * @param index index to add the object at
+     * @param obj object to add at specific index
+     */
+    public void add(int index, E obj)
+    {
+        if (index < 0 || index > size)
+            throw new RuntimeException("Index is out of bounds");
+
+        findPredecessors(index);
+        int newLevel = randomLevel();
+        if (newLevel > level)
+        {
+            for (int l = level; l < newLevel; l++)
+            {
+                update[l] = head;
+                rank[l] = -1;
+                head.span[l] = size + 1;
+            }
+            level = newLevel;
+        }
+
+        SkipNode node = new SkipNode(obj, newLevel);
+        for (int l = 0; l < newLevel; l++)
+        {
+            SkipNode before = update[l];
+            node.next[l] = before.next[l];
+            node.span[l] = before.span[l] - (index - 1 - rank[l]);
+            before.next[l] = node;
+            before.span[l] = index - rank[l];
+        }
+        for (int l = newLevel; l < level; l++)
+            update[l].span[l]++;
+
+        node.prev = update[0] == head ? null : update[0];
+        if (node.next[0] != null)
+            node.next[0].prev = node;
+        else
+            last = node;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * @postcondition removes element from position index, moving elements
+     *               at position index + 1 and higher to the left; links
+     *               that passed over the node get one shorter span
+     * @param index index at which to remove object
+     * @return element removed
+     */
+    public E remove(int index)
+    {
+        if (index < 0 || index >= size)
+            throw new RuntimeException("Index is out of bounds");
+
+        findPredecessors(index);
+        SkipNode node = update[0].next[0];
+        for (int l = 0; l < level; l++)
+        {
+            SkipNode before = update[l];
+            if (before.next[l] == node)
+            {
+                before.span[l] += node.span[l] - 1;
+                before.next[l] = node.next[l];
+            }
+            else
+                before.span[l]--;
+        }
+
+        if (node.next[0] != null)
+            node.next[0].prev = node.prev;
+        else
+            last = node.prev;
+        while (level > 1 && head.next[level - 1] == null)
+            level--;
+        size--;
+        modCount++;
+        return elementOf(node);
+    }
+
+    /**
+     * Adds an element to the front of the list
+     * @param obj object to add at the front
+     */
+    public void addFirst(E obj)
+    {
+        add(0, obj);
+    }
+
+    /**
+     * Adds an element to the back of the list
+     * @param obj object to add at the back
+     */
+    public void addLast(E obj)
+    {
+        add(size, obj);
+    }
+
+    /**
+     * gets the object at the front of the list
+     * @return object at the front node
+     */
+    public E getFirst()
+    {
+        if (size == 0)
+            throw new RuntimeException("NoSuchElementException");
+        return elementOf(head.next[0]);
+    }
+
+    /**
+     * gets the object at the back of the list
+     * @return object at last node
+     */
+    public E getLast()
+    {
+        if (size == 0)
+            throw new RuntimeException("NoSuchElementException");
+        return elementOf(last);
+    }
+
+    /**
+     * removes the first element in the list
+     * @return the element removed
+     */
+    public E removeFirst()
+    {
+        if (size == 0)
+            throw new RuntimeException("NoSuchElementException");
+        return remove(0);
+    }
+
+    /**
+     * removes the last element in the list
+     * @return the element removed
+     */
+    public E removeLast()
+    {
+        if (size == 0)
+            throw new RuntimeException("NoSuchElementException");
+        return remove(size - 1);
+    }
+
+    /**
+     * gets the iterator to iterate over the list
+     * @return the iterator
+     */
+    public Iterator<E> iterator()
+    {
+        return new MySkipListIterator();
+    }
+
+    /**
+     * A node of the skip list, linked forward on each of its levels
+     *  and backward on level 0
+     *
+     * @author Arnav Dani
+     * @version 10.18.26
+     */
+    private static class SkipNode
+    {
+        private Object value;
+        private final SkipNode[] next;
+        private final int[] span;   //positions jumped by each next link
+        private SkipNode prev;
+
+        /**
+         * Constructor for SkipNode
+         * @param value the element held by the node
+         * @param levels number of levels the node is on
+         */
+        public SkipNode(Object value, int levels)
+        {
+            this.value = value;
+            next = new SkipNode[levels];
+            span = new int[levels];
+        }
+    }
+
+    /**
+     * Defines the properties of the iterator which
+     *  walks level 0 of MySkipList
+     *
+     * @author Arnav Dani
+     * @version 10.18.26
+     */
+    private class MySkipListIterator implements Iterator<E>
+    {
+        private SkipNode nextNode;
+        private int nextIndex;
+        private boolean canRemove;
+        private int expectedModCount;
+
+        /**
+         * Constructor for the iterator
+         *  initializes all instance variables
+         */
+        public MySkipListIterator()
+        {
+            nextNode = head.next[0];
+            nextIndex = 0;
+            canRemove = false;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * checks whether there is a next element
+         * @return if there is a next element
+         */
+        public boolean hasNext()
+        {
+            return nextNode != null;
+        }
+
+        /**
+         * iterates to the next object and
+         *  returns the value just passed
+         * @return the value at the node just
+         *  passed by the iterator
+         */
+        public E next()
+        {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (nextNode == null)
+                throw new NoSuchElementException();
+            E obj = elementOf(nextNode);
+            nextNode = nextNode.next[0];
+            nextIndex++;
+            canRemove = true;
+            return obj;
+        }
+
+        /**
+         * removes the element last returned by next in O(log n)
+         */
+        public void remove()
+        {
+            if (!canRemove)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            nextIndex--;
+            MySkipList.this.remove(nextIndex);
+            canRemove = false;
+            expectedModCount = modCount;
+        }
+    }
+}
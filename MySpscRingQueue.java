@@ -0,0 +1,247 @@
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * MySpscRingQueue is a bounded queue for exactly one producer thread and
+ *  one consumer thread, kept in a fixed circular array so that adding
+ *  and removing never allocate anything.
+ *
+ * The producer only ever writes tail and the consumer only ever writes
+ *  head, so neither side needs a lock or a compareAndSet. Each side also
+ *  keeps a cached copy of the other side's index and only reads the real
+ *  one again when the cached copy says the queue is full (or empty).
+ *
+ * head and tail are kept 128 bytes apart inside one AtomicLongArray,
+ *  together with the cached copy each side uses, so the producer and
+ *  consumer never write to the same cache line. The capacity is rounded
+ *  up to a power of two so a position can be masked into the array.
+ *
+ * Elements can't be null, since poll returns null to mean the queue
+ *  was empty.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ *
+ * @param <E> generic type of all the objects
+ *  in the structure
+ */
+public class MySpscRingQueue<E>
+{
+    private static final int PAD = 16;              //longs in 128 bytes
+    private static final int TAIL = PAD;            //written by the producer
+    private static final int HEAD_CACHE = PAD + 1;  //producer's copy of head
+    private static final int HEAD = 2 * PAD;        //written by the consumer
+    private static final int TAIL_CACHE = 2 * PAD + 1;  //consumer's copy of tail
+
+    private final AtomicReferenceArray<E> buffer;
+    private final int mask;
+    private final AtomicLongArray counters;
+
+    /**
+     * Constructor for MySpscRingQueue
+     * @param capacity the most elements the queue holds; rounded up
+     *  to a power of two
+     */
+    public MySpscRingQueue(int capacity)
+    {
+        if (capacity < 1 || capacity > 1 << 30)
+            throw new RuntimeException("Capacity must be between 1 and 2^30");
+
+        int length = Integer.highestOneBit(capacity);
+        if (length < capacity)
+            length <<= 1;
+        buffer = new AtomicReferenceArray<E>(length);
+        mask = length - 1;
+        counters = new AtomicLongArray(3 * PAD);
+    }
+
+    /**
+     * @return the most elements the queue can hold
+     */
+    public int capacity()
+    {
+        return mask + 1;
+    }
+
+    /**
+     * @return about how many elements are in the queue; exact only
+     *  when neither thread is using it
+     */
+    public int size()
+    {
+        long head = counters.getAcquire(HEAD);
+        long tail = counters.getAcquire(TAIL);
+        return (int) Math.max(0, Math.min(tail - head, mask + 1));
+    }
+
+    /**
+     * @return true if the queue held no elements when it was checked
+     */
+    public boolean isEmpty()
+    {
+        return counters.getAcquire(HEAD) >= counters.getAcquire(TAIL);
+    }
+
+    /**
+     * Adds an element to the back of the queue; producer thread only
+     * @param obj element to add; may not be null
+     * @return true if it was added, false if the queue was full
+     */
+    public boolean offer(E obj)
+    {
+        if (obj == null)
+            throw new NullPointerException();
+
+        long tail = counters.getPlain(TAIL);
+        if (tail - counters.getPlain(HEAD_CACHE) > mask)
+        {
+            long head = counters.getAcquire(HEAD);
+            counters.setPlain(HEAD_CACHE, head);
+            if (tail - head > mask)
+                return false;
+        }
+        buffer.setPlain((int) tail & mask, obj);
+        counters.setRelease(TAIL, tail + 1);
+        return true;
+    }
+
+    /**
+     * Adds as many elements of an array as fit, publishing them to the
+     *  consumer all at once; producer thread only
+     * @param items array holding the elements; none may be null
+     * @param from index of the first element to add
+     * @param count number of elements to try to add
+     * @return the number of elements added, starting from items[from]
+     */
+    public int offerAll(E[] items, int from, int count)
+    {
+        if (from < 0 || count < 0 || from + count > items.length)
+            throw new RuntimeException("Index is out of bounds");
+        for (int i = from; i < from + count; i++)
+        {
+            if (items[i] == null)
+                throw new NullPointerException();
+        }
+
+        long tail = counters.getPlain(TAIL);
+        long head = counters.getPlain(HEAD_CACHE);
+        if (mask + 1 - (tail - head) < count)
+        {
+            head = counters.getAcquire(HEAD);
+            counters.setPlain(HEAD_CACHE, head);
+        }
+        int n = (int) Math.min(count, mask + 1 - (tail - head));
+        for (int i = 0; i < n; i++)
+            buffer.setPlain((int) (tail + i) & mask, items[from + i]);
+        if (n > 0)
+            counters.setRelease(TAIL, tail + n);
+        return n;
+    }
+
+    /**
+     * Removes the element at the front of the queue; consumer thread only
+     * @return the element removed, or null if the queue was empty
+     */
+    public E poll()
+    {
+        long head = counters.getPlain(HEAD);
+        if (head >= counters.getPlain(TAIL_CACHE))
+        {
+            long tail = counters.getAcquire(TAIL);
+            counters.setPlain(TAIL_CACHE, tail);
+            if (head >= tail)
+                return null;
+        }
+        int index = (int) head & mask;
+        E obj = buffer.getPlain(index);
+        buffer.setPlain(index, null);
+        counters.setRelease(HEAD, head + 1);
+        return obj;
+    }
+
+    /**
+     * gets the element at the front of the queue without removing it;
+     *  consumer thread only
+     * @return the first element, or null if the queue was empty
+     */
+    public E peek()
+    {
+        long head = counters.getPlain(HEAD);
+        if (head >= counters.getPlain(TAIL_CACHE))
+        {
+            long tail = counters.getAcquire(TAIL);
+            counters.setPlain(TAIL_CACHE, tail);
+            if (head >= tail)
+                return null;
+        }
+        return buffer.getPlain((int) head & mask);
+    }
+
+    /**
+     * Moves up to maxElements elements from the front of the queue into
+     *  a collection, freeing their slots all at once; consumer thread only.
+     *  If c throws, the elements it already took are freed and the rest,
+     *  starting with the one it refused, stay in the queue.
+     * @param c collection the elements are added to, in order
+     * @param maxElements the most elements to move
+     * @return the number of elements moved
+     */
+    public int drainTo(Collection<? super E> c, int maxElements)
+    {
+        long head = counters.getPlain(HEAD);
+        long tail = counters.getAcquire(TAIL);
+        counters.setPlain(TAIL_CACHE, tail);
+        int n = (int) Math.max(0, Math.min(maxElements, tail - head));
+        int moved = 0;
+        try
+        {
+            for (; moved < n; moved++)
+            {
+                int index = (int) (head + moved) & mask;
+                c.add(buffer.getPlain(index));
+                buffer.setPlain(index, null);
+            }
+        }
+        finally
+        {
+            if (moved > 0)
+                counters.setRelease(HEAD, head + moved);
+        }
+        return n;
+    }
+
+    /**
+     * Moves up to maxElements elements from the front of the queue into
+     *  a MyArrayList, freeing their slots all at once; consumer thread only.
+     *  If list throws, the elements it already took are freed and the
+     *  rest stay in the queue.
+     * @param list list the elements are added to, in order
+     * @param maxElements the most elements to move
+     * @return the number of elements moved
+     */
+    public int drainTo(MyArrayList<? super E> list, int maxElements)
+    {
+        long head = counters.getPlain(HEAD);
+        long tail = counters.getAcquire(TAIL);
+        counters.setPlain(TAIL_CACHE, tail);
+        int n = (int) Math.max(0, Math.min(maxElements, tail - head));
+        list.ensureCapacity(list.size() + n);
+        int moved = 0;
+        try
+        {
+            for (; moved < n; moved++)
+            {
+                int index = (int) (head + moved) & mask;
+                list.add(buffer.getPlain(index));
+                buffer.setPlain(index, null);
+            }
+        }
+        finally
+        {
+            if (moved > 0)
+                counters.setRelease(HEAD, head + moved);
+        }
+        return n;
+    }
+}
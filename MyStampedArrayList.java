@@ -0,0 +1,258 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Describes a thread-safe wrapper around MyArrayList that uses a
+ *      StampedLock instead of one global lock.
+ * get and size first try an optimistic read, which takes no lock at all:
+ *      they read the list and then check that no writer got in meanwhile.
+ *      Only if one did do they retry while holding the read lock, so
+ *      reads almost never block each other or wait on writers.
+ * Changes take the write lock.
+ *
+ * @version 10/18/26
+ * @author Arnav Dani
+ *
+ * @param <E> type of object making up the list
+ */
+public class MyStampedArrayList<E>
+{
+    private final MyArrayList<E> list;
+    private final StampedLock lock;
+
+    /**
+     * Constructor for MyStampedArrayList Object
+     */
+    public MyStampedArrayList()
+    {
+        list = new MyArrayList<E>();
+        lock = new StampedLock();
+    }
+
+    /**
+     * @return a string of the list in a readable form for testing
+     */
+    public String toString()
+    {
+        long stamp = lock.readLock();
+        try
+        {
+            return list.toString();
+        }
+        finally
+        {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of elements stored in the list
+     * @return size of the list
+     */
+    public int size()
+    {
+        long stamp = lock.tryOptimisticRead();
+        int size = list.size();
+        if (lock.validate(stamp))
+            return size;
+
+        stamp = lock.readLock();
+        try
+        {
+            return list.size();
+        }
+        finally
+        {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return the object at a certain index
+     * @param index index to get object from
+     * @postcondition a failed optimistic read, including one that saw
+     *               the list half way through a change and threw, is
+     *               retried under the read lock
+     */
+    public E get(int index)
+    {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0)
+        {
+            try
+            {
+                E obj = list.get(index);
+                if (lock.validate(stamp))
+                    return obj;
+            }
+            catch (RuntimeException e)
+            {
+                if (lock.validate(stamp))
+                    throw e;
+            }
+        }
+
+        stamp = lock.readLock();
+        try
+        {
+            return list.get(index);
+        }
+        finally
+        {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @postcondition replaces the element at position index with obj
+     * @param index index to replace object at
+     * @param obj object replace current object with
+     * @return E object that was replaced
+     */
+    public E set(int index, E obj)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            return list.set(index, obj);
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds an object to the back of the list
+     * @param obj object to add at the back
+     * @return true
+     */
+    public boolean add(E obj)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            return list.add(obj);
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds an object at the index specified, shifts the rest of the list back
+     * @param index index to add object at
+     * @param obj object to add at index
+     */
+    public void add(int index, E obj)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            list.add(index, obj);
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes element from a specified index in the list
+     * @param index index to remove from
+     * @return generic object that was removed
+     */
+    public E remove(int index)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            return list.remove(index);
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Copies the list while holding the read lock, so the copy can 
+     *      be iterated without any locking
+     * @return a new MyArrayList holding the current elements
+     */
+    public MyArrayList<E> snapshot()
+    {
+        long stamp = lock.readLock();
+        try
+        {
+            MyArrayList<E> copy = new MyArrayList<E>(list.size());
+            copy.addAll(list);
+            return copy;
+        }
+        finally
+        {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return an iterator over a snapshot of the list as it is right now
+     */
+    public Iterator<E> iterator()
+    {
+        return new SnapshotIterator(snapshot());
+    }
+
+    /**
+     * Iterates through a copy of the list taken when it was created;
+     *      later changes to the list are never seen and never interfere.
+     * It is read-only: removing through it would only change the copy,
+     *      so remove throws instead of silently doing nothing.
+     *
+     * @author Arnav Dani
+     * @version 10/18/26
+     */
+    private class SnapshotIterator implements Iterator<E>
+    {
+        private final MyArrayList<E> snapshot;
+        private int nextIndex;
+
+        /**
+         * Constructs an iterator over a snapshot
+         * @param snapshot the copy being iterated
+         */
+        public SnapshotIterator(MyArrayList<E> snapshot)
+        {
+            this.snapshot = snapshot;
+            nextIndex = 0;
+        }
+
+        /**
+         * @return true if the snapshot has another element
+         */
+        public boolean hasNext()
+        {
+            return nextIndex < snapshot.size();
+        }
+
+        /**
+         * @return the next element in the snapshot
+         */
+        public E next()
+        {
+            if (nextIndex >= snapshot.size())
+                throw new NoSuchElementException();
+            return snapshot.get(nextIndex++);
+        }
+
+        /**
+         * Always throws; the list can't be changed through a snapshot
+         */
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Snapshot iterators are read-only");
+        }
+    }
+}
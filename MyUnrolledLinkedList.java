@@ -0,0 +1,489 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * MyUnrolledLinkedList is a doubly linked list in which every node
+ *  holds a small array of elements instead of just one.
+ *
+ * Finding an index only has to step over whole nodes, so indexed
+ *  get/set/add/remove walk about nodeCapacity times fewer links than
+ *  MyLinkedList does, while adding or removing in the middle still only
+ *  shifts the elements inside one node. A full node is split in half,
+ *  and a node that gets less than half full is merged with the next one
+ *  when they fit together, so nodes stay at least half full on average.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ *
+ * @param <E> generic type of all the objects
+ *  in the structure
+ */
+public class MyUnrolledLinkedList<E>
+{
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private UnrolledNode first;
+    private UnrolledNode last;
+    private int size;
+    private final int nodeCapacity;
+    private int modCount;
+
+    //node found by the last call to findNode, and the offset inside it
+    private UnrolledNode foundNode;
+    private int foundOffset;
+
+    /**
+     * Constructor for MyUnrolledLinkedList with 64 elements per node
+     */
+    public MyUnrolledLinkedList()
+    {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructor for MyUnrolledLinkedList
+     * @param nodeCapacity the most elements one node can hold
+     */
+    public MyUnrolledLinkedList(int nodeCapacity)
+    {
+        if (nodeCapacity < 2)
+            throw new RuntimeException("Node capacity must be at least 2");
+
+        this.nodeCapacity = nodeCapacity;
+        first = null;
+        last = null;
+        size = 0;
+    }
+
+    /**
+     * Converts the properties of the list into a readable string
+     * @return String to test output
+     */
+    public String toString()
+    {
+        StringBuilder s = new StringBuilder("[");
+        for (UnrolledNode node = first; node != null; node = node.next)
+        {
+            for (int i = 0; i < node.count; i++)
+            {
+                if (s.length() > 1)
+                    s.append(", ");
+                s.append(node.items[i]);
+            }
+        }
+        return s.append("]").toString();
+    }
+
+    /**
+     * Finds the node holding an index, starting from whichever end
+     *  is closer and skipping a whole node at a time
+     * @param index index to look for
+     * @precondition  0 <= index < size
+     * @postcondition foundNode is the node holding index and
+     *               foundOffset is its position inside that node
+     */
+    private void findNode(int index)
+    {
+        if (index < 0 || index >= size)
+            throw new RuntimeException("Index is out of bounds");
+
+        if (index < size / 2)
+        {
+            UnrolledNode node = first;
+            while (index >= node.count)
+            {
+                index -= node.count;
+                node = node.next;
+            }
+            foundNode = node;
+            foundOffset = index;
+        }
+        else
+        {
+            UnrolledNode node = last;
+            int start = size - node.count;
+            while (index < start)
+            {
+                node = node.prev;
+                start -= node.count;
+            }
+            foundNode = node;
+            foundOffset = index - start;
+        }
+    }
+
+    /**
+     * Adds a new empty node after another one
+     * @param node node to add after, or null to add at the front
+     * @return the new node
+     */
+    private UnrolledNode linkAfter(UnrolledNode node)
+    {
+        UnrolledNode newNode = new UnrolledNode(nodeCapacity);
+        newNode.prev = node;
+        newNode.next = node == null ? first : node.next;
+        if (newNode.next == null)
+            last = newNode;
+        else
+            newNode.next.prev = newNode;
+        if (node == null)
+            first = newNode;
+        else
+            node.next = newNode;
+        return newNode;
+    }
+
+    /**
+     * Takes a node out of the chain of nodes
+     * @param node the node to remove
+     */
+    private void unlinkNode(UnrolledNode node)
+    {
+        if (node.prev == null)
+            first = node.next;
+        else
+            node.prev.next = node.next;
+        if (node.next == null)
+            last = node.prev;
+        else
+            node.next.prev = node.prev;
+    }
+
+    /**
+     * Inserts an element into a node, splitting the node if it is full
+     * @param node node to insert into
+     * @param offset position inside the node for the element
+     * @param obj element to insert
+     */
+    private void insertInto(UnrolledNode node, int offset, Object obj)
+    {
+        if (node.count == nodeCapacity)
+        {
+            UnrolledNode newNode = linkAfter(node);
+            int half = nodeCapacity / 2;
+            int moved = node.count - half;
+            System.arraycopy(node.items, half, newNode.items, 0, moved);
+            Arrays.fill(node.items, half, node.count, null);
+            newNode.count = moved;
+            node.count = half;
+            if (offset > half)
+            {
+                node = newNode;
+                offset -= half;
+            }
+        }
+        System.arraycopy(node.items, offset, node.items, offset + 1,
+            node.count - offset);
+        node.items[offset] = obj;
+        node.count++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Reads an element out of a node; the one place the list casts what
+     *  it stores back to E, since only Es are ever stored
+     * @param node node holding the element
+     * @param offset position inside the node of the element
+     * @return the element
+     */
+    @SuppressWarnings("unchecked")
+    private E elementAt(UnrolledNode node, int offset)
+    {
+        return (E) node.items[offset];
+    }
+
+    /**
+     * Removes an element from a node, then drops the node if it is
+     *  empty or merges the next node into it if they both fit
+     * @param node node to remove from
+     * @param offset position inside the node of the element
+     * @return the element removed
+     */
+    private E removeFrom(UnrolledNode node, int offset)
+    {
+        E obj = elementAt(node, offset);
+        System.arraycopy(node.items, offset + 1, node.items, offset,
+            node.count - offset - 1);
+        node.count--;
+        node.items[node.count] = null;
+        size--;
+        modCount++;
+
+        if (node.count == 0)
+            unlinkNode(node);
+        else if (node.count < nodeCapacity / 2 && node.next != null
+            && node.count + node.next.count <= nodeCapacity)
+        {
+            UnrolledNode after = node.next;
+            System.arraycopy(after.items, 0, node.items, node.count, after.count);
+            node.count += after.count;
+            unlinkNode(after);
+        }
+        return obj;
+    }
+
+    /**
+     * Gets the size of the list
+     * @return size of the list
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * gets the object at a specific index
+     * @param index index to get object at
+     * @return the object at index
+     */
+    public E get(int index)
+    {
+        findNode(index);
+        return elementAt(foundNode, foundOffset);
+    }
+
+    /**
+     * @postcondition replaces the element at position index with obj
+     * @param index index to replace object at
+     * @param obj object to replace object at index with
+     * @return element that was replaced
+     */
+    public E set(int index, E obj)
+    {
+        findNode(index);
+        E oldObj = elementAt(foundNode, foundOffset);
+        foundNode.items[foundOffset] = obj;
+        return oldObj;
+    }
+
+    /**
+     * @postcondition appends obj to end of list; returns true
+     * @param obj object to add at the back
+     * @return true;
+     */
+    public boolean add(E obj)
+    {
+        addLast(obj);
+        return true;
+    }
+
+    /**
+     * @precondition  0 <= index <= size
+     * @postcondition inserts obj at position index,
+     *                moving elements at position index and higher
+     *                to the right (adds 1 to their indices) and adjusts size
+     * @param index index to add the object at
+     * @param obj object to add at specific index
+     */
+    public void add(int index, E obj)
+    {
+        if (index == size)
+            addLast(obj);
+        else
+        {
+            findNode(index);
+            insertInto(foundNode, foundOffset, obj);
+        }
+    }
+
+    /**
+     * @postcondition removes element from position index, moving elements
+     *               at position index + 1 and higher to the left
+     *               and adjusts size
+     * @param index index at which to remove object
+     * @return element removed
+     */
+    public E remove(int index)
+    {
+        findNode(index);
+        return removeFrom(foundNode, foundOffset);
+    }
+
+    /**
+     * Adds an element to the front of the list
+     * @param obj object to add at the front
+     */
+    public void addFirst(E obj)
+    {
+        if (first == null)
+            linkAfter(null);
+        insertInto(first, 0, obj);
+    }
+
+    /**
+     * Adds an element to the back of the list
+     * @param obj object to add at the back
+     */
+    public void addLast(E obj)
+    {
+        if (last == null)
+            linkAfter(null);
+        if (last.count == nodeCapacity)
+            linkAfter(last);
+        insertInto(last, last.count, obj);
+    }
+
+    /**
+     * gets the object at the front of the list
+     * @return object at the front
+     */
+    public E getFirst()
+    {
+        if (first == null)
+            throw new RuntimeException("NoSuchElementException");
+        return elementAt(first, 0);
+    }
+
+    /**
+     * gets the object at the back of the list
+     * @return object at the back
+     */
+    public E getLast()
+    {
+        if (last == null)
+            throw new RuntimeException("NoSuchElementException");
+        return elementAt(last, last.count - 1);
+    }
+
+    /**
+     * removes the first element in the list
+     * @return the element removed
+     */
+    public E removeFirst()
+    {
+        if (first == null)
+            throw new RuntimeException("NoSuchElementException");
+        return removeFrom(first, 0);
+    }
+
+    /**
+     * removes the last element in the list
+     * @return the element removed
+     */
+    public E removeLast()
+    {
+        if (last == null)
+            throw new RuntimeException("NoSuchElementException");
+        return removeFrom(last, last.count - 1);
+    }
+
+    /**
+     * gets the iterator to iterate over the list
+     * @return the iterator
+     */
+    public Iterator<E> iterator()
+    {
+        return new MyUnrolledLinkedListIterator();
+    }
+
+    /**
+     * A node of the unrolled list, holding up to
+     *  nodeCapacity elements in order
+     *
+     * @author Arnav Dani
+     * @version 10.18.26
+     */
+    private static class UnrolledNode
+    {
+        private final Object[] items;
+        private int count;
+        private UnrolledNode prev;
+        private UnrolledNode next;
+
+        /**
+         * Constructor for an empty node
+         * @param capacity length of the node's array
+         */
+        public UnrolledNode(int capacity)
+        {
+            items = new Object[capacity];
+            count = 0;
+        }
+    }
+
+    /**
+     * Defines the properties of the iterator which
+     *  walks through each node's array in turn
+     *
+     * @author Arnav Dani
+     * @version 10.18.26
+     */
+    private class MyUnrolledLinkedListIterator implements Iterator<E>
+    {
+        private int nextIndex;
+        private UnrolledNode node;      //node holding nextIndex
+        private int offset;             //position of nextIndex inside node
+        private boolean canRemove;
+        private int expectedModCount;
+
+        /**
+         * Constructor for the iterator
+         *  initializes all instance variables
+         */
+        public MyUnrolledLinkedListIterator()
+        {
+            nextIndex = 0;
+            node = first;
+            offset = 0;
+            canRemove = false;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * checks whether there is a next element
+         * @return if there is a next element
+         */
+        public boolean hasNext()
+        {
+            return nextIndex < size;
+        }
+
+        /**
+         * iterates to the next object and
+         *  returns the value just passed
+         * @return the value just passed by the iterator
+         */
+        public E next()
+        {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (nextIndex >= size)
+                throw new NoSuchElementException();
+            while (offset >= node.count)
+            {
+                node = node.next;
+                offset = 0;
+            }
+            E obj = elementAt(node, offset);
+            offset++;
+            nextIndex++;
+            canRemove = true;
+            return obj;
+        }
+
+        /**
+         * removes the element last returned by next
+         */
+        public void remove()
+        {
+            if (!canRemove)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            nextIndex--;
+            MyUnrolledLinkedList.this.remove(nextIndex);
+            //nodes may have been merged, so find nextIndex again
+            if (nextIndex < size)
+            {
+                findNode(nextIndex);
+                node = foundNode;
+                offset = foundOffset;
+            }
+            canRemove = false;
+            expectedModCount = modCount;
+        }
+    }
+}
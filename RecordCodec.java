@@ -0,0 +1,86 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Describes how to turn an object into a fixed number of bytes and back,
+ *      so lists can store their elements as raw bytes outside of the
+ *      Java heap instead of as objects.
+ * Every record a codec writes takes exactly recordSize() bytes.
+ *
+ * @version 10/18/26
+ * @author Arnav Dani
+ *
+ * @param <E> type of object being stored
+ */
+public interface RecordCodec<E>
+{
+    /**
+     * Stores each Integer as 4 bytes
+     */
+    RecordCodec<Integer> INT = new RecordCodec<Integer>()
+    {
+        public int recordSize() { return Integer.BYTES; }
+        public void write(ByteBuffer buf, int offset, Integer obj) 
+        { 
+            buf.putInt(offset, obj); 
+        }
+        public Integer read(ByteBuffer buf, int offset) 
+        { 
+            return buf.getInt(offset); 
+        }
+    };
+
+    /**
+     * Stores each Long as 8 bytes
+     */
+    RecordCodec<Long> LONG = new RecordCodec<Long>()
+    {
+        public int recordSize() { return Long.BYTES; }
+        public void write(ByteBuffer buf, int offset, Long obj) 
+        { 
+            buf.putLong(offset, obj); 
+        }
+        public Long read(ByteBuffer buf, int offset) 
+        { 
+            return buf.getLong(offset); 
+        }
+    };
+
+    /**
+     * Stores each Double as 8 bytes
+     */
+    RecordCodec<Double> DOUBLE = new RecordCodec<Double>()
+    {
+        public int recordSize() { return Double.BYTES; }
+        public void write(ByteBuffer buf, int offset, Double obj) 
+        { 
+            buf.putDouble(offset, obj); 
+        }
+        public Double read(ByteBuffer buf, int offset) 
+        { 
+            return buf.getDouble(offset); 
+        }
+    };
+
+    /**
+     * @return the number of bytes every record takes
+     */
+    int recordSize();
+
+    /**
+     * Writes an object into the buffer
+     * @param buf buffer to write into
+     * @param offset byte offset of the record in buf
+     * @param obj object to store
+     * @postcondition bytes offset to offset + recordSize() - 1 hold obj;
+     *               the buffer's position is not changed
+     */
+    void write(ByteBuffer buf, int offset, E obj);
+
+    /**
+     * Reads an object back out of the buffer
+     * @param buf buffer to read from
+     * @param offset byte offset of the record in buf
+     * @return the object stored there
+     */
+    E read(ByteBuffer buf, int offset);
+}
@@ -0,0 +1,53 @@
+import benchmarks.ListSubject;
+import java.util.Iterator;
+
+/**
+ * A ListSubject backed by a MyArrayLinkedList
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class ArrayLinkedListSubject implements ListSubject
+{
+    private final MyArrayLinkedList<Integer> list = new MyArrayLinkedList<Integer>();
+
+    public int size()
+    {
+        return list.size();
+    }
+
+    public Integer get(int index)
+    {
+        return list.get(index);
+    }
+
+    public Integer set(int index, Integer obj)
+    {
+        return list.set(index, obj);
+    }
+
+    public void add(Integer obj)
+    {
+        list.add(obj);
+    }
+
+    public void add(int index, Integer obj)
+    {
+        list.add(index, obj);
+    }
+
+    public Integer remove(int index)
+    {
+        return list.remove(index);
+    }
+
+    public Iterator<Integer> iterator()
+    {
+        return list.iterator();
+    }
+
+    public String toString()
+    {
+        return list.toString();
+    }
+}
@@ -0,0 +1,153 @@
+import benchmarks.BulkSubject;
+import benchmarks.ExportSubject;
+import benchmarks.SortSubject;
+import benchmarks.StatsSubject;
+import benchmarks.StreamSubject;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * A ListSubject, with the bulk, stream, sort, export and stats
+ *  operations, backed by a MyArrayList
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class ArrayListSubject implements BulkSubject, StreamSubject, SortSubject, ExportSubject,
+    StatsSubject
+{
+    private final MyArrayList<Integer> list = new MyArrayList<Integer>();
+
+    public int size()
+    {
+        return list.size();
+    }
+
+    public Integer get(int index)
+    {
+        return list.get(index);
+    }
+
+    public Integer set(int index, Integer obj)
+    {
+        return list.set(index, obj);
+    }
+
+    public void add(Integer obj)
+    {
+        list.add(obj);
+    }
+
+    public void add(int index, Integer obj)
+    {
+        list.add(index, obj);
+    }
+
+    public Integer remove(int index)
+    {
+        return list.remove(index);
+    }
+
+    public void addAll(Integer[] objs)
+    {
+        list.addAll(objs);
+    }
+
+    public void insertAll(int index, Integer[] objs)
+    {
+        list.insertAll(index, objs);
+    }
+
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        list.removeRange(fromIndex, toIndex);
+    }
+
+    public boolean removeIf(Predicate<? super Integer> filter)
+    {
+        return list.removeIf(filter);
+    }
+
+    public Stream<Integer> stream()
+    {
+        return list.stream();
+    }
+
+    public Stream<Integer> parallelStream()
+    {
+        return list.parallelStream();
+    }
+
+    public void forEach(Consumer<? super Integer> action)
+    {
+        list.forEach(action);
+    }
+
+    public void parallelForEach(Consumer<? super Integer> action)
+    {
+        list.parallelForEach(action);
+    }
+
+    public void replaceAll(UnaryOperator<Integer> op)
+    {
+        list.replaceAll(op);
+    }
+
+    public void parallelReplaceAll(UnaryOperator<Integer> op)
+    {
+        list.parallelReplaceAll(op);
+    }
+
+    public void sort(Comparator<? super Integer> c)
+    {
+        list.sort(c);
+    }
+
+    public void parallelSort(Comparator<? super Integer> c)
+    {
+        list.parallelSort(c);
+    }
+
+    public int binarySearch(Integer key, Comparator<? super Integer> c)
+    {
+        return list.binarySearch(key, c);
+    }
+
+    public String listString()
+    {
+        return list.toString();
+    }
+
+    public void writeUtf8(OutputStream out) throws IOException
+    {
+        list.writeUtf8(out, String::valueOf, Integer.MAX_VALUE);
+    }
+
+    public void setStats(String mode)
+    {
+        if (mode.equals("off"))
+            list.setStats(null);
+        else if (mode.equals("count"))
+            list.setStats(new ListStats());
+        else if (mode.equals("time"))
+            list.setStats(new ListStats(true));
+        else
+            throw new RuntimeException("Unknown stats mode " + mode);
+    }
+
+    public Iterator<Integer> iterator()
+    {
+        return list.iterator();
+    }
+
+    public String toString()
+    {
+        return list.toString();
+    }
+}
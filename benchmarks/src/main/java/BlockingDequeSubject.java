@@ -0,0 +1,31 @@
+import benchmarks.Discard;
+import benchmarks.QueueSubject;
+
+/**
+ * A QueueSubject backed by a MyBlockingLinkedDeque, adding at the back
+ *  and polling or draining the front without waiting
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class BlockingDequeSubject implements QueueSubject
+{
+    private final MyBlockingLinkedDeque<Integer> deque =
+        new MyBlockingLinkedDeque<Integer>();
+
+    public boolean offer(Integer obj)
+    {
+        deque.addLast(obj);
+        return true;
+    }
+
+    public Integer poll()
+    {
+        return deque.pollFirst();
+    }
+
+    public int drain(int maxElements)
+    {
+        return deque.drainTo(Discard.INSTANCE, maxElements);
+    }
+}
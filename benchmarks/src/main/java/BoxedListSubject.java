@@ -0,0 +1,28 @@
+import benchmarks.PrimitiveSubject;
+
+/**
+ * A PrimitiveSubject backed by a MyArrayList<Integer>, boxing every
+ *  value on the way in and unboxing it on the way out
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class BoxedListSubject implements PrimitiveSubject
+{
+    private final MyArrayList<Integer> list = new MyArrayList<Integer>();
+
+    public int size()
+    {
+        return list.size();
+    }
+
+    public int get(int index)
+    {
+        return list.get(index);
+    }
+
+    public void add(int value)
+    {
+        list.add(value);
+    }
+}
@@ -0,0 +1,63 @@
+import benchmarks.CodecSubject;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A CodecSubject holding one of the kinds of list ListCodec saves,
+ *  picked by name
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class CodecListSubject implements CodecSubject
+{
+    private final String kind;
+    private final MyIntArrayList ints = new MyIntArrayList();
+    private final MyArrayList<Integer> boxed = new MyArrayList<Integer>();
+    private final MyArrayList<String> strings = new MyArrayList<String>();
+
+    /**
+     * Constructor for CodecListSubject
+     * @param kind kind of list, as in CodecSubject.create
+     */
+    public CodecListSubject(String kind)
+    {
+        if (!kind.equals("int") && !kind.equals("boxed") && !kind.equals("string"))
+            throw new RuntimeException("Unknown kind " + kind);
+        this.kind = kind;
+    }
+
+    public void fill(int size)
+    {
+        for (int i = 0; i < size; i++)
+        {
+            if (kind.equals("int"))
+                ints.add(i);
+            else if (kind.equals("boxed"))
+                boxed.add(i);
+            else
+                strings.add("element " + i);
+        }
+    }
+
+    public void write(WritableByteChannel out) throws IOException
+    {
+        if (kind.equals("int"))
+            ListCodec.write(ints, out);
+        else if (kind.equals("boxed"))
+            ListCodec.write(boxed, out, ElementCodec.INT);
+        else
+            ListCodec.write(strings, out, ElementCodec.STRING);
+    }
+
+    public int read(ReadableByteChannel in) throws IOException
+    {
+        if (kind.equals("int"))
+            return ListCodec.readIntList(in).size();
+        else if (kind.equals("boxed"))
+            return ListCodec.readArrayList(in, ElementCodec.INT).size();
+        else
+            return ListCodec.readArrayList(in, ElementCodec.STRING).size();
+    }
+}
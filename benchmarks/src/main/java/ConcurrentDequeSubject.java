@@ -0,0 +1,33 @@
+import benchmarks.QueueSubject;
+
+/**
+ * A QueueSubject backed by a MyConcurrentLinkedDeque, adding at the
+ *  back and removing from the front
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class ConcurrentDequeSubject implements QueueSubject
+{
+    private final MyConcurrentLinkedDeque<Integer> deque =
+        new MyConcurrentLinkedDeque<Integer>();
+
+    public boolean offer(Integer obj)
+    {
+        deque.addLast(obj);
+        return true;
+    }
+
+    public Integer poll()
+    {
+        return deque.removeFirst();
+    }
+
+    public int drain(int maxElements)
+    {
+        int count = 0;
+        while (count < maxElements && deque.removeFirst() != null)
+            count++;
+        return count;
+    }
+}
@@ -0,0 +1,32 @@
+import benchmarks.SharedSubject;
+
+/**
+ * A SharedSubject backed by a MyCopyOnWriteArrayList
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class CopyOnWriteListSubject implements SharedSubject
+{
+    private final MyCopyOnWriteArrayList<Integer> list = new MyCopyOnWriteArrayList<Integer>();
+
+    public int size()
+    {
+        return list.size();
+    }
+
+    public Integer get(int index)
+    {
+        return list.get(index);
+    }
+
+    public Integer set(int index, Integer obj)
+    {
+        return list.set(index, obj);
+    }
+
+    public void add(Integer obj)
+    {
+        list.add(obj);
+    }
+}
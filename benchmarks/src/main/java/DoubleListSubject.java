@@ -0,0 +1,27 @@
+import benchmarks.PrimitiveSubject;
+
+/**
+ * A PrimitiveSubject backed by a MyDoubleArrayList
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class DoubleListSubject implements PrimitiveSubject
+{
+    private final MyDoubleArrayList list = new MyDoubleArrayList();
+
+    public int size()
+    {
+        return list.size();
+    }
+
+    public int get(int index)
+    {
+        return (int) list.get(index);
+    }
+
+    public void add(int value)
+    {
+        list.add(value);
+    }
+}
@@ -0,0 +1,84 @@
+import benchmarks.GrowthSubject;
+import java.util.Iterator;
+
+/**
+ * A GrowthSubject backed by a MyArrayList that starts with the default
+ *  capacity and grows by a GrowthPolicy picked by name
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class GrowthListSubject implements GrowthSubject
+{
+    private final MyArrayList<Integer> list;
+
+    /**
+     * Constructor for GrowthListSubject
+     * @param policy name of the growth policy, as in GrowthSubject.create
+     */
+    public GrowthListSubject(String policy)
+    {
+        GrowthPolicy growth;
+        if (policy.equals("doubling"))
+            growth = GrowthPolicy.DOUBLING;
+        else if (policy.equals("oneAndHalf"))
+            growth = GrowthPolicy.ONE_AND_HALF;
+        else if (policy.equals("chunk"))
+            growth = GrowthPolicy.fixedChunk(1 << 16);
+        else if (policy.equals("huge"))
+            growth = GrowthPolicy.HUGE;
+        else
+            throw new RuntimeException("Unknown policy " + policy);
+        list = new MyArrayList<Integer>(1, growth);
+    }
+
+    public int size()
+    {
+        return list.size();
+    }
+
+    public Integer get(int index)
+    {
+        return list.get(index);
+    }
+
+    public Integer set(int index, Integer obj)
+    {
+        return list.set(index, obj);
+    }
+
+    public void add(Integer obj)
+    {
+        list.add(obj);
+    }
+
+    public void add(int index, Integer obj)
+    {
+        list.add(index, obj);
+    }
+
+    public Integer remove(int index)
+    {
+        return list.remove(index);
+    }
+
+    public Iterator<Integer> iterator()
+    {
+        return list.iterator();
+    }
+
+    public int getCapacity()
+    {
+        return list.getCapacity();
+    }
+
+    public void ensureCapacity(int minCapacity)
+    {
+        list.ensureCapacity(minCapacity);
+    }
+
+    public void trimToSize()
+    {
+        list.trimToSize();
+    }
+}
@@ -0,0 +1,27 @@
+import benchmarks.PrimitiveSubject;
+
+/**
+ * A PrimitiveSubject backed by a MyIntArrayList
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class IntListSubject implements PrimitiveSubject
+{
+    private final MyIntArrayList list = new MyIntArrayList();
+
+    public int size()
+    {
+        return list.size();
+    }
+
+    public int get(int index)
+    {
+        return list.get(index);
+    }
+
+    public void add(int value)
+    {
+        list.add(value);
+    }
+}
@@ -0,0 +1,96 @@
+import benchmarks.ExportSubject;
+import benchmarks.StatsSubject;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * A ListSubject, with the export and stats operations, backed by a
+ *  MyLinkedList
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class LinkedListSubject implements ExportSubject, StatsSubject
+{
+    private final MyLinkedList<Integer> list;
+
+    /**
+     * Constructor for LinkedListSubject, with no node pool
+     */
+    public LinkedListSubject()
+    {
+        list = new MyLinkedList<Integer>();
+    }
+
+    /**
+     * Constructor for LinkedListSubject, with a node pool
+     * @param poolCapacity the most removed nodes the list keeps
+     */
+    public LinkedListSubject(String poolCapacity)
+    {
+        list = new MyLinkedList<Integer>(Integer.parseInt(poolCapacity));
+    }
+
+    public int size()
+    {
+        return list.size();
+    }
+
+    public Integer get(int index)
+    {
+        return list.get(index);
+    }
+
+    public Integer set(int index, Integer obj)
+    {
+        return list.set(index, obj);
+    }
+
+    public void add(Integer obj)
+    {
+        list.add(obj);
+    }
+
+    public void add(int index, Integer obj)
+    {
+        list.add(index, obj);
+    }
+
+    public Integer remove(int index)
+    {
+        return list.remove(index);
+    }
+
+    public String listString()
+    {
+        return list.toString();
+    }
+
+    public void writeUtf8(OutputStream out) throws IOException
+    {
+        list.writeUtf8(out, String::valueOf, Integer.MAX_VALUE);
+    }
+
+    public void setStats(String mode)
+    {
+        if (mode.equals("off"))
+            list.setStats(null);
+        else if (mode.equals("count"))
+            list.setStats(new ListStats());
+        else if (mode.equals("time"))
+            list.setStats(new ListStats(true));
+        else
+            throw new RuntimeException("Unknown stats mode " + mode);
+    }
+
+    public Iterator<Integer> iterator()
+    {
+        return list.iterator();
+    }
+
+    public String toString()
+    {
+        return list.toString();
+    }
+}
@@ -0,0 +1,34 @@
+import benchmarks.SharedSubject;
+
+/**
+ * A SharedSubject backed by a MyArrayList with every call synchronized
+ *  on one lock, the way the list was shared before it had concurrent
+ *  variants
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class LockedListSubject implements SharedSubject
+{
+    private final MyArrayList<Integer> list = new MyArrayList<Integer>();
+
+    public synchronized int size()
+    {
+        return list.size();
+    }
+
+    public synchronized Integer get(int index)
+    {
+        return list.get(index);
+    }
+
+    public synchronized Integer set(int index, Integer obj)
+    {
+        return list.set(index, obj);
+    }
+
+    public synchronized void add(Integer obj)
+    {
+        list.add(obj);
+    }
+}
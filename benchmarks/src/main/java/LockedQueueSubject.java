@@ -0,0 +1,33 @@
+import benchmarks.QueueSubject;
+
+/**
+ * A QueueSubject backed by a MyLinkedList with every call synchronized
+ *  on one lock, the way it was shared as a work queue before there was
+ *  a concurrent deque
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class LockedQueueSubject implements QueueSubject
+{
+    private final MyLinkedList<Integer> list = new MyLinkedList<Integer>();
+
+    public synchronized boolean offer(Integer obj)
+    {
+        list.addLast(obj);
+        return true;
+    }
+
+    public synchronized Integer poll()
+    {
+        return list.size() == 0 ? null : list.removeFirst();
+    }
+
+    public synchronized int drain(int maxElements)
+    {
+        int count = Math.min(list.size(), maxElements);
+        for (int i = 0; i < count; i++)
+            list.removeFirst();
+        return count;
+    }
+}
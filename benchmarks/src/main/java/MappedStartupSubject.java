@@ -0,0 +1,39 @@
+import benchmarks.StartupSubject;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * A StartupSubject that keeps the list in a MyMappedList, so loading it
+ *  is just mapping the file again
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class MappedStartupSubject implements StartupSubject
+{
+    private MyMappedList<Long> list;
+
+    public void write(Path file, int size) throws IOException
+    {
+        try (MyMappedList<Long> out = new MyMappedList<Long>(file, RecordCodec.LONG))
+        {
+            out.truncate(0);
+            for (long i = 0; i < size; i++)
+                out.add(i);
+        }
+    }
+
+    public long load(Path file) throws IOException
+    {
+        close();
+        list = new MyMappedList<Long>(file, RecordCodec.LONG);
+        return list.get(list.size() - 1);
+    }
+
+    public void close() throws IOException
+    {
+        if (list != null)
+            list.close();
+        list = null;
+    }
+}
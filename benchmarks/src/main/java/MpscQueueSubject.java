@@ -0,0 +1,37 @@
+import benchmarks.Discard;
+import benchmarks.QueueSubject;
+
+/**
+ * A QueueSubject backed by a MyMpscRingQueue, for any number of producers and one consumer
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class MpscQueueSubject implements QueueSubject
+{
+    private final MyMpscRingQueue<Integer> queue;
+
+    /**
+     * Constructor for MpscQueueSubject
+     * @param capacity the most elements the queue holds
+     */
+    public MpscQueueSubject(String capacity)
+    {
+        queue = new MyMpscRingQueue<Integer>(Integer.parseInt(capacity));
+    }
+
+    public boolean offer(Integer obj)
+    {
+        return queue.offer(obj);
+    }
+
+    public Integer poll()
+    {
+        return queue.poll();
+    }
+
+    public int drain(int maxElements)
+    {
+        return queue.drainTo(Discard.INSTANCE, maxElements);
+    }
+}
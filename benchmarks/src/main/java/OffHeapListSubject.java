@@ -0,0 +1,74 @@
+import benchmarks.ListSubject;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A ListSubject backed by a MyOffHeapList of ints; close frees its
+ *  memory
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class OffHeapListSubject implements ListSubject, AutoCloseable
+{
+    private final MyOffHeapList<Integer> list = new MyOffHeapList<Integer>(RecordCodec.INT);
+
+    public int size()
+    {
+        return list.size();
+    }
+
+    public Integer get(int index)
+    {
+        return list.get(index);
+    }
+
+    public Integer set(int index, Integer obj)
+    {
+        return list.set(index, obj);
+    }
+
+    public void add(Integer obj)
+    {
+        list.add(obj);
+    }
+
+    public void add(int index, Integer obj)
+    {
+        list.add(index, obj);
+    }
+
+    public Integer remove(int index)
+    {
+        return list.remove(index);
+    }
+
+    /**
+     * @return an iterator that reads the list by index, since
+     *  MyOffHeapList has no iterator of its own
+     */
+    public Iterator<Integer> iterator()
+    {
+        return new Iterator<Integer>()
+        {
+            private int next = 0;
+
+            public boolean hasNext()
+            {
+                return next < list.size();
+            }
+
+            public Integer next()
+            {
+                if (next >= list.size())
+                    throw new NoSuchElementException();
+                return list.get(next++);
+            }
+        };
+    }
+
+    public void close()
+    {
+        list.close();
+    }
+}
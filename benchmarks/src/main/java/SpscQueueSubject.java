@@ -0,0 +1,37 @@
+import benchmarks.Discard;
+import benchmarks.QueueSubject;
+
+/**
+ * A QueueSubject backed by a MySpscRingQueue, for one producer and one consumer
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class SpscQueueSubject implements QueueSubject
+{
+    private final MySpscRingQueue<Integer> queue;
+
+    /**
+     * Constructor for SpscQueueSubject
+     * @param capacity the most elements the queue holds
+     */
+    public SpscQueueSubject(String capacity)
+    {
+        queue = new MySpscRingQueue<Integer>(Integer.parseInt(capacity));
+    }
+
+    public boolean offer(Integer obj)
+    {
+        return queue.offer(obj);
+    }
+
+    public Integer poll()
+    {
+        return queue.poll();
+    }
+
+    public int drain(int maxElements)
+    {
+        return queue.drainTo(Discard.INSTANCE, maxElements);
+    }
+}
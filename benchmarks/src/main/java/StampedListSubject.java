@@ -0,0 +1,32 @@
+import benchmarks.SharedSubject;
+
+/**
+ * A SharedSubject backed by a MyStampedArrayList
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class StampedListSubject implements SharedSubject
+{
+    private final MyStampedArrayList<Integer> list = new MyStampedArrayList<Integer>();
+
+    public int size()
+    {
+        return list.size();
+    }
+
+    public Integer get(int index)
+    {
+        return list.get(index);
+    }
+
+    public Integer set(int index, Integer obj)
+    {
+        return list.set(index, obj);
+    }
+
+    public void add(Integer obj)
+    {
+        list.add(obj);
+    }
+}
@@ -0,0 +1,49 @@
+import benchmarks.StartupSubject;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A StartupSubject that saves the list as text, one number per line,
+ *  and rebuilds a MyArrayList from it, the way lists were kept before
+ *  MyMappedList
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public class TextStartupSubject implements StartupSubject
+{
+    private MyArrayList<Long> list;
+
+    public void write(Path file, int size) throws IOException
+    {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8))
+        {
+            for (long i = 0; i < size; i++)
+            {
+                out.write(Long.toString(i));
+                out.newLine();
+            }
+        }
+    }
+
+    public long load(Path file) throws IOException
+    {
+        list = new MyArrayList<Long>();
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8))
+        {
+            String line;
+            while ((line = in.readLine()) != null)
+                list.add(Long.parseLong(line));
+        }
+        return list.get(list.size() - 1);
+    }
+
+    public void close()
+    {
+        list = null;
+    }
+}
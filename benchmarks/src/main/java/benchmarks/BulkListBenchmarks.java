@@ -0,0 +1,150 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BulkListBenchmarks times MyArrayList's bulk operations ("bulk")
+ *  against doing the same edit with one single-element call per element
+ *  ("single"):
+ *  append     addAll of BATCH elements, or BATCH adds
+ *  insert     insertAll of BATCH elements at the front, or BATCH add(index)
+ *  removeRange  removeRange of the first BATCH elements, or BATCH remove(0)
+ *  removeIf   removeIf of every 16th element, or remove(index) on each one
+ *
+ * Every op edits the list, so it is rebuilt to size elements before
+ *  each call, outside the timed part. The single-element versions of
+ *  insert, removeRange and removeIf shift the tail once per element,
+ *  so they grow with size * BATCH (or size^2 / 32) where the bulk ones
+ *  grow with size.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkListBenchmarks
+{
+    private static final int BATCH = 1000;
+
+    @Param({"bulk", "single"})
+    public String way;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Integer[] contents;
+    private Integer[] batch;
+    private BulkSubject subject;
+
+    /**
+     * Boxes the list's contents and the batch to add
+     */
+    @Setup(Level.Trial)
+    public void box()
+    {
+        contents = new Integer[size];
+        for (int i = 0; i < size; i++)
+            contents[i] = i;
+        batch = new Integer[BATCH];
+        for (int i = 0; i < BATCH; i++)
+            batch[i] = -i;
+    }
+
+    /**
+     * Puts the list back to its starting contents before every call
+     */
+    @Setup(Level.Invocation)
+    public void fill()
+    {
+        subject = BulkSubject.create();
+        subject.addAll(contents);
+    }
+
+    /**
+     * @return the list after BATCH elements are appended
+     */
+    @Benchmark
+    public BulkSubject append()
+    {
+        if (way.equals("bulk"))
+            subject.addAll(batch);
+        else
+        {
+            for (Integer obj : batch)
+                subject.add(obj);
+        }
+        return subject;
+    }
+
+    /**
+     * @return the list after BATCH elements are inserted at the front
+     */
+    @Benchmark
+    public BulkSubject insert()
+    {
+        if (way.equals("bulk"))
+            subject.insertAll(0, batch);
+        else
+        {
+            for (int i = 0; i < BATCH; i++)
+                subject.add(i, batch[i]);
+        }
+        return subject;
+    }
+
+    /**
+     * @return the list after its first BATCH elements (or all of them,
+     *  if there are fewer) are removed
+     */
+    @Benchmark
+    public BulkSubject removeRange()
+    {
+        int count = Math.min(BATCH, size);
+        if (way.equals("bulk"))
+            subject.removeRange(0, count);
+        else
+        {
+            for (int i = 0; i < count; i++)
+                subject.remove(0);
+        }
+        return subject;
+    }
+
+    /**
+     * @return the list after every element divisible by 16 is removed
+     */
+    @Benchmark
+    public BulkSubject removeIf()
+    {
+        if (way.equals("bulk"))
+            subject.removeIf(obj -> (obj.intValue() & 15) == 0);
+        else
+        {
+            int i = 0;
+            while (i < subject.size())
+            {
+                if ((subject.get(i).intValue() & 15) == 0)
+                    subject.remove(i);
+                else
+                    i++;
+            }
+        }
+        return subject;
+    }
+}
@@ -0,0 +1,28 @@
+package benchmarks;
+
+import java.util.function.Predicate;
+
+/**
+ * A ListSubject that also has MyArrayList's bulk operations, so
+ *  BulkListBenchmarks can time each one against the single-element
+ *  calls it replaces.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public interface BulkSubject extends ListSubject
+{
+    /**
+     * Makes a new empty MyArrayList
+     * @return the wrapped list
+     */
+    static BulkSubject create()
+    {
+        return Subjects.load("ArrayListSubject", BulkSubject.class);
+    }
+
+    void addAll(Integer[] objs);
+    void insertAll(int index, Integer[] objs);
+    void removeRange(int fromIndex, int toIndex);
+    boolean removeIf(Predicate<? super Integer> filter);
+}
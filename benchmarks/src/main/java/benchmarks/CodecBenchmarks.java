@@ -0,0 +1,177 @@
+package benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CodecBenchmarks measures how fast ListCodec saves and loads a list,
+ *  in megabytes of the saved form per second. The channels are in
+ *  memory, one that throws the bytes away and one that reads from an
+ *  array, so the numbers are the codec's own cost with no disk or
+ *  stream underneath.
+ *
+ * Each op saves or loads the whole list once. The mb counter adds up
+ *  the megabytes moved, and JMH reports it per second as the :mb row;
+ *  its unit says ops/s, but it is MB/s.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class CodecBenchmarks
+{
+    @Param({"int", "boxed", "string"})
+    public String kind;
+
+    @Param({"1000000"})
+    public int size;
+
+    private CodecSubject subject;
+    private byte[] saved;
+    private final Sink sink = new Sink();
+
+    /**
+     * The megabytes moved, which JMH turns into MB/s
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Moved
+    {
+        public double mb;
+
+        /**
+         * Starts each iteration from zero
+         */
+        @Setup(Level.Iteration)
+        public void clear()
+        {
+            mb = 0;
+        }
+    }
+
+    /**
+     * A channel that counts and drops everything written to it
+     */
+    private static class Sink implements WritableByteChannel
+    {
+        long written;
+
+        public int write(ByteBuffer src)
+        {
+            int n = src.remaining();
+            src.position(src.limit());
+            written += n;
+            return n;
+        }
+
+        public boolean isOpen()
+        {
+            return true;
+        }
+
+        public void close()
+        {
+        }
+    }
+
+    /**
+     * A channel that reads from an array
+     */
+    private static class Source implements ReadableByteChannel
+    {
+        private final ByteBuffer bytes;
+
+        /**
+         * Constructor for Source
+         * @param bytes the bytes it reads
+         */
+        Source(byte[] bytes)
+        {
+            this.bytes = ByteBuffer.wrap(bytes);
+        }
+
+        public int read(ByteBuffer dst)
+        {
+            if (!bytes.hasRemaining())
+                return -1;
+            int n = Math.min(dst.remaining(), bytes.remaining());
+            dst.put(dst.position(), bytes, bytes.position(), n);
+            dst.position(dst.position() + n);
+            bytes.position(bytes.position() + n);
+            return n;
+        }
+
+        public boolean isOpen()
+        {
+            return true;
+        }
+
+        public void close()
+        {
+        }
+    }
+
+    /**
+     * Fills the list and saves a copy for the loads
+     * @throws IOException never; the channel is in memory
+     */
+    @Setup(Level.Trial)
+    public void fill() throws IOException
+    {
+        subject = CodecSubject.create(kind);
+        subject.fill(size);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        subject.write(Channels.newChannel(out));
+        saved = out.toByteArray();
+    }
+
+    /**
+     * Saves the list
+     * @param moved where the megabytes written are added up
+     * @throws IOException never; the channel is in memory
+     */
+    @Benchmark
+    public void write(Moved moved) throws IOException
+    {
+        long before = sink.written;
+        subject.write(sink);
+        moved.mb += (sink.written - before) / 1e6;
+    }
+
+    /**
+     * Loads the saved list
+     * @param moved where the megabytes read are added up
+     * @return the size of the loaded list
+     * @throws IOException never; the channel is in memory
+     */
+    @Benchmark
+    public int read(Moved moved) throws IOException
+    {
+        int loaded = subject.read(new Source(saved));
+        moved.mb += saved.length / 1e6;
+        return loaded;
+    }
+}
@@ -0,0 +1,48 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A list saved and loaded with ListCodec, for CodecBenchmarks.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public interface CodecSubject
+{
+    /**
+     * Makes a new empty list of the given kind
+     * @param kind "int" for a MyIntArrayList saved as raw ints, "boxed"
+     *  for a MyArrayList of Integers saved with ElementCodec.INT, or
+     *  "string" for a MyArrayList of short Strings saved with
+     *  ElementCodec.STRING
+     * @return the list
+     */
+    static CodecSubject create(String kind)
+    {
+        return Subjects.load("CodecListSubject", CodecSubject.class, kind);
+    }
+
+    /**
+     * Adds the elements 0 to size - 1, or their text for strings
+     * @param size number of elements
+     */
+    void fill(int size);
+
+    /**
+     * Saves the list with ListCodec
+     * @param out channel to write to
+     * @throws IOException if out throws
+     */
+    void write(WritableByteChannel out) throws IOException;
+
+    /**
+     * Loads a list saved by write
+     * @param in channel to read from
+     * @return the size of the loaded list
+     * @throws IOException if in does not hold a saved list
+     */
+    int read(ReadableByteChannel in) throws IOException;
+}
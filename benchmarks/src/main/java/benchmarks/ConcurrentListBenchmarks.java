@@ -0,0 +1,80 @@
+package benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ConcurrentListBenchmarks has four threads share one list, each doing
+ *  a random mix of get and set at random indexes, and measures the total
+ *  throughput. writePercent is the share of ops that are sets, so 0 is
+ *  pure reading and 50 is an even mix.
+ *
+ * The copy-on-write list copies the whole array on every set, so its
+ *  throughput falls with both writePercent and size; the point is to
+ *  show where it stops beating the stamped and single-lock lists. Sets
+ *  keep the size fixed so every run sees the same list.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentListBenchmarks
+{
+    @Param({"locked", "cow", "stamped"})
+    public String list;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"0", "1", "10", "50"})
+    public int writePercent;
+
+    private Integer[] values;   //boxed up front so timing skips boxing
+    private SharedSubject subject;
+
+    /**
+     * Fills the shared list
+     */
+    @Setup(Level.Trial)
+    public void fill()
+    {
+        values = new Integer[1024];
+        for (int i = 0; i < values.length; i++)
+            values[i] = i;
+        subject = SharedSubject.create(list);
+        for (int i = 0; i < size; i++)
+            subject.add(values[i & 1023]);
+    }
+
+    /**
+     * @return the element read, or the one replaced by a set
+     */
+    @Benchmark
+    public Integer mixed()
+    {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(size);
+        if (random.nextInt(100) < writePercent)
+            return subject.set(index, values[index & 1023]);
+        return subject.get(index);
+    }
+}
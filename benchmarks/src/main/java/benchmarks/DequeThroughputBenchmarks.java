@@ -0,0 +1,147 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * DequeThroughputBenchmarks has producer threads adding to the back of
+ *  a shared work queue while consumer threads take from the front, and
+ *  measures how many elements each side moves. It compares a MyLinkedList
+ *  behind one lock with MyConcurrentLinkedDeque and MyBlockingLinkedDeque.
+ *
+ * Each group runs as many consumers as producers: pairs1, pairs2 and
+ *  pairs4 run one, two and four of each, and drain4 runs four producers
+ *  against four consumers that take up to BATCH elements at a time. No
+ *  call waits, so a consumer that finds the queue empty counts an op
+ *  that moved nothing; compare the put rates, which are the elements
+ *  that got through. Every iteration starts on an empty queue.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Group)
+public class DequeThroughputBenchmarks
+{
+    private static final int BATCH = 64;
+    private static final Integer ITEM = 42;     //boxed up front so timing skips boxing
+
+    @Param({"locked", "concurrent", "blocking"})
+    public String queue;
+
+    private QueueSubject subject;
+
+    /**
+     * Makes a fresh queue for the group
+     */
+    @Setup(Level.Iteration)
+    public void create()
+    {
+        subject = QueueSubject.create(queue);
+    }
+
+    /**
+     * @return whether the element was added
+     */
+    @Benchmark
+    @Group("pairs1")
+    @GroupThreads(1)
+    public boolean pairs1Put()
+    {
+        return subject.offer(ITEM);
+    }
+
+    /**
+     * @return the element taken, or null if there was none
+     */
+    @Benchmark
+    @Group("pairs1")
+    @GroupThreads(1)
+    public Integer pairs1Take()
+    {
+        return subject.poll();
+    }
+
+    /**
+     * @return whether the element was added
+     */
+    @Benchmark
+    @Group("pairs2")
+    @GroupThreads(2)
+    public boolean pairs2Put()
+    {
+        return subject.offer(ITEM);
+    }
+
+    /**
+     * @return the element taken, or null if there was none
+     */
+    @Benchmark
+    @Group("pairs2")
+    @GroupThreads(2)
+    public Integer pairs2Take()
+    {
+        return subject.poll();
+    }
+
+    /**
+     * @return whether the element was added
+     */
+    @Benchmark
+    @Group("pairs4")
+    @GroupThreads(4)
+    public boolean pairs4Put()
+    {
+        return subject.offer(ITEM);
+    }
+
+    /**
+     * @return the element taken, or null if there was none
+     */
+    @Benchmark
+    @Group("pairs4")
+    @GroupThreads(4)
+    public Integer pairs4Take()
+    {
+        return subject.poll();
+    }
+
+    /**
+     * @return whether the element was added
+     */
+    @Benchmark
+    @Group("drain4")
+    @GroupThreads(4)
+    public boolean drain4Put()
+    {
+        return subject.offer(ITEM);
+    }
+
+    /**
+     * @return the number of elements taken
+     */
+    @Benchmark
+    @Group("drain4")
+    @GroupThreads(4)
+    public int drain4Take()
+    {
+        return subject.drain(BATCH);
+    }
+}
@@ -0,0 +1,39 @@
+package benchmarks;
+
+import java.util.AbstractCollection;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * A collection that drops everything added to it, for the queue
+ *  adapters to drain into so draining costs only the queue's own work
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public final class Discard extends AbstractCollection<Integer>
+{
+    public static final Discard INSTANCE = new Discard();
+
+    /**
+     * Constructor for Discard; use INSTANCE
+     */
+    private Discard()
+    {
+    }
+
+    public boolean add(Integer obj)
+    {
+        return true;
+    }
+
+    public Iterator<Integer> iterator()
+    {
+        return Collections.emptyIterator();
+    }
+
+    public int size()
+    {
+        return 0;
+    }
+}
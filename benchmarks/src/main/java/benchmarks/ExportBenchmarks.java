@@ -0,0 +1,74 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ExportBenchmarks times turning a whole MyArrayList or MyLinkedList
+ *  into text, with toString and with writeUtf8 into a stream that
+ *  throws the bytes away. The sizes go up by ten at a time, so linear
+ *  scaling shows up as each time being about ten times the one before.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class ExportBenchmarks
+{
+    @Param({"array", "linked"})
+    public String list;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private ExportSubject subject;
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    /**
+     * Fills the list
+     */
+    @Setup(Level.Trial)
+    public void fill()
+    {
+        subject = ExportSubject.create(list);
+        for (int i = 0; i < size; i++)
+            subject.add(i);
+    }
+
+    /**
+     * @return the list as a string
+     */
+    @Benchmark
+    public String toText()
+    {
+        return subject.listString();
+    }
+
+    /**
+     * Streams the list out as UTF-8
+     * @throws IOException if the stream throws
+     */
+    @Benchmark
+    public void writeUtf8() throws IOException
+    {
+        subject.writeUtf8(sink);
+    }
+}
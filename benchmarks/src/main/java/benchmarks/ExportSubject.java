@@ -0,0 +1,43 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A ListSubject that can also write itself out as text, for
+ *  ExportBenchmarks.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public interface ExportSubject extends ListSubject
+{
+    /**
+     * Makes a new empty list of the given kind
+     * @param list "array" for MyArrayList or "linked" for MyLinkedList
+     * @return the wrapped list
+     */
+    static ExportSubject create(String list)
+    {
+        String name;
+        if (list.equals("array"))
+            name = "ArrayListSubject";
+        else if (list.equals("linked"))
+            name = "LinkedListSubject";
+        else
+            throw new RuntimeException("Unknown list " + list);
+        return Subjects.load(name, ExportSubject.class);
+    }
+
+    /**
+     * @return the list's toString
+     */
+    String listString();
+
+    /**
+     * Writes every element to a stream with the list's writeUtf8
+     * @param out the stream
+     * @throws IOException if out can't be written to
+     */
+    void writeUtf8(OutputStream out) throws IOException;
+}
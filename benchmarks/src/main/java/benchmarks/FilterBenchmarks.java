@@ -0,0 +1,103 @@
+package benchmarks;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * FilterBenchmarks times taking every odd element out of a MyLinkedList,
+ *  once through its iterator and once by index.
+ *
+ * iterator removes through Iterator.remove, which unlinks the node the
+ *  iterator is on, so the whole filter is O(n). index reads and removes
+ *  with get(int) and remove(int), each of which walks to the node from
+ *  the nearer end, so the filter is O(n^2). Every iteration filters a
+ *  freshly filled list.
+ *
+ * index takes over ten minutes a run at 1M elements, so a full run of
+ *  this class takes hours. Pass -p size=10000,100000 to see how it
+ *  grows, and time 1M on its own with -wi 0 -i 1.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class FilterBenchmarks
+{
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private Integer[] values;   //boxed up front so only the list allocates
+    private ListSubject subject;
+
+    /**
+     * Boxes the values to add
+     */
+    @Setup(Level.Trial)
+    public void box()
+    {
+        values = new Integer[1024];
+        for (int i = 0; i < values.length; i++)
+            values[i] = i;
+    }
+
+    /**
+     * Fills a fresh list to size elements
+     */
+    @Setup(Level.Iteration)
+    public void fill()
+    {
+        subject = null;
+        subject = ListSubject.create("linked");
+        for (int i = 0; i < size; i++)
+            subject.add(values[i & 1023]);
+    }
+
+    /**
+     * Removes the odd elements through the iterator
+     * @return the filtered list
+     */
+    @Benchmark
+    public ListSubject iterator()
+    {
+        Iterator<Integer> it = subject.iterator();
+        while (it.hasNext())
+            if ((it.next().intValue() & 1) != 0)
+                it.remove();
+        return subject;
+    }
+
+    /**
+     * Removes the odd elements by index
+     * @return the filtered list
+     */
+    @Benchmark
+    public ListSubject index()
+    {
+        int i = 0;
+        while (i < subject.size())
+        {
+            if ((subject.get(i).intValue() & 1) != 0)
+                subject.remove(i);
+            else
+                i++;
+        }
+        return subject;
+    }
+}
@@ -0,0 +1,114 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * GcPauseBenchmarks compares the stalls MyArrayList and
+ *  MyChunkedArrayList cause as they grow. MyArrayList copies its whole
+ *  array into one twice the size each time it fills up, so the add that
+ *  triggers that grows with the list; MyChunkedArrayList only allocates
+ *  one more chunk (and now and then copies its small spine).
+ *
+ * grow times that one add: every iteration fills a fresh list to size
+ *  elements, which is a power of two and so exactly a full array for
+ *  MyArrayList, a full spine for MyChunkedArrayList, collects garbage,
+ *  and then times a single add, which covers the copy and any
+ *  collection the new array forces (gc.time under -prof gc is no use
+ *  for grow, since it counts the collection before each add). build
+ *  times appending all size elements to a fresh list; run it with
+ *  -prof gc to see gc.count and gc.time for the whole build. The values
+ *  are boxed ahead of time, so the lists' own arrays are the only thing
+ *  allocated.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Thread)
+public class GcPauseBenchmarks
+{
+    @Param({"array", "chunked"})
+    public String list;
+
+    @Param({"1048576", "8388608", "33554432"})
+    public int size;
+
+    private Integer[] values;   //boxed up front so only the list allocates
+
+    /**
+     * A list filled until the next add has to grow it, kept apart from
+     *  the benchmark's own state so build doesn't pay to fill it
+     */
+    @State(Scope.Thread)
+    public static class FullList
+    {
+        private ListSubject list;
+
+        /**
+         * Fills a fresh list to size elements and collects garbage
+         * @param bench the benchmark, for its list kind, size and values
+         */
+        @Setup(Level.Iteration)
+        public void fill(GcPauseBenchmarks bench)
+        {
+            list = null;
+            list = ListSubject.create(bench.list);
+            for (int i = 0; i < bench.size; i++)
+                list.add(bench.values[i & 1023]);
+            System.gc();
+        }
+    }
+
+    /**
+     * Boxes the values to add
+     */
+    @Setup(Level.Trial)
+    public void box()
+    {
+        values = new Integer[1024];
+        for (int i = 0; i < values.length; i++)
+            values[i] = i;
+    }
+
+    /**
+     * Adds one element to a full list, so the list has to grow
+     * @param full the full list
+     * @return the list
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ListSubject grow(FullList full)
+    {
+        full.list.add(values[0]);
+        return full.list;
+    }
+
+    /**
+     * Builds a list of size elements by appending
+     * @return the new list
+     */
+    @Benchmark
+    public ListSubject build()
+    {
+        ListSubject fresh = ListSubject.create(list);
+        for (int i = 0; i < size; i++)
+            fresh.add(values[i & 1023]);
+        return fresh;
+    }
+}
@@ -0,0 +1,82 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * GrowthBenchmarks builds a MyArrayList of size elements by appending,
+ *  once for each growth policy, to show what each policy costs in time
+ *  and in memory allocated. The elements are boxed ahead of time, so
+ *  with -prof gc, gc.alloc.rate.norm is just the arrays the list
+ *  allocates: the final one plus every one it outgrew. addPresized calls
+ *  ensureCapacity(size) first, so it never grows and shows the floor;
+ *  it doesn't depend on the policy.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GrowthBenchmarks
+{
+    @Param({"doubling", "oneAndHalf", "chunk", "huge"})
+    public String policy;
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private Integer[] values;   //boxed up front so only the arrays are allocated
+
+    /**
+     * Boxes the values to add
+     */
+    @Setup(Level.Trial)
+    public void box()
+    {
+        values = new Integer[1024];
+        for (int i = 0; i < values.length; i++)
+            values[i] = i;
+    }
+
+    /**
+     * Builds a list of size elements, growing it by the policy
+     * @return the new list
+     */
+    @Benchmark
+    public GrowthSubject add()
+    {
+        GrowthSubject list = GrowthSubject.create(policy);
+        for (int i = 0; i < size; i++)
+            list.add(values[i & 1023]);
+        return list;
+    }
+
+    /**
+     * Builds a list of size elements after making room for all of them
+     * @return the new list
+     */
+    @Benchmark
+    public GrowthSubject addPresized()
+    {
+        GrowthSubject list = GrowthSubject.create(policy);
+        list.ensureCapacity(size);
+        for (int i = 0; i < size; i++)
+            list.add(values[i & 1023]);
+        return list;
+    }
+}
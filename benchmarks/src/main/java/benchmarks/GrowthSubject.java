@@ -0,0 +1,26 @@
+package benchmarks;
+
+/**
+ * A ListSubject for a MyArrayList with a chosen growth policy, which
+ *  also reports and manages its capacity.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public interface GrowthSubject extends ListSubject
+{
+    /**
+     * Makes a new empty MyArrayList that grows by the given policy
+     * @param policy "doubling", "oneAndHalf", "chunk" (64K slots at a
+     *  time) or "huge", after the GrowthPolicy of the same name
+     * @return the wrapped list
+     */
+    static GrowthSubject create(String policy)
+    {
+        return Subjects.load("GrowthListSubject", GrowthSubject.class, policy);
+    }
+
+    int getCapacity();
+    void ensureCapacity(int minCapacity);
+    void trimToSize();
+}
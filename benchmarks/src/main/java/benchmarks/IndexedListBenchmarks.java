@@ -0,0 +1,173 @@
+package benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * IndexedListBenchmarks times get, set, add(index) and remove(index) on
+ *  MyArrayList and MyLinkedList, on the circular-buffer and gap-buffer
+ *  lists built for front and middle edits, and on the unrolled linked
+ *  list built for indexed access to a linked list, with the index
+ *  picked by an access pattern: sequential, random, or always the
+ *  front, middle or back. Sequential is the cursor-local pattern: each
+ *  call is one past the last, the way typing inserts at a moving cursor.
+ *
+ * get and set don't change the list, so they are timed per call. add and
+ *  remove do, so they run in fixed batches of BATCH calls (JMH's
+ *  single-shot mode; the score is the time for the whole batch) and the
+ *  size change is undone after each batch, outside the timed part, so
+ *  every batch starts from the same size. It is undone at the last index
+ *  the batch used, so a gap buffer's gap stays where the batch left it
+ *  instead of being dragged to the back between batches.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IndexedListBenchmarks
+{
+    //calls per batch of add or remove; at most half the smallest size
+    private static final int BATCH = 500;
+    private static final int RANDOM_COUNT = 1 << 16;
+
+    @Param({"array", "linked", "circular", "gap", "unrolled"})
+    public String list;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"sequential", "random", "front", "middle", "back"})
+    public String pattern;
+
+    private Integer[] values;   //boxed up front so timing skips boxing
+    private int[] randoms;
+    private ListSubject subject;
+    private int next;           //calls so far, picks the next index
+    private int last;           //index the last call used
+    private int pending;        //size change to undo after a batch
+
+    /**
+     * Fills the list and picks the random indexes ahead of time
+     */
+    @Setup(Level.Trial)
+    public void fill()
+    {
+        values = new Integer[1024];
+        for (int i = 0; i < values.length; i++)
+            values[i] = i;
+        randoms = new int[RANDOM_COUNT];
+        Random random = new Random(42);
+        for (int i = 0; i < RANDOM_COUNT; i++)
+            randoms[i] = random.nextInt(Integer.MAX_VALUE);
+        subject = ListSubject.create(list);
+        for (int i = 0; i < size; i++)
+            subject.add(values[i & 1023]);
+    }
+
+    /**
+     * Puts the list back to size elements after a batch of adds or removes
+     */
+    @TearDown(Level.Iteration)
+    public void restore()
+    {
+        for (; pending > 0; pending--)
+            subject.remove(Math.min(last, subject.size() - 1));
+        for (; pending < 0; pending++)
+            subject.add(Math.min(last, subject.size()), values[-pending & 1023]);
+    }
+
+    /**
+     * Picks the index for the next call
+     * @param bound number of valid indexes; must be positive
+     * @return an index from 0 to bound - 1
+     */
+    private int index(int bound)
+    {
+        int i = next++;
+        switch (pattern)
+        {
+            case "sequential":
+                last = (i & Integer.MAX_VALUE) % bound;
+                break;
+            case "random":
+                last = randoms[i & (RANDOM_COUNT - 1)] % bound;
+                break;
+            case "front":
+                last = 0;
+                break;
+            case "middle":
+                last = bound / 2;
+                break;
+            case "back":
+                last = bound - 1;
+                break;
+            default:
+                throw new RuntimeException("Unknown pattern " + pattern);
+        }
+        return last;
+    }
+
+    /**
+     * @return the element at the next index
+     */
+    @Benchmark
+    public Integer get()
+    {
+        return subject.get(index(size));
+    }
+
+    /**
+     * @return the element replaced at the next index
+     */
+    @Benchmark
+    public Integer set()
+    {
+        return subject.set(index(size), values[next & 1023]);
+    }
+
+    /**
+     * Adds an element at the next index
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5, batchSize = BATCH)
+    @Measurement(iterations = 20, batchSize = BATCH)
+    public void addIndex()
+    {
+        subject.add(index(subject.size() + 1), values[next & 1023]);
+        pending++;
+    }
+
+    /**
+     * @return the element removed from the next index
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5, batchSize = BATCH)
+    @Measurement(iterations = 20, batchSize = BATCH)
+    public Integer remove()
+    {
+        pending--;
+        return subject.remove(index(subject.size()));
+    }
+}
@@ -0,0 +1,93 @@
+package benchmarks;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * IterationBenchmarks compares walking a MyArrayList with its fail-fast
+ *  iterator against the fastest possible walk, a for loop over an
+ *  Integer[] holding the same elements, and against calling get(i) for
+ *  every index. All three sum the elements, so they read the same
+ *  objects in the same order; one op is the whole walk.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IterationBenchmarks
+{
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private Integer[] array;
+    private ListSubject list;
+
+    /**
+     * Fills the array and the list with the same boxed values
+     */
+    @Setup(Level.Trial)
+    public void fill()
+    {
+        array = new Integer[size];
+        list = ListSubject.create("array");
+        for (int i = 0; i < size; i++)
+        {
+            array[i] = i;
+            list.add(array[i]);
+        }
+    }
+
+    /**
+     * @return the sum of the elements, read from the raw array
+     */
+    @Benchmark
+    public int rawArray()
+    {
+        int sum = 0;
+        for (Integer obj : array)
+            sum += obj.intValue();
+        return sum;
+    }
+
+    /**
+     * @return the sum of the elements, read with the list's iterator
+     */
+    @Benchmark
+    public int iterator()
+    {
+        int sum = 0;
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext())
+            sum += it.next().intValue();
+        return sum;
+    }
+
+    /**
+     * @return the sum of the elements, read with get for every index
+     */
+    @Benchmark
+    public int get()
+    {
+        int sum = 0;
+        for (int i = 0; i < size; i++)
+            sum += list.get(i).intValue();
+        return sum;
+    }
+}
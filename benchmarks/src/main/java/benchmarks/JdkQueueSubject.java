@@ -0,0 +1,42 @@
+package benchmarks;
+
+import java.util.Queue;
+
+/**
+ * A QueueSubject backed by one of the JDK's thread-safe queues, to
+ *  compare the ring queues against
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+final class JdkQueueSubject implements QueueSubject
+{
+    private final Queue<Integer> queue;
+
+    /**
+     * Constructor for JdkQueueSubject
+     * @param queue the queue to wrap
+     */
+    JdkQueueSubject(Queue<Integer> queue)
+    {
+        this.queue = queue;
+    }
+
+    public boolean offer(Integer obj)
+    {
+        return queue.offer(obj);
+    }
+
+    public Integer poll()
+    {
+        return queue.poll();
+    }
+
+    public int drain(int maxElements)
+    {
+        int count = 0;
+        while (count < maxElements && queue.poll() != null)
+            count++;
+        return count;
+    }
+}
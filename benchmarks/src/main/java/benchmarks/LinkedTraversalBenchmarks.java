@@ -0,0 +1,109 @@
+package benchmarks;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * LinkedTraversalBenchmarks compares MyArrayLinkedList, which keeps its
+ *  links and values in parallel arrays, and MyUnrolledLinkedList, whose
+ *  nodes each hold a small array of elements, with the node-based
+ *  MyLinkedList, on walking the list and on churn.
+ *
+ * iterate sums the list through its iterator and getMiddle walks to the
+ *  middle element by index, the two traversals. queueChurn adds at the
+ *  back and removes from the front, and middleChurn adds and removes in
+ *  the middle; each op leaves the list as it found it.
+ *
+ * The lists are filled in order, so MyLinkedList's nodes start out
+ *  next to each other in memory, which is the best case for it; a list
+ *  built up by scattered inserts over time does worse.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class LinkedTraversalBenchmarks
+{
+    @Param({"linked", "arraylinked", "unrolled"})
+    public String list;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private Integer[] values;   //boxed up front so timing skips boxing
+    private ListSubject subject;
+    private int next;
+
+    /**
+     * Fills the list
+     */
+    @Setup(Level.Trial)
+    public void fill()
+    {
+        values = new Integer[1024];
+        for (int i = 0; i < values.length; i++)
+            values[i] = i;
+        subject = ListSubject.create(list);
+        for (int i = 0; i < size; i++)
+            subject.add(values[i & 1023]);
+    }
+
+    /**
+     * @return the sum of the elements, read with the iterator
+     */
+    @Benchmark
+    public int iterate()
+    {
+        int sum = 0;
+        Iterator<Integer> it = subject.iterator();
+        while (it.hasNext())
+            sum += it.next().intValue();
+        return sum;
+    }
+
+    /**
+     * @return the middle element, found by index
+     */
+    @Benchmark
+    public Integer getMiddle()
+    {
+        return subject.get(size / 2);
+    }
+
+    /**
+     * @return the element taken off the front after adding at the back
+     */
+    @Benchmark
+    public Integer queueChurn()
+    {
+        subject.add(values[next++ & 1023]);
+        return subject.remove(0);
+    }
+
+    /**
+     * @return the element taken back out of the middle after adding it
+     */
+    @Benchmark
+    public Integer middleChurn()
+    {
+        subject.add(size / 2, values[next++ & 1023]);
+        return subject.remove(size / 2);
+    }
+}
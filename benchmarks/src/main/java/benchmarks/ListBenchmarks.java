@@ -0,0 +1,96 @@
+package benchmarks;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ListBenchmarks times the operations of MyArrayList and MyLinkedList
+ *  that work on the whole list: building it by appending, walking it
+ *  with its iterator, and turning it into a string. One op is the whole
+ *  list, so the score grows with size; divide by size for the cost of
+ *  one element. The indexed operations are in IndexedListBenchmarks.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListBenchmarks
+{
+    @Param({"array", "linked"})
+    public String list;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private Integer[] values;   //boxed up front so timing skips boxing
+    private ListSubject subject;
+
+    /**
+     * Boxes the values and fills the list the read-only benchmarks use
+     */
+    @Setup(Level.Trial)
+    public void fill()
+    {
+        values = new Integer[1024];
+        for (int i = 0; i < values.length; i++)
+            values[i] = i;
+        subject = ListSubject.create(list);
+        for (int i = 0; i < size; i++)
+            subject.add(values[i & 1023]);
+    }
+
+    /**
+     * Builds a new list of size elements by appending, so the cost
+     *  includes every time the list grows
+     * @return the new list
+     */
+    @Benchmark
+    public ListSubject add()
+    {
+        ListSubject fresh = ListSubject.create(list);
+        for (int i = 0; i < size; i++)
+            fresh.add(values[i & 1023]);
+        return fresh;
+    }
+
+    /**
+     * Walks the whole list with its iterator
+     * @return the sum of the elements
+     */
+    @Benchmark
+    public int iterate()
+    {
+        int sum = 0;
+        Iterator<Integer> it = subject.iterator();
+        while (it.hasNext())
+            sum += it.next().intValue();
+        return sum;
+    }
+
+    /**
+     * Turns the whole list into a string
+     * @return the string
+     */
+    @Benchmark
+    public String toStringList()
+    {
+        return subject.toString();
+    }
+}
@@ -0,0 +1,67 @@
+package benchmarks;
+
+import java.util.Iterator;
+
+/**
+ * The operations the benchmarks need from a list, so the same benchmark
+ *  methods can drive MyArrayList, MyLinkedList and the other list
+ *  classes.
+ *
+ * JMH won't generate code for benchmarks in the default package, and a
+ *  class in a package can't name the default-package lists, so each list
+ *  is wrapped by a default-package class implementing this interface and
+ *  loaded by name. Each JMH fork only ever sees one implementation, so
+ *  the JIT inlines the calls through it.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public interface ListSubject
+{
+    /**
+     * Makes a new empty list of the given kind
+     * @param list "array" for MyArrayList, "linked" for MyLinkedList,
+     *  "pooled" for a MyLinkedList that keeps up to 1024 removed nodes,
+     *  "arraylinked" for MyArrayLinkedList, "unrolled" for
+     *  MyUnrolledLinkedList, "skip" for MySkipList,
+     *  "chunked" for MyChunkedArrayList, "circular" for
+     *  MyCircularArrayList, "gap" for MyGapArrayList or "offheap" for
+     *  a MyOffHeapList of ints, which is AutoCloseable
+     * @return the wrapped list
+     */
+    static ListSubject create(String list)
+    {
+        String name;
+        if (list.equals("array"))
+            name = "ArrayListSubject";
+        else if (list.equals("linked"))
+            name = "LinkedListSubject";
+        else if (list.equals("pooled"))
+            return Subjects.load("LinkedListSubject", ListSubject.class, "1024");
+        else if (list.equals("arraylinked"))
+            name = "ArrayLinkedListSubject";
+        else if (list.equals("unrolled"))
+            name = "UnrolledListSubject";
+        else if (list.equals("skip"))
+            name = "SkipListSubject";
+        else if (list.equals("chunked"))
+            name = "ChunkedListSubject";
+        else if (list.equals("circular"))
+            name = "CircularListSubject";
+        else if (list.equals("gap"))
+            name = "GapListSubject";
+        else if (list.equals("offheap"))
+            name = "OffHeapListSubject";
+        else
+            throw new RuntimeException("Unknown list " + list);
+        return Subjects.load(name, ListSubject.class);
+    }
+
+    int size();
+    Integer get(int index);
+    Integer set(int index, Integer obj);
+    void add(Integer obj);
+    void add(int index, Integer obj);
+    Integer remove(int index);
+    Iterator<Integer> iterator();
+}
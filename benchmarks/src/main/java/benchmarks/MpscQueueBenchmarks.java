@@ -0,0 +1,180 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * MpscQueueBenchmarks has two, four or eight producer threads (groups
+ *  p2, p4 and p8) hand elements to one consumer thread through
+ *  MyMpscRingQueue, and compares it with the JDK's ConcurrentLinkedQueue
+ *  and ArrayBlockingQueue and with a MyLinkedList behind one lock, which
+ *  is how the hot event path queued before. SpscQueueBenchmarks covers
+ *  a single producer.
+ *
+ * Each op times a single offer or poll. Throughput mode gives the rates
+ *  and sample mode gives their latency percentiles. Neither side
+ *  blocks: a producer facing a full queue and a consumer facing an
+ *  empty one yield, the way a real event loop would back off, and count
+ *  an op that moved nothing, so taken, the rate of elements that really
+ *  got through, is the number to compare. The ring queue
+ *  and ArrayBlockingQueue hold capacity elements; the linked queues are
+ *  unbounded and grow when the producers get ahead. Every iteration
+ *  starts on an empty queue.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Group)
+public class MpscQueueBenchmarks
+{
+    private static final Integer ITEM = 42;     //boxed up front so timing skips boxing
+
+    @Param({"mpsc", "clq", "abq", "locked"})
+    public String queue;
+
+    @Param({"1024"})
+    public int capacity;
+
+    private QueueSubject subject;
+
+    /**
+     * The elements the consumer actually got, which JMH turns into a
+     *  rate; the consumer's own ops include polls that found nothing
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Taken
+    {
+        public long taken;
+
+        /**
+         * Starts each iteration from zero
+         */
+        @Setup(Level.Iteration)
+        public void clear()
+        {
+            taken = 0;
+        }
+    }
+
+    /**
+     * Makes a fresh queue for the group
+     */
+    @Setup(Level.Iteration)
+    public void create()
+    {
+        subject = QueueSubject.create(queue, capacity);
+    }
+
+    /**
+     * @return whether the element was added
+     */
+    @Benchmark
+    @Group("p2")
+    @GroupThreads(2)
+    public boolean p2Put()
+    {
+        boolean added = subject.offer(ITEM);
+        if (!added)
+            Thread.yield();
+        return added;
+    }
+
+    /**
+     * @param counts where the consumer counts what it got
+     * @return the element taken, or null if there was none
+     */
+    @Benchmark
+    @Group("p2")
+    @GroupThreads(1)
+    public Integer p2Take(Taken counts)
+    {
+        Integer obj = subject.poll();
+        if (obj != null)
+            counts.taken++;
+        else
+            Thread.yield();
+        return obj;
+    }
+
+    /**
+     * @return whether the element was added
+     */
+    @Benchmark
+    @Group("p4")
+    @GroupThreads(4)
+    public boolean p4Put()
+    {
+        boolean added = subject.offer(ITEM);
+        if (!added)
+            Thread.yield();
+        return added;
+    }
+
+    /**
+     * @param counts where the consumer counts what it got
+     * @return the element taken, or null if there was none
+     */
+    @Benchmark
+    @Group("p4")
+    @GroupThreads(1)
+    public Integer p4Take(Taken counts)
+    {
+        Integer obj = subject.poll();
+        if (obj != null)
+            counts.taken++;
+        else
+            Thread.yield();
+        return obj;
+    }
+
+    /**
+     * @return whether the element was added
+     */
+    @Benchmark
+    @Group("p8")
+    @GroupThreads(8)
+    public boolean p8Put()
+    {
+        boolean added = subject.offer(ITEM);
+        if (!added)
+            Thread.yield();
+        return added;
+    }
+
+    /**
+     * @param counts where the consumer counts what it got
+     * @return the element taken, or null if there was none
+     */
+    @Benchmark
+    @Group("p8")
+    @GroupThreads(1)
+    public Integer p8Take(Taken counts)
+    {
+        Integer obj = subject.poll();
+        if (obj != null)
+            counts.taken++;
+        else
+            Thread.yield();
+        return obj;
+    }
+}
@@ -0,0 +1,109 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * OffHeapGcBenchmarks compares the heap and garbage collector cost of
+ *  keeping size ints in a MyArrayList, where each is a boxed Integer on
+ *  the heap, with keeping them in a MyOffHeapList, where they are 4
+ *  bytes each outside of it.
+ *
+ * fullGc times a full collection while the list is live, which has to
+ *  mark every Integer the MyArrayList holds but nothing the
+ *  MyOffHeapList holds. build times filling a fresh list; run it with
+ *  -prof gc to compare gc.alloc.rate.norm (heap bytes per build) and
+ *  gc.count. Both lists get the same distinct Integers in build, so
+ *  only MyArrayList keeps them alive.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Thread)
+public class OffHeapGcBenchmarks
+{
+    @Param({"array", "offheap"})
+    public String list;
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private ListSubject live;
+
+    /**
+     * Fills the list that stays live for fullGc
+     */
+    @Setup(Level.Trial)
+    public void fill()
+    {
+        live = ListSubject.create(list);
+        for (int i = 0; i < size; i++)
+            live.add(i);
+    }
+
+    /**
+     * Frees the live list
+     * @throws Exception if closing it fails
+     */
+    @TearDown(Level.Trial)
+    public void free() throws Exception
+    {
+        close(live);
+        live = null;
+    }
+
+    /**
+     * Closes a list if it holds memory that has to be freed
+     * @param subject the list
+     * @throws Exception if closing it fails
+     */
+    private static void close(ListSubject subject) throws Exception
+    {
+        if (subject instanceof AutoCloseable)
+            ((AutoCloseable) subject).close();
+    }
+
+    /**
+     * Runs a full collection with the list live
+     * @return the live list's size, so it can't be dropped
+     */
+    @Benchmark
+    public int fullGc()
+    {
+        System.gc();
+        return live.size();
+    }
+
+    /**
+     * Fills a fresh list and then frees it
+     * @return the size it reached
+     * @throws Exception if closing it fails
+     */
+    @Benchmark
+    public int build() throws Exception
+    {
+        ListSubject subject = ListSubject.create(list);
+        for (int i = 0; i < size; i++)
+            subject.add(i);
+        int built = subject.size();
+        close(subject);
+        return built;
+    }
+}
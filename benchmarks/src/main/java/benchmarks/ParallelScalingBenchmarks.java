@@ -0,0 +1,160 @@
+package benchmarks;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ParallelScalingBenchmarks times MyArrayList's parallel stream,
+ *  parallelForEach and parallelReplaceAll on a 50M-element list with
+ *  1 to 8 threads, next to the sequential versions, to show how they
+ *  scale with cores.
+ *
+ * Parallel streams run their tasks in the fork/join pool they are
+ *  started from, so each parallel op is started inside a ForkJoinPool
+ *  with threads workers rather than the common pool. The sequential
+ *  ops ignore threads. Thread counts above the machine's core count
+ *  only add overhead.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ParallelScalingBenchmarks
+{
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"50000000"})
+    public int size;
+
+    private static volatile Integer sink;   //never written; keeps forEach honest
+
+    private Integer[] values;   //boxed up front so timing skips boxing
+    private StreamSubject subject;
+    private ForkJoinPool pool;
+
+    /**
+     * Fills the list and starts the pool
+     */
+    @Setup(Level.Trial)
+    public void fill()
+    {
+        values = new Integer[1024];
+        for (int i = 0; i < values.length; i++)
+            values[i] = i;
+        subject = StreamSubject.create();
+        for (int i = 0; i < size; i++)
+            subject.add(values[i & 1023]);
+        pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * Stops the pool
+     */
+    @TearDown(Level.Trial)
+    public void stop()
+    {
+        pool.shutdown();
+    }
+
+    /**
+     * Runs a parallel op inside the pool and waits for it
+     * @param op the op
+     * @throws ExecutionException if the op threw
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void inPool(Runnable op) throws ExecutionException, InterruptedException
+    {
+        pool.submit(op).get();
+    }
+
+    /**
+     * Checks an element without doing anything the JIT could drop
+     * @param obj the element
+     */
+    private static void visit(Integer obj)
+    {
+        if (obj.intValue() < 0)
+            sink = obj;
+    }
+
+    /**
+     * @return the sum of the elements, from a sequential stream
+     */
+    @Benchmark
+    public long streamSum()
+    {
+        return subject.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    /**
+     * @return the sum of the elements, from a parallel stream
+     * @throws ExecutionException if the stream threw
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Benchmark
+    public long parallelStreamSum() throws ExecutionException, InterruptedException
+    {
+        return pool.submit(() ->
+            subject.parallelStream().mapToLong(Integer::longValue).sum()).get();
+    }
+
+    /**
+     * Visits every element on one thread
+     */
+    @Benchmark
+    public void forEach()
+    {
+        subject.forEach(ParallelScalingBenchmarks::visit);
+    }
+
+    /**
+     * Visits every element on all the pool's threads
+     * @throws ExecutionException if the action threw
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Benchmark
+    public void parallelForEach() throws ExecutionException, InterruptedException
+    {
+        inPool(() -> subject.parallelForEach(ParallelScalingBenchmarks::visit));
+    }
+
+    /**
+     * Replaces every element with the next value, on one thread
+     */
+    @Benchmark
+    public void replaceAll()
+    {
+        subject.replaceAll(obj -> values[(obj.intValue() + 1) & 1023]);
+    }
+
+    /**
+     * Replaces every element with the next value, on all the pool's threads
+     * @throws ExecutionException if the op threw
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Benchmark
+    public void parallelReplaceAll() throws ExecutionException, InterruptedException
+    {
+        inPool(() -> subject.parallelReplaceAll(obj -> values[(obj.intValue() + 1) & 1023]));
+    }
+}
@@ -0,0 +1,71 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PooledListBenchmarks runs MyLinkedList as a queue, adding at the back
+ *  and removing from the front while it holds held elements, with and
+ *  without its node pool. Run it with -prof gc: gc.alloc.rate.norm is
+ *  the heap allocated per add/remove cycle, which should be about
+ *  0 B/op with the pool and one DoubleNode without it.
+ *
+ * The elements are boxed ahead of time, so the list's nodes are the
+ *  only thing that could be allocated.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PooledListBenchmarks
+{
+    @Param({"linked", "pooled"})
+    public String list;
+
+    @Param({"16", "1024"})
+    public int held;
+
+    private Integer[] values;   //boxed up front so only the list allocates
+    private ListSubject subject;
+    private int next;
+
+    /**
+     * Fills the list to held elements
+     */
+    @Setup(Level.Trial)
+    public void fill()
+    {
+        values = new Integer[1024];
+        for (int i = 0; i < values.length; i++)
+            values[i] = i;
+        subject = ListSubject.create(list);
+        for (int i = 0; i < held; i++)
+            subject.add(values[i & 1023]);
+    }
+
+    /**
+     * @return the element taken off the front
+     */
+    @Benchmark
+    public Integer addRemove()
+    {
+        subject.add(values[next++ & 1023]);
+        return subject.remove(0);
+    }
+}
@@ -0,0 +1,88 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PrimitiveListBenchmarks compares MyIntArrayList, MyLongArrayList and
+ *  MyDoubleArrayList against a boxed MyArrayList<Integer>: building a
+ *  list of size elements by appending, and reading every element back
+ *  with get. One op is the whole list.
+ *
+ * The values are 0 to size - 1, boxed as they are added, the way a real
+ *  workload would box them, so the boxed list pays for an Integer per
+ *  element (all but the first 128 miss the Integer cache). Run with
+ *  -prof gc: gc.alloc.rate.norm for add is the bytes allocated to build
+ *  the list, which is its footprint plus the arrays thrown away as it
+ *  grew.
+ *
+ * 100M boxed elements take about 2.5 GB, so each fork gets a 6 GB heap;
+ *  on a smaller machine leave that size out with -p size=1000000,10000000.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+@State(Scope.Thread)
+public class PrimitiveListBenchmarks
+{
+    @Param({"int", "long", "double", "boxed"})
+    public String list;
+
+    @Param({"1000000", "10000000", "100000000"})
+    public int size;
+
+    private PrimitiveSubject subject;
+
+    /**
+     * Fills the list the get benchmark reads
+     */
+    @Setup(Level.Trial)
+    public void fill()
+    {
+        subject = PrimitiveSubject.create(list);
+        for (int i = 0; i < size; i++)
+            subject.add(i);
+    }
+
+    /**
+     * Builds a new list of size elements by appending
+     * @return the new list
+     */
+    @Benchmark
+    public PrimitiveSubject add()
+    {
+        PrimitiveSubject fresh = PrimitiveSubject.create(list);
+        for (int i = 0; i < size; i++)
+            fresh.add(i);
+        return fresh;
+    }
+
+    /**
+     * Reads every element with get
+     * @return the sum of the elements
+     */
+    @Benchmark
+    public int get()
+    {
+        int sum = 0;
+        for (int i = 0; i < size; i++)
+            sum += subject.get(i);
+        return sum;
+    }
+}
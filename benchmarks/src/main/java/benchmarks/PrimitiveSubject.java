@@ -0,0 +1,41 @@
+package benchmarks;
+
+/**
+ * The operations PrimitiveListBenchmarks needs from a list of numbers,
+ *  taking and returning plain ints so the same benchmark can drive the
+ *  primitive lists and a boxed MyArrayList<Integer>. The long and double
+ *  lists widen the int on the way in and narrow it on the way out, which
+ *  costs a register move, not a box.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public interface PrimitiveSubject
+{
+    /**
+     * Makes a new empty list of the given kind
+     * @param list "int", "long" or "double" for MyIntArrayList,
+     *  MyLongArrayList or MyDoubleArrayList, or "boxed" for
+     *  MyArrayList<Integer>
+     * @return the wrapped list
+     */
+    static PrimitiveSubject create(String list)
+    {
+        String name;
+        if (list.equals("int"))
+            name = "IntListSubject";
+        else if (list.equals("long"))
+            name = "LongListSubject";
+        else if (list.equals("double"))
+            name = "DoubleListSubject";
+        else if (list.equals("boxed"))
+            name = "BoxedListSubject";
+        else
+            throw new RuntimeException("Unknown list " + list);
+        return Subjects.load(name, PrimitiveSubject.class);
+    }
+
+    int size();
+    int get(int index);
+    void add(int value);
+}
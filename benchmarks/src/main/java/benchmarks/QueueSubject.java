@@ -0,0 +1,70 @@
+package benchmarks;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The operations the queue benchmarks need from a queue that producer
+ *  and consumer threads share. None of the calls wait: offer gives up
+ *  on a full queue, and poll and drain on an empty one.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public interface QueueSubject
+{
+    /**
+     * Makes a new empty thread-safe queue of the given kind, with 1024
+     *  slots if it is bounded
+     * @param queue the kind of queue; see create(String, int)
+     * @return the wrapped queue
+     */
+    static QueueSubject create(String queue)
+    {
+        return create(queue, 1024);
+    }
+
+    /**
+     * Makes a new empty thread-safe queue of the given kind
+     * @param queue "locked" for a MyLinkedList behind one lock,
+     *  "concurrent" for MyConcurrentLinkedDeque, "blocking" for
+     *  MyBlockingLinkedDeque, "spsc" for MySpscRingQueue, "mpsc" for
+     *  MyMpscRingQueue, "clq" for ConcurrentLinkedQueue or "abq" for
+     *  ArrayBlockingQueue; only spsc, mpsc and abq are bounded
+     * @param capacity the most elements a bounded queue holds
+     * @return the wrapped queue
+     */
+    static QueueSubject create(String queue, int capacity)
+    {
+        String name;
+        if (queue.equals("locked"))
+            name = "LockedQueueSubject";
+        else if (queue.equals("concurrent"))
+            name = "ConcurrentDequeSubject";
+        else if (queue.equals("blocking"))
+            name = "BlockingDequeSubject";
+        else if (queue.equals("spsc"))
+            return Subjects.load("SpscQueueSubject", QueueSubject.class,
+                String.valueOf(capacity));
+        else if (queue.equals("mpsc"))
+            return Subjects.load("MpscQueueSubject", QueueSubject.class,
+                String.valueOf(capacity));
+        else if (queue.equals("clq"))
+            return new JdkQueueSubject(new ConcurrentLinkedQueue<Integer>());
+        else if (queue.equals("abq"))
+            return new JdkQueueSubject(new ArrayBlockingQueue<Integer>(capacity));
+        else
+            throw new RuntimeException("Unknown queue " + queue);
+        return Subjects.load(name, QueueSubject.class);
+    }
+
+    boolean offer(Integer obj);
+    Integer poll();
+
+    /**
+     * Takes up to maxElements elements off the queue and drops them
+     * @param maxElements the most elements to take
+     * @return the number taken
+     */
+    int drain(int maxElements);
+}
@@ -0,0 +1,36 @@
+package benchmarks;
+
+/**
+ * The operations ConcurrentListBenchmarks needs from a list that many
+ *  threads share.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public interface SharedSubject
+{
+    /**
+     * Makes a new empty thread-safe list of the given kind
+     * @param list "locked" for a MyArrayList behind one lock, "cow" for
+     *  MyCopyOnWriteArrayList or "stamped" for MyStampedArrayList
+     * @return the wrapped list
+     */
+    static SharedSubject create(String list)
+    {
+        String name;
+        if (list.equals("locked"))
+            name = "LockedListSubject";
+        else if (list.equals("cow"))
+            name = "CopyOnWriteListSubject";
+        else if (list.equals("stamped"))
+            name = "StampedListSubject";
+        else
+            throw new RuntimeException("Unknown list " + list);
+        return Subjects.load(name, SharedSubject.class);
+    }
+
+    int size();
+    Integer get(int index);
+    Integer set(int index, Integer obj);
+    void add(Integer obj);
+}
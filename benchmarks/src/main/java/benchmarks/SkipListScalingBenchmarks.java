@@ -0,0 +1,90 @@
+package benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * SkipListScalingBenchmarks times get, and an add followed by a remove,
+ *  at random indexes on MySkipList and MyLinkedList from 10K to 10M
+ *  elements. The linked list walks O(n) nodes, so each tenfold step in
+ *  size makes it about ten times slower. The skip list walks O(log n)
+ *  nodes, so it only adds a few steps each time; once the list is too
+ *  big for the caches most of those steps are cache misses, so its time
+ *  still grows faster than log n.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Thread)
+public class SkipListScalingBenchmarks
+{
+    private static final int RANDOM_COUNT = 1 << 16;
+
+    @Param({"skip", "linked"})
+    public String list;
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private Integer[] values;   //boxed up front so timing skips boxing
+    private int[] randoms;
+    private ListSubject subject;
+    private int next;
+
+    /**
+     * Fills the list and picks the random indexes ahead of time
+     */
+    @Setup(Level.Trial)
+    public void fill()
+    {
+        values = new Integer[1024];
+        for (int i = 0; i < values.length; i++)
+            values[i] = i;
+        randoms = new int[RANDOM_COUNT];
+        Random random = new Random(42);
+        for (int i = 0; i < RANDOM_COUNT; i++)
+            randoms[i] = random.nextInt(size);
+        subject = ListSubject.create(list);
+        for (int i = 0; i < size; i++)
+            subject.add(values[i & 1023]);
+    }
+
+    /**
+     * @return the element at the next random index
+     */
+    @Benchmark
+    public Integer get()
+    {
+        return subject.get(randoms[next++ & (RANDOM_COUNT - 1)]);
+    }
+
+    /**
+     * Adds an element at the next random index and removes it again,
+     *  so the size never changes
+     * @return the element removed
+     */
+    @Benchmark
+    public Integer addRemove()
+    {
+        int index = randoms[next++ & (RANDOM_COUNT - 1)];
+        subject.add(index, values[index & 1023]);
+        return subject.remove(index);
+    }
+}
@@ -0,0 +1,209 @@
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * SortBenchmarks compares MyArrayList's in-place sort with the old way
+ *  of sorting it, copying the elements into a java.util.ArrayList,
+ *  sorting that and copying them back. The list is reshuffled before
+ *  every op.
+ *
+ * sort picks Arrays.sort below MyArrayList's parallel threshold (65536
+ *  elements) and parallelSort above it. parallelSort always runs in the
+ *  common fork/join pool, whose size is fixed when the JVM starts, so
+ *  each parallelSortN method forks a JVM with the common pool set to N
+ *  threads. Pool sizes above the machine's core count only add
+ *  overhead.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class SortBenchmarks
+{
+    private static final String POOL = "-Djava.util.concurrent.ForkJoinPool.common.parallelism=";
+
+    @Param({"10000", "1000000", "10000000"})
+    public int size;
+
+    private Integer[] shuffled;
+    private int next;   //index of the next binarySearch key
+
+    /**
+     * Makes the shuffled values
+     */
+    @Setup(Level.Trial)
+    public void shuffle()
+    {
+        shuffled = new Integer[size];
+        for (int i = 0; i < size; i++)
+            shuffled[i] = i;
+        Random random = new Random(42);
+        for (int i = size - 1; i > 0; i--)
+        {
+            int j = random.nextInt(i + 1);
+            Integer temp = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = temp;
+        }
+    }
+
+    /**
+     * State for the sorts, which need the list put back in shuffled
+     *  order before every op
+     */
+    @State(Scope.Thread)
+    public static class ShuffledList
+    {
+        SortSubject list;
+        Integer[] shuffled;
+
+        /**
+         * Makes the list
+         * @param bench the benchmark, for its shuffled values
+         */
+        @Setup(Level.Trial)
+        public void fill(SortBenchmarks bench)
+        {
+            shuffled = bench.shuffled;
+            list = SortSubject.create();
+            for (Integer obj : shuffled)
+                list.add(obj);
+        }
+
+        /**
+         * Puts the list back in shuffled order
+         */
+        @Setup(Level.Invocation)
+        public void reshuffle()
+        {
+            for (int i = 0; i < shuffled.length; i++)
+                list.set(i, shuffled[i]);
+        }
+    }
+
+    /**
+     * Sorts the list the way callers did before it had sort
+     * @param shuffledList the list
+     */
+    @Benchmark
+    public void copySort(ShuffledList shuffledList)
+    {
+        SortSubject list = shuffledList.list;
+        ArrayList<Integer> copy = new ArrayList<Integer>(size);
+        for (int i = 0; i < size; i++)
+            copy.add(list.get(i));
+        Collections.sort(copy);
+        for (int i = 0; i < size; i++)
+            list.set(i, copy.get(i));
+    }
+
+    /**
+     * Sorts the list with sort, which picks the algorithm by size
+     * @param shuffledList the list
+     */
+    @Benchmark
+    public void sort(ShuffledList shuffledList)
+    {
+        shuffledList.list.sort(null);
+    }
+
+    /**
+     * Sorts the list with a one-thread common pool
+     * @param shuffledList the list
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", POOL + "1"})
+    public void parallelSort1(ShuffledList shuffledList)
+    {
+        shuffledList.list.parallelSort(null);
+    }
+
+    /**
+     * Sorts the list with a two-thread common pool
+     * @param shuffledList the list
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", POOL + "2"})
+    public void parallelSort2(ShuffledList shuffledList)
+    {
+        shuffledList.list.parallelSort(null);
+    }
+
+    /**
+     * Sorts the list with a four-thread common pool
+     * @param shuffledList the list
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", POOL + "4"})
+    public void parallelSort4(ShuffledList shuffledList)
+    {
+        shuffledList.list.parallelSort(null);
+    }
+
+    /**
+     * Sorts the list with an eight-thread common pool
+     * @param shuffledList the list
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", POOL + "8"})
+    public void parallelSort8(ShuffledList shuffledList)
+    {
+        shuffledList.list.parallelSort(null);
+    }
+
+    /**
+     * State for binarySearch, which keeps its list sorted rather than
+     *  reshuffling it before every op
+     */
+    @State(Scope.Thread)
+    public static class SortedList
+    {
+        SortSubject list;
+
+        /**
+         * Fills the list in order
+         * @param bench the benchmark, for its size
+         */
+        @Setup(Level.Trial)
+        public void fill(SortBenchmarks bench)
+        {
+            list = SortSubject.create();
+            for (int i = 0; i < bench.size; i++)
+                list.add(i);
+        }
+    }
+
+    /**
+     * @param sorted the sorted list
+     * @return where a shuffled key was found
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int binarySearch(SortedList sorted)
+    {
+        int index = sorted.list.binarySearch(shuffled[next], null);
+        next = next + 1 < size ? next + 1 : 0;
+        return index;
+    }
+}
@@ -0,0 +1,26 @@
+package benchmarks;
+
+import java.util.Comparator;
+
+/**
+ * A ListSubject that also has MyArrayList's sorting and sorted-search
+ *  methods, for SortBenchmarks.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public interface SortSubject extends ListSubject
+{
+    /**
+     * Makes a new empty MyArrayList
+     * @return the wrapped list
+     */
+    static SortSubject create()
+    {
+        return Subjects.load("ArrayListSubject", SortSubject.class);
+    }
+
+    void sort(Comparator<? super Integer> c);
+    void parallelSort(Comparator<? super Integer> c);
+    int binarySearch(Integer key, Comparator<? super Integer> c);
+}
@@ -0,0 +1,117 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * SpscQueueBenchmarks has one producer thread hand elements to one
+ *  consumer thread through MySpscRingQueue, and compares it with the
+ *  other queues on the same work: MyMpscRingQueue, the JDK's
+ *  ConcurrentLinkedQueue and ArrayBlockingQueue, and a MyLinkedList
+ *  behind one lock, which is how the hot event path queued before.
+ *
+ * Each op times a single offer or poll. Throughput mode gives the rates
+ *  and sample mode gives their latency percentiles. Neither side
+ *  blocks: a producer facing a full queue and a consumer facing an
+ *  empty one yield, the way a real event loop would back off, and count
+ *  an op that moved nothing, so taken, the rate of elements that really
+ *  got through, is the number to compare. The ring queues
+ *  and ArrayBlockingQueue hold capacity elements; the linked queues are
+ *  unbounded and grow when the producer gets ahead. Every iteration
+ *  starts on an empty queue. MpscQueueBenchmarks runs more producers.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Group)
+public class SpscQueueBenchmarks
+{
+    private static final Integer ITEM = 42;     //boxed up front so timing skips boxing
+
+    @Param({"spsc", "mpsc", "clq", "abq", "locked"})
+    public String queue;
+
+    @Param({"1024"})
+    public int capacity;
+
+    private QueueSubject subject;
+
+    /**
+     * The elements the consumer actually got, which JMH turns into a
+     *  rate; the consumer's own ops include polls that found nothing
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Taken
+    {
+        public long taken;
+
+        /**
+         * Starts each iteration from zero
+         */
+        @Setup(Level.Iteration)
+        public void clear()
+        {
+            taken = 0;
+        }
+    }
+
+    /**
+     * Makes a fresh queue for the group
+     */
+    @Setup(Level.Iteration)
+    public void create()
+    {
+        subject = QueueSubject.create(queue, capacity);
+    }
+
+    /**
+     * @return whether the element was added
+     */
+    @Benchmark
+    @Group("p1")
+    @GroupThreads(1)
+    public boolean p1Put()
+    {
+        boolean added = subject.offer(ITEM);
+        if (!added)
+            Thread.yield();
+        return added;
+    }
+
+    /**
+     * @param counts where the consumer counts what it got
+     * @return the element taken, or null if there was none
+     */
+    @Benchmark
+    @Group("p1")
+    @GroupThreads(1)
+    public Integer p1Take(Taken counts)
+    {
+        Integer obj = subject.poll();
+        if (obj != null)
+            counts.taken++;
+        else
+            Thread.yield();
+        return obj;
+    }
+}
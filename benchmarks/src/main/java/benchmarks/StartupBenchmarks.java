@@ -0,0 +1,95 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * StartupBenchmarks times how long a restarted process takes to get a
+ *  saved list of size longs back and read its last element: reopening
+ *  a MyMappedList against parsing a text file of one number per line
+ *  into a MyArrayList.
+ *
+ * The file is written once per trial into a temporary directory and is
+ *  then in the OS page cache, so these are warm-start times; a cold
+ *  start adds the disk reads, which hurt the text file more since it is
+ *  the one read in full. Each op is one load, timed as a single shot.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class StartupBenchmarks
+{
+    @Param({"mapped", "text"})
+    public String kind;
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private Path file;
+    private StartupSubject subject;
+
+    /**
+     * Writes the saved list
+     * @throws IOException if it can't be written
+     */
+    @Setup(Level.Trial)
+    public void write() throws IOException
+    {
+        file = Files.createTempFile("startup", "." + kind);
+        Files.delete(file);
+        subject = StartupSubject.create(kind);
+        subject.write(file, size);
+    }
+
+    /**
+     * Drops the list loaded by the last op
+     * @throws IOException if it can't be closed
+     */
+    @TearDown(Level.Iteration)
+    public void drop() throws IOException
+    {
+        subject.close();
+    }
+
+    /**
+     * Deletes the saved list
+     * @throws IOException if it can't be deleted
+     */
+    @TearDown(Level.Trial)
+    public void delete() throws IOException
+    {
+        subject.close();
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * @return the last element of the loaded list
+     * @throws IOException if the list can't be loaded
+     */
+    @Benchmark
+    public long load() throws IOException
+    {
+        return subject.load(file);
+    }
+}
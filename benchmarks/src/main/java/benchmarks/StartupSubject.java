@@ -0,0 +1,56 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * A way of keeping a list of longs between runs, for StartupBenchmarks:
+ *  it writes the list to a file once, and then loads it back the way a
+ *  restarted process would.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public interface StartupSubject extends AutoCloseable
+{
+    /**
+     * Makes a new subject of the given kind
+     * @param kind "mapped" to reopen a MyMappedList or "text" to rebuild
+     *  a MyArrayList from a text file of one number per line
+     * @return the subject
+     */
+    static StartupSubject create(String kind)
+    {
+        String name;
+        if (kind.equals("mapped"))
+            name = "MappedStartupSubject";
+        else if (kind.equals("text"))
+            name = "TextStartupSubject";
+        else
+            throw new RuntimeException("Unknown kind " + kind);
+        return Subjects.load(name, StartupSubject.class);
+    }
+
+    /**
+     * Writes the list 0, 1, ..., size - 1 to a file
+     * @param file the file to write
+     * @param size number of elements
+     * @throws IOException if the file can't be written
+     */
+    void write(Path file, int size) throws IOException;
+
+    /**
+     * Loads the list from a file written by write, replacing any list
+     *  loaded before
+     * @param file the file to read
+     * @return the last element, read from the loaded list
+     * @throws IOException if the file can't be read
+     */
+    long load(Path file) throws IOException;
+
+    /**
+     * Drops the loaded list
+     * @throws IOException if it can't be closed
+     */
+    void close() throws IOException;
+}
@@ -0,0 +1,109 @@
+package benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * StatsOverheadBenchmarks measures what ListStats costs MyArrayList and
+ *  MyLinkedList. stats is "off" for a list with no ListStats, which
+ *  only pays a null check per operation, "count" for the counters and
+ *  histograms, and "time" for counting plus two System.nanoTime calls
+ *  per operation.
+ *
+ * get reads at random indexes, churnBack adds at the back and removes
+ *  it again, and churnMiddle does the same in the middle, so the shift
+ *  and walk histograms get a value every call.
+ *
+ * Counting adds a few nanoseconds per operation. That is lost in an
+ *  operation that walks nodes or shifts elements, but it is a big share
+ *  of an add or remove at the back of the list, which costs only a few
+ *  nanoseconds itself. Timing adds two clock reads per operation, which
+ *  cost more than most of the operations do.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StatsOverheadBenchmarks
+{
+    private static final int RANDOM_COUNT = 1 << 16;
+
+    @Param({"array", "linked"})
+    public String list;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"off", "count", "time"})
+    public String stats;
+
+    private Integer[] values;   //boxed up front so timing skips boxing
+    private int[] indexes;      //random indexes, made ahead of time
+    private StatsSubject subject;
+    private int next;
+
+    /**
+     * Fills the list and turns its stats on or off
+     */
+    @Setup(Level.Trial)
+    public void fill()
+    {
+        values = new Integer[1024];
+        for (int i = 0; i < values.length; i++)
+            values[i] = i;
+        Random random = new Random(42);
+        indexes = new int[RANDOM_COUNT];
+        for (int i = 0; i < RANDOM_COUNT; i++)
+            indexes[i] = random.nextInt(size);
+        subject = StatsSubject.create(list);
+        for (int i = 0; i < size; i++)
+            subject.add(values[i & 1023]);
+        subject.setStats(stats);
+    }
+
+    /**
+     * @return the element at the next random index
+     */
+    @Benchmark
+    public Integer get()
+    {
+        return subject.get(indexes[next++ & (RANDOM_COUNT - 1)]);
+    }
+
+    /**
+     * @return the element taken back off the back after adding it
+     */
+    @Benchmark
+    public Integer churnBack()
+    {
+        subject.add(values[next++ & 1023]);
+        return subject.remove(size);
+    }
+
+    /**
+     * @return the element taken back out of the middle after adding it
+     */
+    @Benchmark
+    public Integer churnMiddle()
+    {
+        subject.add(size / 2, values[next++ & 1023]);
+        return subject.remove(size / 2);
+    }
+}
@@ -0,0 +1,35 @@
+package benchmarks;
+
+/**
+ * A ListSubject whose list can record ListStats, for
+ *  StatsOverheadBenchmarks.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public interface StatsSubject extends ListSubject
+{
+    /**
+     * Makes a new empty list of the given kind
+     * @param list "array" for MyArrayList or "linked" for MyLinkedList
+     * @return the wrapped list
+     */
+    static StatsSubject create(String list)
+    {
+        String name;
+        if (list.equals("array"))
+            name = "ArrayListSubject";
+        else if (list.equals("linked"))
+            name = "LinkedListSubject";
+        else
+            throw new RuntimeException("Unknown list " + list);
+        return Subjects.load(name, StatsSubject.class);
+    }
+
+    /**
+     * Turns the list's stats on or off
+     * @param mode "off" for no stats, "count" for counters and
+     *  histograms, or "time" to also time every operation
+     */
+    void setStats(String mode);
+}
@@ -0,0 +1,31 @@
+package benchmarks;
+
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * A ListSubject that also has MyArrayList's streams and parallel bulk
+ *  operations, for ParallelScalingBenchmarks.
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+public interface StreamSubject extends ListSubject
+{
+    /**
+     * Makes a new empty MyArrayList
+     * @return the wrapped list
+     */
+    static StreamSubject create()
+    {
+        return Subjects.load("ArrayListSubject", StreamSubject.class);
+    }
+
+    Stream<Integer> stream();
+    Stream<Integer> parallelStream();
+    void forEach(Consumer<? super Integer> action);
+    void parallelForEach(Consumer<? super Integer> action);
+    void replaceAll(UnaryOperator<Integer> op);
+    void parallelReplaceAll(UnaryOperator<Integer> op);
+}
@@ -0,0 +1,60 @@
+package benchmarks;
+
+/**
+ * Loads the default-package classes that wrap the data structures for
+ *  the benchmarks (see ListSubject for why they are wrapped).
+ *
+ * @author Arnav Dani
+ * @version 10.18.26
+ */
+final class Subjects
+{
+    /**
+     * Constructor for Subjects; never used
+     */
+    private Subjects()
+    {
+    }
+
+    /**
+     * Makes a new instance of a wrapper class with its no-argument
+     *  constructor
+     * @param className name of the default-package class
+     * @param type interface the class implements
+     * @param <T> type of the interface
+     * @return the new instance
+     */
+    static <T> T load(String className, Class<T> type)
+    {
+        try
+        {
+            return type.cast(Class.forName(className).getDeclaredConstructor().newInstance());
+        }
+        catch (ReflectiveOperationException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Makes a new instance of a wrapper class whose constructor takes
+     *  a single string, usually a JMH parameter
+     * @param className name of the default-package class
+     * @param type interface the class implements
+     * @param arg value passed to the constructor
+     * @param <T> type of the interface
+     * @return the new instance
+     */
+    static <T> T load(String className, Class<T> type, String arg)
+    {
+        try
+        {
+            return type.cast(Class.forName(className)
+                .getDeclaredConstructor(String.class).newInstance(arg));
+        }
+        catch (ReflectiveOperationException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+}